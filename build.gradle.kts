@@ -9,6 +9,9 @@ plugins {
 
     id("me.modmuss50.mod-publish-plugin")
     `maven-publish`
+
+    // benchmarks in src/jmh, run with `./gradlew jmh`
+    id("me.champeau.jmh")
 }
 
 // version stuff
@@ -205,6 +208,9 @@ dependencies {
 
     // simple-voice-chat compat
     modDependency("simpleVoiceChat", { "maven.modrinth:simple-voice-chat:$it" })
+
+    testImplementation("org.junit.jupiter:junit-jupiter:${property("deps.junit")}")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
 tasks {
@@ -270,6 +276,10 @@ tasks {
         }
     }
 
+    test {
+        useJUnitPlatform()
+    }
+
     register("releaseModVersion") {
         group = "mod"
 
@@ -303,6 +313,10 @@ tasks.remapJar {
     }
 }
 
+jmh {
+    jmhVersion.set("1.37")
+}
+
 java {
     withSourcesJar()
 
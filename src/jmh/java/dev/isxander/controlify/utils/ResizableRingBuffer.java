@@ -2,6 +2,10 @@ package dev.isxander.controlify.utils;
 
 import java.util.function.Supplier;
 
+/**
+ * The boxed ring buffer that binding history used before {@link FloatRingBuffer},
+ * kept unchanged as the baseline for {@link RingBufferBenchmark}.
+ */
 public class ResizableRingBuffer<T> {
     private T[] elements;
 
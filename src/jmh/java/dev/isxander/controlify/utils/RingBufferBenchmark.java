@@ -0,0 +1,80 @@
+package dev.isxander.controlify.utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link FloatRingBuffer} against the boxed {@link ResizableRingBuffer} it replaced,
+ * for the access pattern of an input binding: one push per tick, then reads back through the history.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RingBufferBenchmark {
+    @Param({"2", "4", "8", "16", "32", "64"})
+    public int historySize;
+
+    private ResizableRingBuffer<Float> boxed;
+    private FloatRingBuffer primitive;
+    private float[] samples;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        boxed = new ResizableRingBuffer<>(historySize, () -> 0f);
+        primitive = new FloatRingBuffer(historySize);
+
+        samples = new float[1024];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = ThreadLocalRandom.current().nextFloat();
+        }
+        for (int i = 0; i < historySize; i++) {
+            boxed.push(samples[i]);
+            primitive.push(samples[i]);
+        }
+    }
+
+    private float nextSample() {
+        cursor = (cursor + 1) & (samples.length - 1);
+        return samples[cursor];
+    }
+
+    @Benchmark
+    public float boxedPushAndReadHistory() {
+        boxed.push(nextSample());
+
+        float sum = 0;
+        for (int i = 0; i < historySize; i++) {
+            sum += boxed.tail(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public float primitivePushAndReadHistory() {
+        primitive.push(nextSample());
+
+        float sum = 0;
+        for (int i = 0; i < historySize; i++) {
+            sum += primitive.tail(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public float boxedPushAndReadLatest() {
+        boxed.push(nextSample());
+        return boxed.tail() + boxed.tail(1);
+    }
+
+    @Benchmark
+    public float primitivePushAndReadLatest() {
+        primitive.push(nextSample());
+        return primitive.tail() + primitive.tail(1);
+    }
+}
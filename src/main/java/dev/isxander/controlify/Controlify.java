@@ -3,6 +3,7 @@ package dev.isxander.controlify;
 import com.mojang.blaze3d.Blaze3D;
 import dev.isxander.controlify.api.ControlifyApi;
 import dev.isxander.controlify.bindings.BindContext;
+import dev.isxander.controlify.bindings.BindContextTracker;
 import dev.isxander.controlify.bindings.ControlifyBindApiImpl;
 import dev.isxander.controlify.bindings.ControlifyBindings;
 import dev.isxander.controlify.bindings.defaults.DefaultBindManager;
@@ -10,7 +11,9 @@ import dev.isxander.controlify.compatibility.ControlifyCompat;
 import dev.isxander.controlify.config.GlobalSettings;
 import dev.isxander.controlify.controller.*;
 import dev.isxander.controlify.controller.id.ControllerTypeManager;
+import dev.isxander.controlify.controller.input.mapping.ControllerMappingStorage;
 import dev.isxander.controlify.controller.input.ControllerState;
+import dev.isxander.controlify.controller.input.ControllerInputIndex;
 import dev.isxander.controlify.controller.input.ControllerStateView;
 import dev.isxander.controlify.controller.input.HatState;
 import dev.isxander.controlify.controller.input.InputComponent;
@@ -50,7 +53,6 @@ import org.lwjgl.glfw.GLFW;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
 
 import static dev.isxander.controlify.utils.ControllerUtils.wrapControllerError;
 
@@ -65,6 +67,7 @@ public class Controlify implements ControlifyApi {
     private boolean probeMode = false;
 
     private ControllerEntity currentController = null;
+    private @Nullable ControlifyEvents.ControllerStateUpdate activeControllerTickedEvent = null;
     private InputMode currentInputMode = InputMode.KEYBOARD_MOUSE;
 
     private InGameInputHandler inGameInputHandler;
@@ -73,7 +76,8 @@ public class Controlify implements ControlifyApi {
     private InputFontMapper inputFontMapper;
     private DefaultBindManager defaultBindManager;
     private ControllerTypeManager controllerTypeManager;
-    private Set<BindContext> thisTickContexts;
+    private ControllerMappingStorage controllerMappingStorage;
+    private final BindContextTracker bindContexts = new BindContextTracker();
 
     private ControllerHIDService controllerHIDService;
 
@@ -108,9 +112,11 @@ public class Controlify implements ControlifyApi {
         this.inputFontMapper = new InputFontMapper();
         this.defaultBindManager = new DefaultBindManager();
         this.controllerTypeManager = new ControllerTypeManager();
+        this.controllerMappingStorage = new ControllerMappingStorage();
         PlatformClientUtil.registerAssetReloadListener(inputFontMapper);
         PlatformClientUtil.registerAssetReloadListener(defaultBindManager);
         PlatformClientUtil.registerAssetReloadListener(controllerTypeManager);
+        PlatformClientUtil.registerAssetReloadListener(controllerMappingStorage);
 
         controllerHIDService = new ControllerHIDService();
         controllerHIDService.start();
@@ -127,6 +133,12 @@ public class Controlify implements ControlifyApi {
                         rumble.rumbleManager().play(packet.source(), packet.createEffect()));
             }
         });
+        SidedNetworkApi.S2C().<KeyframeVibrationPacket>listenForPacket(KeyframeVibrationPacket.CHANNEL, packet -> {
+            if (config().globalSettings().allowServerRumble) {
+                getCurrentController().flatMap(ControllerEntity::rumble).ifPresent(rumble ->
+                        rumble.rumbleManager().play(packet.source(), packet.createEffect()));
+            }
+        });
         SidedNetworkApi.S2C().<OriginVibrationPacket>listenForPacket(OriginVibrationPacket.CHANNEL, packet -> {
             if (config().globalSettings().allowServerRumble) {
                 getCurrentController().flatMap(ControllerEntity::rumble).ifPresent(rumble ->
@@ -216,6 +228,8 @@ public class Controlify implements ControlifyApi {
         }
 
         // register events
+        // saves are requested from settings screens even without a controller manager, so drain them every tick regardless
+        PlatformClientUtil.registerClientTickEnded(client -> this.config().tick());
         PlatformClientUtil.registerClientStopping(client -> this.controllerHIDService().stop());
     }
 
@@ -485,9 +499,7 @@ public class Controlify implements ControlifyApi {
 
         boolean outOfFocus = !config().globalSettings().outOfFocusInput && !client.isWindowActive();
 
-        this.thisTickContexts = BindContext.REGISTRY.stream()
-                .filter(ctx -> ctx.isApplicable().apply(minecraft))
-                .collect(Collectors.toUnmodifiableSet());
+        this.bindContexts.update(minecraft, virtualMouseHandler().isVirtualMouseEnabled());
 
         // handles updating state of all controllers
         controllerManager.tick(outOfFocus);
@@ -517,6 +529,17 @@ public class Controlify implements ControlifyApi {
         });
     }
 
+    /**
+     * Outputs the current controller's vibration. Called every frame, as the output rate is independent of the tick rate.
+     *
+     * @param partialTick how far between the previous and current tick the frame is
+     */
+    public void updateRumble(float partialTick) {
+        getCurrentController()
+                .flatMap(ControllerEntity::rumble)
+                .ifPresent(rumble -> rumble.rumbleManager().update(partialTick));
+    }
+
     /**
      * Ticks a specific controller.
      *
@@ -535,9 +558,7 @@ public class Controlify implements ControlifyApi {
             rumbleManager.ifPresent(RumbleManager::tick);
         }
 
-        boolean givingInput = state.getButtons().stream().anyMatch(state::isButtonDown)
-                || state.getAxes().stream().map(state::getAxisState).anyMatch(axis -> Math.abs(axis) > 0.1f)
-                || state.getHats().stream().map(state::getHatState).anyMatch(hat -> hat != HatState.CENTERED);
+        boolean givingInput = isGivingInput(state);
         if (givingInput && !this.currentInputMode().isController()) {
             this.setInputMode(input.confObj().mixedInput ? InputMode.MIXED : InputMode.CONTROLLER);
 
@@ -564,10 +585,29 @@ public class Controlify implements ControlifyApi {
                 ScreenProcessorProvider.provide(minecraft.screen).onControllerUpdate(controller);
             }
 
-            ControlifyEvents.ACTIVE_CONTROLLER_TICKED.invoke(new ControlifyEvents.ControllerStateUpdate(controller));
+            if (ControlifyEvents.ACTIVE_CONTROLLER_TICKED.hasListeners()) {
+                if (activeControllerTickedEvent == null || activeControllerTickedEvent.controller() != controller) {
+                    activeControllerTickedEvent = new ControlifyEvents.ControllerStateUpdate(controller);
+                }
+                ControlifyEvents.ACTIVE_CONTROLLER_TICKED.invoke(activeControllerTickedEvent);
+            }
         }
     }
 
+    private static boolean isGivingInput(ControllerStateView state) {
+        ControllerInputIndex index = state.inputIndex();
+        for (int i = 0; i < index.buttonCount(); i++) {
+            if (state.isButtonDown(i)) return true;
+        }
+        for (int i = 0; i < index.axisCount(); i++) {
+            if (Math.abs(state.getAxisState(i)) > 0.1f) return true;
+        }
+        for (int i = 0; i < index.hatCount(); i++) {
+            if (state.getHatState(i) != HatState.CENTERED) return true;
+        }
+        return false;
+    }
+
     private void probeTick() {
         if (probeMode) {
             if (GLFWControllerManager.areControllersConnected()) {
@@ -722,8 +762,19 @@ public class Controlify implements ControlifyApi {
         return controllerTypeManager;
     }
 
+    public ControllerMappingStorage controllerMappingStorage() {
+        return controllerMappingStorage;
+    }
+
     public Set<BindContext> thisTickBindContexts() {
-        return this.thisTickContexts;
+        return this.bindContexts.contexts();
+    }
+
+    /**
+     * @return the contexts applicable this tick, as a mask of {@link BindContext#REGISTRY} ids
+     */
+    public BitSet thisTickBindContextMask() {
+        return this.bindContexts.mask();
     }
 
     public void notifyNewServer(ServerData data) {
@@ -105,6 +105,16 @@ public interface InputBinding {
      */
     Input boundInput();
 
+    /**
+     * Whether this binding currently passes the state of {@link #boundInput()} through unchanged:
+     * it was not suppressed by its contexts on the last push, and is not in the middle of a {@link #fakePress()}.
+     * Only then can the bound input be read directly in place of this binding's outputs.
+     *
+     * @return true if the bound input currently drives this binding as-is
+     */
+    @ApiStatus.Internal
+    boolean isActive();
+
     /**
      * Get the default input for this binding.
      * This can change if the user reloads resources and the default changes
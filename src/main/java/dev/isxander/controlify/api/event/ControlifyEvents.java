@@ -7,19 +7,20 @@ import dev.isxander.controlify.controller.ControllerEntity;
 import dev.isxander.controlify.platform.EventHandler;
 
 public final class ControlifyEvents {
-    public static final EventHandler<ControllerConnected> CONTROLLER_CONNECTED = EventHandler.createPlatformBackedEvent();
+    public static final EventHandler<ControllerConnected> CONTROLLER_CONNECTED = EventHandler.createPlatformBackedEvent("controller_connected");
 
-    public static final EventHandler<ControllerDisconnected> CONTROLLER_DISCONNECTED = EventHandler.createPlatformBackedEvent();
+    public static final EventHandler<ControllerDisconnected> CONTROLLER_DISCONNECTED = EventHandler.createPlatformBackedEvent("controller_disconnected");
 
     /**
      * Triggers when the input mode is changed from keyboard to controller or vice versa.
      */
-    public static final EventHandler<InputModeChanged> INPUT_MODE_CHANGED = EventHandler.createPlatformBackedEvent();
+    public static final EventHandler<InputModeChanged> INPUT_MODE_CHANGED = EventHandler.createPlatformBackedEvent("input_mode_changed");
 
     /**
      * Triggers every tick when the current controller state has been updated.
+     * The event object may be reused between ticks, so should not be held onto.
      */
-    public static final EventHandler<ControllerStateUpdate> ACTIVE_CONTROLLER_TICKED = EventHandler.createPlatformBackedEvent();
+    public static final EventHandler<ControllerStateUpdate> ACTIVE_CONTROLLER_TICKED = EventHandler.createPlatformBackedEvent("active_controller_ticked");
 
     /**
      * @deprecated Use {@link #ACTIVE_CONTROLLER_TICKED} instead.
@@ -29,24 +30,26 @@ public final class ControlifyEvents {
 
     /**
      * Triggers every tick when any connected controller's state has been updated before the active controller is ticked.
+     * The event object may be reused between ticks, so should not be held onto.
      */
-    public static final EventHandler<ControllerStateUpdate> CONTROLLER_STATE_UPDATE = EventHandler.createPlatformBackedEvent();
+    public static final EventHandler<ControllerStateUpdate> CONTROLLER_STATE_UPDATE = EventHandler.createPlatformBackedEvent("controller_state_update");
 
     /**
      * Triggers when the button guide entries are being populated, so you can add more of your own.
      */
-    public static final EventHandler<IngameGuideRegistryEvent> INGAME_GUIDE_REGISTRY = EventHandler.createPlatformBackedEvent();
+    public static final EventHandler<IngameGuideRegistryEvent> INGAME_GUIDE_REGISTRY = EventHandler.createPlatformBackedEvent("ingame_guide_registry");
 
     /**
      * Triggers in a GUI when the virtual mouse is toggled on or off.
      */
-    public static final EventHandler<VirtualMouseToggled> VIRTUAL_MOUSE_TOGGLED = EventHandler.createPlatformBackedEvent();
+    public static final EventHandler<VirtualMouseToggled> VIRTUAL_MOUSE_TOGGLED = EventHandler.createPlatformBackedEvent("virtual_mouse_toggled");
 
     /**
      * Allows you to modify the look input before it is applied to the player.
      * These modifiers are called before the look input is multiplied by the sensitivity.
+     * The event object and its vector are reused between ticks, so should not be held onto.
      */
-    public static final EventHandler<LookInputModifier> LOOK_INPUT_MODIFIER = EventHandler.createPlatformBackedEvent();
+    public static final EventHandler<LookInputModifier> LOOK_INPUT_MODIFIER = EventHandler.createPlatformBackedEvent("look_input_modifier");
 
     public record ControllerConnected(ControllerEntity controller, boolean hotplugged, boolean newController) {
     }
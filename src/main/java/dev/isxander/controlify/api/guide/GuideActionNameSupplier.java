@@ -1,16 +1,44 @@
 package dev.isxander.controlify.api.guide;
 
+import dev.isxander.controlify.gui.guide.KeyedGuideActionNameSupplier;
 import net.minecraft.network.chat.Component;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * Supplies the text to display for a guide action based on the current id.
  * If return is empty, the action will not be displayed.
  * <p>
- * This is supplied once every tick.
+ * This is supplied once every tick. Use {@link #keyed(Function, GuideActionNameSupplier)}
+ * or {@link #translated(Function)} to only evaluate the name when what it depends on changes.
  */
 @FunctionalInterface
 public interface GuideActionNameSupplier<T> {
     Optional<Component> supply(T ctx);
+
+    /**
+     * Creates a supplier that is only evaluated when its invalidation key changes.
+     * The key should be cheap to compute and compare, such as a few flags of player state
+     * packed into an int, the held item or the hit result type.
+     * <p>
+     * The name is assumed to only depend on the key, so the name supplied for each key
+     * is kept and handed out again whenever the key returns to that value.
+     *
+     * @param invalidationKey computes the key every tick, compared with {@link Object#equals(Object)}
+     * @param supplier supplies the name when the key changes
+     */
+    static <T> GuideActionNameSupplier<T> keyed(Function<T, ?> invalidationKey, GuideActionNameSupplier<T> supplier) {
+        return new KeyedGuideActionNameSupplier<>(invalidationKey, supplier);
+    }
+
+    /**
+     * Creates a supplier that displays a translation, only creating one component per translation key.
+     *
+     * @param translationKey computes the translation key to display every tick, or null to hide the action
+     */
+    static <T> GuideActionNameSupplier<T> translated(Function<T, @Nullable String> translationKey) {
+        return keyed(translationKey, ctx -> Optional.ofNullable(translationKey.apply(ctx)).map(Component::translatable));
+    }
 }
@@ -13,6 +13,8 @@ import net.minecraft.core.Registry;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 
+import java.util.HashSet;
+import java.util.Set;
 import java.util.function.Function;
 
 public record BindContext(ResourceLocation id, Function<Minecraft, Boolean> isApplicable) {
@@ -20,6 +22,8 @@ public record BindContext(ResourceLocation id, Function<Minecraft, Boolean> isAp
             ResourceKey.createRegistryKey(CUtil.rl("bind_context")),
             Lifecycle.stable()
     );
+    // must be declared before any context is registered
+    private static final Set<ResourceLocation> BUILT_IN = new HashSet<>();
 
     public static final BindContext UNKNOWN = register(
             "unknown",
@@ -66,9 +70,18 @@ public record BindContext(ResourceLocation id, Function<Minecraft, Boolean> isAp
             mc -> mc.screen instanceof RadialMenuScreen
     );
 
+    /**
+     * @return whether this is one of Controlify's own contexts, which are known to only depend on
+     *         the current screen, level, player and virtual mouse state
+     */
+    public boolean isBuiltIn() {
+        return BUILT_IN.contains(this.id);
+    }
+
     private static BindContext register(String path, Function<Minecraft, Boolean> predicate) {
         var context = new BindContext(CUtil.rl(path), predicate);
         Registry.register(REGISTRY, context.id(), context);
+        BUILT_IN.add(context.id());
         return context;
     }
 }
@@ -0,0 +1,105 @@
+package dev.isxander.controlify.bindings;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.screens.Screen;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.client.player.LocalPlayer;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Tracks which {@link BindContext}s are applicable, as a mask of {@link BindContext#REGISTRY} ids.
+ * <p>
+ * Registry ids are dense, so the mask is a compact {@link BitSet} and checking whether a binding
+ * is suppressed is a single intersection. Built-in contexts only depend on the screen, level, player
+ * and whether the virtual mouse is enabled, so they are only re-evaluated when one of those changes.
+ * Contexts registered through the API have unknown dependencies, so they are still evaluated every update.
+ */
+public final class BindContextTracker {
+    private final BitSet active = new BitSet();
+    private @Nullable Set<BindContext> activeSet;
+
+    private BindContext[] contexts = new BindContext[0];
+    private int[] alwaysEvaluated = new int[0];
+
+    private @Nullable Screen lastScreen;
+    private @Nullable ClientLevel lastLevel;
+    private @Nullable LocalPlayer lastPlayer;
+    private boolean lastVirtualMouse;
+    private boolean dirty = true;
+
+    public void update(Minecraft minecraft, boolean virtualMouseEnabled) {
+        if (this.contexts.length != BindContext.REGISTRY.size()) {
+            this.rebuildContexts();
+        }
+
+        boolean changed = this.dirty
+                || minecraft.screen != this.lastScreen
+                || minecraft.level != this.lastLevel
+                || minecraft.player != this.lastPlayer
+                || virtualMouseEnabled != this.lastVirtualMouse;
+
+        if (changed) {
+            this.active.clear();
+            for (int id = 0; id < this.contexts.length; id++) {
+                if (this.contexts[id].isApplicable().apply(minecraft)) {
+                    this.active.set(id);
+                }
+            }
+            this.activeSet = null;
+
+            this.lastScreen = minecraft.screen;
+            this.lastLevel = minecraft.level;
+            this.lastPlayer = minecraft.player;
+            this.lastVirtualMouse = virtualMouseEnabled;
+            this.dirty = false;
+        } else {
+            for (int id : this.alwaysEvaluated) {
+                boolean applicable = this.contexts[id].isApplicable().apply(minecraft);
+                if (applicable != this.active.get(id)) {
+                    this.active.set(id, applicable);
+                    this.activeSet = null;
+                }
+            }
+        }
+    }
+
+    public BitSet mask() {
+        return this.active;
+    }
+
+    public Set<BindContext> contexts() {
+        if (this.activeSet == null) {
+            Set<BindContext> set = new HashSet<>();
+            for (int id = this.active.nextSetBit(0); id >= 0; id = this.active.nextSetBit(id + 1)) {
+                set.add(this.contexts[id]);
+            }
+            this.activeSet = Collections.unmodifiableSet(set);
+        }
+        return this.activeSet;
+    }
+
+    private void rebuildContexts() {
+        int size = BindContext.REGISTRY.size();
+        BindContext[] contexts = new BindContext[size];
+        int[] alwaysEvaluated = new int[size];
+        int alwaysEvaluatedCount = 0;
+
+        for (BindContext context : BindContext.REGISTRY) {
+            int id = BindContext.REGISTRY.getId(context);
+            contexts[id] = context;
+            if (!context.isBuiltIn()) {
+                alwaysEvaluated[alwaysEvaluatedCount++] = id;
+            }
+        }
+
+        this.contexts = contexts;
+        this.alwaysEvaluated = Arrays.copyOf(alwaysEvaluated, alwaysEvaluatedCount);
+        this.dirty = true;
+    }
+}
@@ -0,0 +1,114 @@
+package dev.isxander.controlify.bindings;
+
+import dev.isxander.controlify.Controlify;
+import dev.isxander.controlify.api.bind.InputBinding;
+import dev.isxander.controlify.bindings.input.ResolvedInput;
+import dev.isxander.controlify.controller.input.ControllerInputIndex;
+import dev.isxander.controlify.controller.input.ControllerStateView;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Evaluates every binding of a controller in a single pass.
+ * <p>
+ * Bindings are compiled ahead of time: each bound input is resolved against the state's
+ * {@link ControllerInputIndex} and each binding's contexts are turned into a mask of
+ * {@link BindContext#REGISTRY} ids, so a tick is one loop over flat arrays with no
+ * map lookups or streams. The compiled form is only rebuilt when a binding is rebound,
+ * the state's layout changes (i.e. the mapping changed) or a new context is registered.
+ */
+public final class BindingEvaluator {
+    private final Collection<InputBinding> bindings;
+
+    private InputBindingImpl[] compiledBindings = new InputBindingImpl[0];
+    private ResolvedInput[] compiledInputs = new ResolvedInput[0];
+    private BitSet[] compiledContexts = new BitSet[0]; // null where the binding has no contexts
+    private InputBinding[] uncompiledBindings = new InputBinding[0];
+
+    private @Nullable ControllerInputIndex compiledIndex;
+    private int compiledContextCount = -1;
+    private boolean dirty = true;
+
+    /**
+     * @param bindings a live view of the bindings to evaluate, only read when compiling
+     */
+    public BindingEvaluator(Collection<InputBinding> bindings) {
+        this.bindings = bindings;
+    }
+
+    /**
+     * Marks the compiled bindings as stale, so they are rebuilt on the next evaluation.
+     */
+    public void invalidate() {
+        this.dirty = true;
+    }
+
+    /**
+     * @param activationThreshold the analogue value above which a binding is considered digitally pressed
+     */
+    public void evaluate(ControllerStateView state, float activationThreshold) {
+        ControllerInputIndex index = state.inputIndex();
+        if (this.dirty || this.compiledIndex != index || this.compiledContextCount != BindContext.REGISTRY.size()) {
+            this.compile(index);
+        }
+
+        BitSet activeContexts = Controlify.instance().thisTickBindContextMask();
+
+        InputBindingImpl[] bindings = this.compiledBindings;
+        ResolvedInput[] inputs = this.compiledInputs;
+        BitSet[] contexts = this.compiledContexts;
+        for (int i = 0; i < bindings.length; i++) {
+            BitSet bindingContexts = contexts[i];
+            boolean suppressed = bindingContexts != null && !bindingContexts.intersects(activeContexts);
+
+            bindings[i].acceptState(inputs[i].state(state), suppressed, activationThreshold);
+        }
+
+        // third-party implementations can't be compiled, so they evaluate themselves
+        for (InputBinding binding : this.uncompiledBindings) {
+            binding.pushState(state);
+        }
+    }
+
+    private void compile(ControllerInputIndex index) {
+        List<InputBindingImpl> compiled = new ArrayList<>(this.bindings.size());
+        List<InputBinding> uncompiled = new ArrayList<>();
+        for (InputBinding binding : this.bindings) {
+            if (binding instanceof InputBindingImpl impl) {
+                compiled.add(impl);
+            } else {
+                uncompiled.add(binding);
+            }
+        }
+
+        int count = compiled.size();
+        InputBindingImpl[] compiledBindings = compiled.toArray(new InputBindingImpl[0]);
+        ResolvedInput[] compiledInputs = new ResolvedInput[count];
+        BitSet[] compiledContexts = new BitSet[count];
+
+        for (int i = 0; i < count; i++) {
+            InputBindingImpl binding = compiledBindings[i];
+            compiledInputs[i] = binding.boundInput().resolve(index);
+
+            if (!binding.contexts().isEmpty()) {
+                BitSet mask = new BitSet();
+                for (BindContext context : binding.contexts()) {
+                    mask.set(BindContext.REGISTRY.getId(context));
+                }
+                compiledContexts[i] = mask;
+            }
+        }
+
+        this.compiledBindings = compiledBindings;
+        this.compiledInputs = compiledInputs;
+        this.compiledContexts = compiledContexts;
+        this.uncompiledBindings = uncompiled.toArray(new InputBinding[0]);
+        this.compiledIndex = index;
+        this.compiledContextCount = BindContext.REGISTRY.size();
+        this.dirty = false;
+    }
+}
@@ -3,10 +3,14 @@ package dev.isxander.controlify.bindings;
 import dev.isxander.controlify.Controlify;
 import dev.isxander.controlify.api.bind.InputBinding;
 import dev.isxander.controlify.bindings.input.Input;
+import dev.isxander.controlify.bindings.input.ResolvedInput;
 import dev.isxander.controlify.bindings.output.*;
 import dev.isxander.controlify.controller.ControllerEntity;
+import dev.isxander.controlify.controller.input.ControllerInputIndex;
 import dev.isxander.controlify.controller.input.ControllerStateView;
-import dev.isxander.controlify.utils.ResizableRingBuffer;
+import dev.isxander.controlify.controller.input.InputComponent;
+import dev.isxander.controlify.font.InputFontMapper;
+import dev.isxander.controlify.utils.FloatRingBuffer;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import org.jetbrains.annotations.Nullable;
@@ -20,12 +24,20 @@ public class InputBindingImpl implements InputBinding {
     private final ResourceLocation id;
     private final Component name, description, category;
     private Input boundInput;
+    private @Nullable ResolvedInput resolvedInput;
+    private @Nullable ControllerInputIndex resolvedIndex;
     private final Supplier<Input> defaultBindSupplier;
     private final Set<BindContext> contexts;
     private final @Nullable ResourceLocation radialIcon;
+    private @Nullable Component inputIcon;
+    private int inputIconGeneration;
 
-    private final ResizableRingBuffer<Float> stateHistory;
+    private final FloatRingBuffer stateHistory;
+    /** Bit {@code n} is whether the state {@code n} pushes ago was above {@link #digitalThreshold}. */
+    private long digitalHistory;
+    private float digitalThreshold = Float.NaN;
     private final Set<StateAccessImpl> borrowedAccesses;
+    private final List<StateAccessImpl> pushListeners;
 
     private boolean suppressed;
 
@@ -58,12 +70,13 @@ public class InputBindingImpl implements InputBinding {
         this.name = name;
         this.description = description;
         this.category = category;
-        this.stateHistory = new ResizableRingBuffer<>(2, () -> 0f);
+        this.stateHistory = new FloatRingBuffer(2);
         this.boundInput = defaultBindSupplier.get();
         this.defaultBindSupplier = defaultBindSupplier;
         this.contexts = contexts;
         this.radialIcon = radialIcon;
         this.borrowedAccesses = new HashSet<>();
+        this.pushListeners = new ArrayList<>();
 
         this.digitalOutputs = new HashMap<>();
         this.analogueOutputs = new HashMap<>();
@@ -100,10 +113,15 @@ public class InputBindingImpl implements InputBinding {
 
     @Override
     public Component inputIcon() {
-        return Controlify.instance().inputFontMapper().getComponentFromInputs(
-                controller.info().type().namespace(),
-                boundInput.getRelevantInputs()
-        );
+        InputFontMapper fontMapper = Controlify.instance().inputFontMapper();
+        if (inputIcon == null || inputIconGeneration != fontMapper.generation()) {
+            inputIconGeneration = fontMapper.generation();
+            inputIcon = fontMapper.getComponentFromInputs(
+                    controller.info().type().namespace(),
+                    boundInput.getRelevantInputs()
+            );
+        }
+        return inputIcon;
     }
 
     @Override
@@ -115,10 +133,14 @@ public class InputBindingImpl implements InputBinding {
     public StateAccess createStateAccess(int historyRequired, Consumer<StateAccess> pushEvent) {
         if (historyRequired > this.stateHistory.size()) {
             this.stateHistory.setSize(historyRequired);
+            this.rebuildDigitalHistory(this.digitalThreshold);
         }
 
         StateAccessImpl access = new StateAccessImpl(historyRequired, pushEvent);
         borrowedAccesses.add(access);
+        if (pushEvent != null) {
+            pushListeners.add(access);
+        }
 
         return access;
     }
@@ -127,27 +149,45 @@ public class InputBindingImpl implements InputBinding {
     public void returnStateAccess(StateAccess stateAccess) {
         if (stateAccess instanceof StateAccessImpl accessImpl) {
             boolean removed = this.borrowedAccesses.remove(accessImpl);
+            this.pushListeners.remove(accessImpl);
             accessImpl.retire();
 
             if (removed) {
                 OptionalInt newMaxSize = this.borrowedAccesses.stream().mapToInt(StateAccessImpl::maxHistory).max();
-                newMaxSize.ifPresent(this.stateHistory::setSize);
+                newMaxSize.ifPresent(size -> {
+                    this.stateHistory.setSize(size);
+                    this.rebuildDigitalHistory(this.digitalThreshold);
+                });
             }
         } else {
             throw new IllegalStateException("Unknown implementation of state access");
         }
     }
 
+    /**
+     * Evaluates this binding on its own. Controllers evaluate all of their bindings at once
+     * through a {@link BindingEvaluator}, which calls {@link #acceptState(float, boolean)} directly.
+     */
     @Override
     public void pushState(ControllerStateView state) {
+        boolean suppressed = false;
         if (!this.contexts.isEmpty()) {
             Set<BindContext> thisTickContexts = Controlify.instance().thisTickBindContexts();
-            this.suppressed = this.contexts.stream().noneMatch(thisTickContexts::contains);
-        } else {
-            this.suppressed = false;
+            suppressed = this.contexts.stream().noneMatch(thisTickContexts::contains);
         }
 
-        float analogue = this.boundInput.state(state);
+        ControllerInputIndex index = state.inputIndex();
+        if (this.resolvedInput == null || this.resolvedIndex != index) {
+            this.resolvedInput = this.boundInput.resolve(index);
+            this.resolvedIndex = index;
+        }
+
+        float threshold = this.controller.input().orElseThrow().confObj().buttonActivationThreshold;
+        this.acceptState(this.resolvedInput.state(state), suppressed, threshold);
+    }
+
+    void acceptState(float analogue, boolean suppressed, float activationThreshold) {
+        this.suppressed = suppressed;
 
         switch (fakePressState) {
             case 0 -> analogue = 0;
@@ -162,7 +202,34 @@ public class InputBindingImpl implements InputBinding {
         }
 
         this.stateHistory.push(analogue);
-        borrowedAccesses.forEach(StateAccessImpl::onPush);
+        if (activationThreshold != this.digitalThreshold) {
+            this.rebuildDigitalHistory(activationThreshold);
+        } else {
+            this.digitalHistory = (this.digitalHistory << 1) | (analogue > activationThreshold ? 1 : 0);
+        }
+
+        for (int i = 0; i < this.pushListeners.size(); i++) {
+            this.pushListeners.get(i).onPush();
+        }
+    }
+
+    private void rebuildDigitalHistory(float activationThreshold) {
+        long bits = 0;
+        int length = Math.min(this.stateHistory.size(), Long.SIZE);
+        for (int i = 0; i < length; i++) {
+            if (this.stateHistory.tail(i) > activationThreshold) {
+                bits |= 1L << i;
+            }
+        }
+
+        this.digitalHistory = bits;
+        this.digitalThreshold = activationThreshold;
+    }
+
+    private boolean digital(int history) {
+        if (history < Long.SIZE)
+            return (this.digitalHistory >>> history & 1) != 0;
+        return this.stateHistory.tail(history) > this.digitalThreshold;
     }
 
     @Override
@@ -170,9 +237,20 @@ public class InputBindingImpl implements InputBinding {
         fakePressState = 0;
     }
 
+    @Override
+    public boolean isActive() {
+        return !suppressed && fakePressState < 0;
+    }
+
     @Override
     public void setBoundInput(Input input) {
         this.boundInput = input;
+        this.resolvedInput = null;
+        this.inputIcon = null;
+        this.controller.input().ifPresent(inputComponent -> {
+            inputComponent.invalidateBindings();
+            inputComponent.config().markDirty();
+        });
         Controlify.instance().config().setDirty();
     }
 
@@ -279,7 +357,10 @@ public class InputBindingImpl implements InputBinding {
 
         @Override
         public boolean digital(int history) {
-            return analogue(history) > controller.input().orElseThrow().confObj().buttonActivationThreshold;
+            if (!valid) throw new IllegalStateException("Tried to access state from returned access!");
+            if (history > maxHistory) throw new IllegalStateException("Overflowing history!");
+
+            return InputBindingImpl.this.digital(history);
         }
 
         @Override
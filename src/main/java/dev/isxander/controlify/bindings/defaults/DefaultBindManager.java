@@ -2,18 +2,20 @@ package dev.isxander.controlify.bindings.defaults;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
-import com.mojang.datafixers.util.Pair;
 import com.mojang.logging.LogUtils;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.JsonOps;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import dev.isxander.controlify.Controlify;
+import dev.isxander.controlify.api.bind.ControlifyBindApi;
 import dev.isxander.controlify.api.bind.InputBinding;
 import dev.isxander.controlify.controller.ControllerEntity;
 import dev.isxander.controlify.controller.id.ControllerType;
 import dev.isxander.controlify.controllermanager.ControllerManager;
+import dev.isxander.controlify.platform.client.resource.ReloadCache;
 import dev.isxander.controlify.platform.client.resource.SimpleControlifyReloadListener;
 import dev.isxander.controlify.utils.CUtil;
+import net.minecraft.Util;
 import net.minecraft.resources.FileToIdConverter;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.packs.resources.Resource;
@@ -22,11 +24,10 @@ import net.minecraft.util.profiling.ProfilerFiller;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
-import java.io.BufferedReader;
-import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 public class DefaultBindManager implements SimpleControlifyReloadListener<DefaultBindManager.Preparations> {
 
@@ -36,66 +37,100 @@ public class DefaultBindManager implements SimpleControlifyReloadListener<Defaul
     private static final Logger LOGGER = LogUtils.getLogger();
 
     private final Map<ResourceLocation, DefaultBindProvider> defaultsByNamespace = new HashMap<>();
+    private final ReloadCache<ControllerDefault> defaultsCache = new ReloadCache<>(getReloadId());
+    private @Nullable Set<ResourceLocation> cachedBindIds;
 
     @Override
     public CompletableFuture<@Nullable Preparations> load(ResourceManager manager, ProfilerFiller profiler, Executor executor) {
         return CompletableFuture.supplyAsync(() -> {
-            Map<ResourceLocation, List<Resource>> defaultFiles = converter.listMatchingResourceStacks(manager);
-
-            Map<ResourceLocation, DefaultBindProvider> defaultsByNamespace = new HashMap<>();
-
-            ResourceLocation defaultNamespaceFile = converter.idToFile(ControllerType.DEFAULT.namespace());
-            if (!defaultFiles.containsKey(defaultNamespaceFile)) {
-                LOGGER.error("No default binds found! Everything will be unbound!");
-                return null;
+            // the codec only decodes registered binds, so decoded defaults go stale if the registered binds change
+            Set<ResourceLocation> bindIds = ControlifyBindApi.get().getAllBindIds().collect(Collectors.toUnmodifiableSet());
+            if (!bindIds.equals(cachedBindIds)) {
+                defaultsCache.invalidate();
+                cachedBindIds = bindIds;
             }
-            LayeredDefaultBindProvider defaultNamespaceDefaults = new LayeredDefaultBindProvider(
-                    this.readDefaults(
-                            defaultNamespaceFile,
-                            defaultFiles.get(defaultNamespaceFile)
-                    ).getSecond()
-            ); // default namespace for the defaults!
-            defaultsByNamespace.put(ControllerType.DEFAULT.namespace(), defaultNamespaceDefaults);
-
-            for (Map.Entry<ResourceLocation, List<Resource>> stack : defaultFiles.entrySet()) {
-                ResourceLocation id = stack.getKey();
-                List<Resource> files = stack.getValue();
-
-                if (id.equals(defaultNamespaceFile))
-                    continue; // already processed
-
-                Pair<ResourceLocation, List<LayeredDefaultBindProvider.Layer>> defaults = this.readDefaults(id, files);
-                // add the default namespace to the bottom
-                defaults.getSecond().add(
-                        new LayeredDefaultBindProvider.Layer(defaultNamespaceDefaults, false)
-                );
-
-                LayeredDefaultBindProvider defaultBindProvider = new LayeredDefaultBindProvider(defaults.getSecond());
-                defaultsByNamespace.put(defaults.getFirst(), defaultBindProvider);
+            defaultsCache.beginReload();
+            return converter.listMatchingResourceStacks(manager);
+        }, executor).thenCompose(defaultFiles -> {
+            // every file of every stack is parsed in parallel, then layered in stack order
+            List<ResourceLocation> ids = new ArrayList<>(defaultFiles.keySet());
+            List<CompletableFuture<List<ControllerDefault>>> stacks = new ArrayList<>(ids.size());
+            for (ResourceLocation id : ids) {
+                List<CompletableFuture<ControllerDefault>> files = new ArrayList<>();
+                for (Resource resource : defaultFiles.get(id)) {
+                    files.add(CompletableFuture.supplyAsync(() -> readDefault(id, resource), executor));
+                }
+                stacks.add(Util.sequence(files));
             }
 
-            return new Preparations(defaultsByNamespace);
-        }, executor);
+            return Util.sequence(stacks).thenApply(parsedStacks -> {
+                defaultsCache.endReload();
+
+                Map<ResourceLocation, List<ControllerDefault>> parsed = new HashMap<>();
+                for (int i = 0; i < ids.size(); i++) {
+                    parsed.put(ids.get(i), parsedStacks.get(i));
+                }
+                return this.createPreparations(parsed);
+            });
+        });
     }
 
-    private Pair<ResourceLocation, List<LayeredDefaultBindProvider.Layer>> readDefaults(ResourceLocation id, List<Resource> files) {
+    private @Nullable Preparations createPreparations(Map<ResourceLocation, List<ControllerDefault>> defaultFiles) {
+        Map<ResourceLocation, DefaultBindProvider> defaultsByNamespace = new HashMap<>();
+
+        ResourceLocation defaultNamespaceFile = converter.idToFile(ControllerType.DEFAULT.namespace());
+        if (!defaultFiles.containsKey(defaultNamespaceFile)) {
+            LOGGER.error("No default binds found! Everything will be unbound!");
+            return null;
+        }
+        LayeredDefaultBindProvider defaultNamespaceDefaults = new LayeredDefaultBindProvider(
+                this.layerDefaults(defaultFiles.get(defaultNamespaceFile))
+        ); // default namespace for the defaults!
+        defaultsByNamespace.put(ControllerType.DEFAULT.namespace(), defaultNamespaceDefaults);
+
+        for (Map.Entry<ResourceLocation, List<ControllerDefault>> stack : defaultFiles.entrySet()) {
+            ResourceLocation id = stack.getKey();
+
+            if (id.equals(defaultNamespaceFile))
+                continue; // already processed
+
+            List<LayeredDefaultBindProvider.Layer> layers = this.layerDefaults(stack.getValue());
+            // add the default namespace to the bottom
+            layers.add(
+                    new LayeredDefaultBindProvider.Layer(defaultNamespaceDefaults, false)
+            );
+
+            LayeredDefaultBindProvider defaultBindProvider = new LayeredDefaultBindProvider(layers);
+            defaultsByNamespace.put(converter.fileToId(id), defaultBindProvider);
+        }
+
+        return new Preparations(defaultsByNamespace);
+    }
+
+    private List<LayeredDefaultBindProvider.Layer> layerDefaults(List<ControllerDefault> files) {
         List<LayeredDefaultBindProvider.Layer> defaults = new ArrayList<>();
 
-        for (Resource resource : files) {
-            try (BufferedReader reader = resource.openAsReader()) {
-                JsonElement json = JsonParser.parseReader(reader);
-                ControllerDefault def = ControllerDefault.CODEC.parse(JsonOps.INSTANCE, json).result().orElseThrow();
+        for (ControllerDefault def : files) {
+            if (def == null)
+                continue; // failed to parse, already logged
 
-                // add to top takes priority
-                defaults.add(0, new LayeredDefaultBindProvider.Layer(def.provider(), def.clearBelow()));
-            } catch (IOException | IllegalStateException e) {
-                LOGGER.error("Failed to parse {}", id, e);
-            }
+            // add to top takes priority
+            defaults.add(0, new LayeredDefaultBindProvider.Layer(def.provider(), def.clearBelow()));
         }
 
-        ResourceLocation namespace = converter.fileToId(id);
+        return defaults;
+    }
 
-        return Pair.of(namespace, defaults);
+    private @Nullable ControllerDefault readDefault(ResourceLocation id, Resource resource) {
+        try {
+            return defaultsCache.decode(id, resource, reader -> {
+                JsonElement json = JsonParser.parseReader(reader);
+                return ControllerDefault.CODEC.parse(JsonOps.INSTANCE, json).result().orElseThrow();
+            });
+        } catch (Exception e) {
+            LOGGER.error("Failed to parse {}", id, e);
+            return null;
+        }
     }
 
     @Override
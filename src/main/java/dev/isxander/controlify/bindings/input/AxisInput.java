@@ -2,6 +2,7 @@ package dev.isxander.controlify.bindings.input;
 
 import com.mojang.serialization.MapCodec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
+import dev.isxander.controlify.controller.input.ControllerInputIndex;
 import dev.isxander.controlify.controller.input.ControllerStateView;
 import net.minecraft.resources.ResourceLocation;
 
@@ -19,6 +20,12 @@ public record AxisInput(ResourceLocation axis) implements Input {
         return state.getAxisState(axis);
     }
 
+    @Override
+    public ResolvedInput resolve(ControllerInputIndex index) {
+        int handle = index.axis(axis);
+        return state -> state.getAxisState(handle);
+    }
+
     @Override
     public List<ResourceLocation> getRelevantInputs() {
         return List.of(axis);
@@ -2,6 +2,7 @@ package dev.isxander.controlify.bindings.input;
 
 import com.mojang.serialization.MapCodec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
+import dev.isxander.controlify.controller.input.ControllerInputIndex;
 import dev.isxander.controlify.controller.input.ControllerStateView;
 import net.minecraft.resources.ResourceLocation;
 
@@ -19,6 +20,12 @@ public record ButtonInput(ResourceLocation button) implements Input {
         return state.isButtonDown(button) ? 1 : 0;
     }
 
+    @Override
+    public ResolvedInput resolve(ControllerInputIndex index) {
+        int handle = index.button(button);
+        return state -> state.isButtonDown(handle) ? 1 : 0;
+    }
+
     @Override
     public List<ResourceLocation> getRelevantInputs() {
         return List.of(button);
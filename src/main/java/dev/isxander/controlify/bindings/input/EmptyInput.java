@@ -1,6 +1,7 @@
 package dev.isxander.controlify.bindings.input;
 
 import com.mojang.serialization.MapCodec;
+import dev.isxander.controlify.controller.input.ControllerInputIndex;
 import dev.isxander.controlify.controller.input.ControllerStateView;
 import net.minecraft.resources.ResourceLocation;
 
@@ -17,6 +18,11 @@ public record EmptyInput() implements Input {
         return 0;
     }
 
+    @Override
+    public ResolvedInput resolve(ControllerInputIndex index) {
+        return state -> 0;
+    }
+
     @Override
     public List<ResourceLocation> getRelevantInputs() {
         return List.of();
@@ -2,6 +2,7 @@ package dev.isxander.controlify.bindings.input;
 
 import com.mojang.serialization.MapCodec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
+import dev.isxander.controlify.controller.input.ControllerInputIndex;
 import dev.isxander.controlify.controller.input.ControllerStateView;
 import dev.isxander.controlify.controller.input.HatState;
 import net.minecraft.resources.ResourceLocation;
@@ -21,6 +22,12 @@ public record HatInput(ResourceLocation hat, HatState targetState) implements In
         return state.getHatState(hat) == targetState ? 1 : 0;
     }
 
+    @Override
+    public ResolvedInput resolve(ControllerInputIndex index) {
+        int handle = index.hat(hat);
+        return state -> state.getHatState(handle) == targetState ? 1 : 0;
+    }
+
     @Override
     public List<ResourceLocation> getRelevantInputs() {
         return List.of(hat);
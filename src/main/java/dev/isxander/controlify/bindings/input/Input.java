@@ -2,6 +2,7 @@ package dev.isxander.controlify.bindings.input;
 
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.MapCodec;
+import dev.isxander.controlify.controller.input.ControllerInputIndex;
 import dev.isxander.controlify.controller.input.ControllerStateView;
 import net.minecraft.resources.ResourceLocation;
 
@@ -13,6 +14,14 @@ public interface Input {
 
     float state(ControllerStateView state);
 
+    /**
+     * Resolves this input against an index ahead of time.
+     * The returned input must only be used with states that share the same index.
+     */
+    default ResolvedInput resolve(ControllerInputIndex index) {
+        return this::state;
+    }
+
     List<ResourceLocation> getRelevantInputs();
 
     InputType<?> type();
@@ -0,0 +1,13 @@
+package dev.isxander.controlify.bindings.input;
+
+import dev.isxander.controlify.controller.input.ControllerStateView;
+
+/**
+ * An {@link Input} that has had its inputs resolved to handles of a
+ * {@link dev.isxander.controlify.controller.input.ControllerInputIndex},
+ * so reading it from a state indexed the same way performs no lookups.
+ */
+@FunctionalInterface
+public interface ResolvedInput {
+    float state(ControllerStateView state);
+}
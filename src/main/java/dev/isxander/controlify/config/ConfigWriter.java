@@ -0,0 +1,128 @@
+package dev.isxander.controlify.config;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import dev.isxander.controlify.utils.CUtil;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Writes config snapshots to disk on a dedicated thread.
+ * <p>
+ * Only the latest snapshot matters, so if several are submitted while a write is in progress,
+ * all but the newest are dropped. Each write goes to a temporary file which then atomically replaces
+ * the config, so a crash mid-write leaves the previous config intact rather than a truncated one.
+ */
+public final class ConfigWriter {
+    private static final long FLUSH_TIMEOUT_SECONDS = 10;
+
+    private final Path path;
+    private final Path tempPath;
+    private final Gson gson;
+    private final ExecutorService executor;
+    private final AtomicReference<JsonElement> pending = new AtomicReference<>();
+
+    private final long createdNanos = System.nanoTime();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong writes = new AtomicLong();
+    private final AtomicLong bytesWritten = new AtomicLong();
+    private final AtomicLong nanosSpent = new AtomicLong();
+
+    public ConfigWriter(Path path, Gson gson) {
+        this.path = path;
+        this.tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        this.gson = gson;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Controlify Config Writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues a snapshot to be written. The snapshot must not be modified afterwards.
+     */
+    public void submit(JsonElement snapshot) {
+        requests.incrementAndGet();
+
+        // a write is only queued when there wasn't already a snapshot waiting for one
+        if (pending.getAndSet(snapshot) == null) {
+            executor.execute(this::writePending);
+        }
+    }
+
+    /**
+     * Blocks until every submitted snapshot has been written.
+     */
+    public void flush() {
+        try {
+            executor.submit(() -> {}).get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            CUtil.LOGGER.error("Failed to flush Controlify config writes.", e);
+        }
+    }
+
+    public Metrics metrics() {
+        long writes = this.writes.get();
+        double seconds = (System.nanoTime() - createdNanos) / 1e9;
+        return new Metrics(
+                requests.get(),
+                writes,
+                bytesWritten.get(),
+                TimeUnit.NANOSECONDS.toMillis(nanosSpent.get()),
+                seconds > 0 ? writes / seconds : 0
+        );
+    }
+
+    private void writePending() {
+        JsonElement snapshot = pending.getAndSet(null);
+        if (snapshot == null)
+            return;
+
+        long start = System.nanoTime();
+        try {
+            byte[] bytes = gson.toJson(snapshot).getBytes(StandardCharsets.UTF_8);
+
+            try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+
+            try {
+                Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            writes.incrementAndGet();
+            bytesWritten.addAndGet(bytes.length);
+        } catch (IOException e) {
+            CUtil.LOGGER.error("Failed to save Controlify config to file!", e);
+        } finally {
+            nanosSpent.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    public record Metrics(long requests, long writes, long bytesWritten, long millisSpent, double writesPerSecond) {
+    }
+}
@@ -13,10 +13,8 @@ import net.minecraft.resources.ResourceLocation;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -32,8 +30,10 @@ public class ControlifyConfig {
             .create();
 
     private final Controlify controlify;
+    private final ConfigWriter writer = new ConfigWriter(CONFIG_PATH, GSON);
     // responsible citizens will set dirty so the config can only re-save when needed
-    private boolean dirty;
+    private volatile boolean dirty;
+    private boolean saveRequested;
     private boolean firstLaunch;
 
     private String currentControllerUid = null;
@@ -46,7 +46,38 @@ public class ControlifyConfig {
         this.controlify = controlify;
     }
 
+    /**
+     * Requests the config to be saved. The snapshot is taken at the end of the tick,
+     * so any number of saves in one tick only serialize the config once, and the file
+     * itself is written off-thread by the {@link ConfigWriter}.
+     */
     public void save() {
+        saveRequested = true;
+    }
+
+    /**
+     * Takes the snapshot for any save requested this tick.
+     */
+    public void tick() {
+        if (saveRequested) {
+            saveNow();
+        }
+    }
+
+    /**
+     * Saves any pending changes and blocks until they have been written to disk.
+     */
+    public void flush() {
+        tick();
+        writer.flush();
+    }
+
+    public ConfigWriter.Metrics writerMetrics() {
+        return writer.metrics();
+    }
+
+    private void saveNow() {
+        saveRequested = false;
         CUtil.LOGGER.info("Saving Controlify config...");
 
         JsonObject serialObject;
@@ -57,17 +88,8 @@ public class ControlifyConfig {
             return;
         }
 
-        try {
-            Files.deleteIfExists(CONFIG_PATH);
-            Files.writeString(
-                    CONFIG_PATH,
-                    GSON.toJson(serialObject),
-                    StandardOpenOption.CREATE_NEW, StandardOpenOption.TRUNCATE_EXISTING
-            );
-            dirty = false;
-        } catch (IOException e) {
-            throw new IllegalStateException("Failed to save Controlify config to file!", e);
-        }
+        writer.submit(serialObject);
+        dirty = false;
     }
 
     public void saveIfDirty() {
@@ -111,7 +133,7 @@ public class ControlifyConfig {
         { // Controller config
             controlify.getControllerManager().ifPresent(this::updateStoredControllerConfig);
             JsonObject controllersObj = new JsonObject();
-            storedControllerConfig.forEach(controllersObj::add);
+            storedControllerConfig.forEach((uid, controllerObject) -> controllersObj.add(uid, snapshotControllerObject(controllerObject)));
             obj.add("controllers", controllersObj);
         }
 
@@ -145,6 +167,26 @@ public class ControlifyConfig {
         }
     }
 
+    /**
+     * Copies the structure of a stored controller object, sharing the component elements.
+     * The stored objects keep being modified as configs are saved and loaded, but the elements
+     * within them are never modified once serialized, so this is enough for the snapshot to be
+     * safely written off-thread without copying every component.
+     */
+    private static JsonObject snapshotControllerObject(JsonObject controllerObject) {
+        JsonObject snapshot = new JsonObject();
+        controllerObject.asMap().forEach((key, element) -> {
+            if (element instanceof JsonObject object) {
+                JsonObject objectSnapshot = new JsonObject();
+                object.asMap().forEach(objectSnapshot::add);
+                snapshot.add(key, objectSnapshot);
+            } else {
+                snapshot.add(key, element);
+            }
+        });
+        return snapshot;
+    }
+
     private void applyConfig(JsonObject json) {
         try {
             JsonElement primitive = json.get("current_controller");
@@ -187,15 +229,41 @@ public class ControlifyConfig {
 
     public boolean loadControllerConfig(ControllerEntity controller) {
         JsonObject json = storedControllerConfig.get(controller.info().uid());
+        return decodeControllerConfig(controller, json != null ? json.getAsJsonObject("config") : null);
+    }
 
-        if (json == null) {
+    /**
+     * Copies the stored config of a controller, so it can be decoded off-thread by {@link #decodeControllerConfig}.
+     *
+     * @return the copied config, or null if the controller has no stored config
+     */
+    public @Nullable JsonObject copyControllerConfig(String uid) {
+        JsonObject json = storedControllerConfig.get(uid);
+        if (json == null)
+            return null;
+
+        JsonObject copy = new JsonObject();
+        JsonObject innerJson = json.getAsJsonObject("config");
+        if (innerJson != null) {
+            innerJson.asMap().forEach(copy::add);
+        }
+        return copy;
+    }
+
+    /**
+     * Applies a controller's config. This may be called from any thread,
+     * as long as the controller has not been connected yet, so nothing else can access it.
+     *
+     * @param innerJson the controller's config, or null if it has none
+     * @return whether the controller is new, so had no config to load
+     */
+    public boolean decodeControllerConfig(ControllerEntity controller, @Nullable JsonObject innerJson) {
+        if (innerJson == null) {
             CUtil.LOGGER.warn("Controller {} has no config to load. Using defaults.", controller.info().ucid());
             setDirty();
             return true;
         }
 
-        JsonObject innerJson = json.getAsJsonObject("config");
-
         try {
             controller.deserializeFromObject(innerJson, GSON);
         } catch (Exception e) {
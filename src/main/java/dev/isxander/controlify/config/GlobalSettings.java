@@ -31,6 +31,9 @@ public class GlobalSettings {
     public boolean notifyLowBattery = true;
     public boolean quietMode = false;
     public float ingameButtonGuideScale = 1f;
+    public boolean highRateInputPolling = false;
+    public int inputPollingRate = 500;
+    public int rumbleOutputRate = 100;
 
     public Set<String> seenServers = new HashSet<>();
 
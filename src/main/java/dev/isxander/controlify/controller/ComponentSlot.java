@@ -0,0 +1,68 @@
+package dev.isxander.controlify.controller;
+
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A typed handle to a component id, with a dense index assigned the first time the id is seen.
+ * Entities store components in an array by this index, so a component can be accessed
+ * through its slot without hashing its id.
+ *
+ * @param <T> the type of component stored under the id
+ */
+public final class ComponentSlot<T extends ECSComponent> {
+    private static final Map<ResourceLocation, ComponentSlot<?>> SLOTS = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+
+    private final ResourceLocation id;
+    private final int index;
+
+    private ComponentSlot(ResourceLocation id, int index) {
+        this.id = id;
+        this.index = index;
+    }
+
+    /**
+     * @return the slot for the id, assigning it an index if it has none yet
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends ECSComponent> ComponentSlot<T> of(ResourceLocation id) {
+        ComponentSlot<?> slot = SLOTS.get(id);
+        if (slot == null) {
+            slot = SLOTS.computeIfAbsent(id, k -> new ComponentSlot<>(k, NEXT_INDEX.getAndIncrement()));
+        }
+        return (ComponentSlot<T>) slot;
+    }
+
+    /**
+     * @return the slot for the id, or null if no component has ever been stored under it
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends ECSComponent> @Nullable ComponentSlot<T> find(ResourceLocation id) {
+        return (ComponentSlot<T>) SLOTS.get(id);
+    }
+
+    /**
+     * @return the number of slots assigned so far
+     */
+    public static int count() {
+        return NEXT_INDEX.get();
+    }
+
+    public ResourceLocation id() {
+        return this.id;
+    }
+
+    public int index() {
+        return this.index;
+    }
+
+    @Override
+    public String toString() {
+        return "ComponentSlot[" + id + " @ " + index + "]";
+    }
+}
@@ -20,13 +20,29 @@ import dev.isxander.controlify.utils.CUtil;
 import net.minecraft.resources.ResourceLocation;
 import org.apache.commons.lang3.SerializationException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
 public class ControllerEntity extends ECSEntityImpl {
+    private static final ComponentSlot<InputComponent> INPUT = ComponentSlot.of(InputComponent.ID);
+    private static final ComponentSlot<RumbleComponent> RUMBLE = ComponentSlot.of(RumbleComponent.ID);
+    private static final ComponentSlot<TriggerRumbleComponent> TRIGGER_RUMBLE = ComponentSlot.of(TriggerRumbleComponent.ID);
+    private static final ComponentSlot<GyroComponent> GYRO = ComponentSlot.of(GyroComponent.ID);
+    private static final ComponentSlot<TouchpadComponent> TOUCHPAD = ComponentSlot.of(TouchpadComponent.ID);
+    private static final ComponentSlot<BatteryLevelComponent> BATTERY_LEVEL = ComponentSlot.of(BatteryLevelComponent.ID);
+    private static final ComponentSlot<HDHapticComponent> HD_HAPTICS = ComponentSlot.of(HDHapticComponent.ID);
+    private static final ComponentSlot<DualSenseComponent> DUALSENSE = ComponentSlot.of(DualSenseComponent.ID);
+    private static final ComponentSlot<IConfig<GenericControllerConfig>> GENERIC_CONFIG = ComponentSlot.of(GenericControllerConfig.ID);
+    private static final ComponentSlot<IConfig<GamepadControllerConfig>> GAMEPAD_CONFIG = ComponentSlot.of(GamepadControllerConfig.ID);
+    private static final ComponentSlot<IConfig<JoystickControllerConfig>> JOYSTICK_CONFIG = ComponentSlot.of(JoystickControllerConfig.ID);
+    private static final ComponentSlot<BluetoothDeviceComponent> BLUETOOTH = ComponentSlot.of(BluetoothDeviceComponent.ID);
+
     private final ControllerInfo info;
+    private @Nullable Map<ResourceLocation, IConfig<?>> configsView;
 
     public ControllerEntity(ControllerInfo info) {
         this.info = info;
@@ -52,58 +68,64 @@ public class ControllerEntity extends ECSEntityImpl {
     }
 
     public Optional<InputComponent> input() {
-        return this.getComponent(InputComponent.ID);
+        return this.getComponent(INPUT);
     }
 
     public Optional<RumbleComponent> rumble() {
-        return this.getComponent(RumbleComponent.ID);
+        return this.getComponent(RUMBLE);
     }
 
     public Optional<TriggerRumbleComponent> triggerRumble() {
-        return this.getComponent(TriggerRumbleComponent.ID);
+        return this.getComponent(TRIGGER_RUMBLE);
     }
 
     public Optional<GyroComponent> gyro() {
-        return this.getComponent(GyroComponent.ID);
+        return this.getComponent(GYRO);
     }
 
     public Optional<TouchpadComponent> touchpad() {
-        return this.getComponent(TouchpadComponent.ID);
+        return this.getComponent(TOUCHPAD);
     }
 
     public Optional<BatteryLevelComponent> batteryLevel() {
-        return this.getComponent(BatteryLevelComponent.ID);
+        return this.getComponent(BATTERY_LEVEL);
     }
 
     public Optional<HDHapticComponent> hdHaptics() {
-        return this.getComponent(HDHapticComponent.ID);
+        return this.getComponent(HD_HAPTICS);
     }
 
     public Optional<DualSenseComponent> dualSense() {
-        return this.getComponent(DualSenseComponent.ID);
+        return this.getComponent(DUALSENSE);
     }
 
     public IConfig<GenericControllerConfig> genericConfig() {
-        return this.<IConfig<GenericControllerConfig>>getComponent(GenericControllerConfig.ID).orElseThrow();
+        return this.getComponent(GENERIC_CONFIG).orElseThrow();
     }
 
     public Optional<IConfig<GamepadControllerConfig>> gamepadConfig() {
-        return this.getComponent(GamepadControllerConfig.ID);
+        return this.getComponent(GAMEPAD_CONFIG);
     }
 
     public Optional<IConfig<JoystickControllerConfig>> joystickConfig() {
-        return this.getComponent(JoystickControllerConfig.ID);
+        return this.getComponent(JOYSTICK_CONFIG);
     }
 
     public Optional<BluetoothDeviceComponent> bluetooth() {
-        return this.getComponent(BluetoothDeviceComponent.ID);
+        return this.getComponent(BLUETOOTH);
     }
 
     public void finalise() {
         this.getAllComponents().values().forEach(ECSComponent::finalise);
     }
 
+    /**
+     * @return an unmodifiable view of every component's config, only rebuilt when the components change
+     */
     public Map<ResourceLocation, IConfig<?>> getAllConfigs() {
+        if (this.configsView != null)
+            return this.configsView;
+
         Map<ResourceLocation, IConfig<?>> configs = new HashMap<>();
 
         this.getAllComponents().forEach((id, component) -> {
@@ -115,7 +137,22 @@ public class ControllerEntity extends ECSEntityImpl {
             }
         });
 
-        return configs;
+        return this.configsView = Collections.unmodifiableMap(configs);
+    }
+
+    @Override
+    protected void onComponentsChanged() {
+        super.onComponentsChanged();
+        this.configsView = null;
+    }
+
+    /**
+     * Marks every component config as changed, for edits that can't be attributed to a single component.
+     */
+    public void markConfigDirty() {
+        for (IConfig<?> config : this.getAllConfigs().values()) {
+            config.markDirty();
+        }
     }
 
     public void serializeToObject(JsonObject object, Gson gson) throws SerializationException {
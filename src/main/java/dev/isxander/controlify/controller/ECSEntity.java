@@ -15,4 +15,8 @@ public interface ECSEntity {
     boolean removeComponent(ResourceLocation id);
 
     <T extends ECSComponent> Optional<T> getComponent(ResourceLocation id);
+
+    default <T extends ECSComponent> Optional<T> getComponent(ComponentSlot<T> slot) {
+        return this.getComponent(slot.id());
+    }
 }
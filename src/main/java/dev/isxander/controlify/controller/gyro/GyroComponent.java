@@ -11,7 +11,10 @@ import net.minecraft.resources.ResourceLocation;
 public class GyroComponent implements ECSComponent, ConfigHolder<GyroComponent.Config> {
     public static final ResourceLocation ID = CUtil.rl("gyro");
 
-    private GyroStateC gyroState = GyroStateC.ZERO;
+    private static final int SAMPLE_CAPACITY = 256;
+
+    private final GyroState gyroState = new GyroState();
+    private final GyroSampleBuffer samples = new GyroSampleBuffer(SAMPLE_CAPACITY);
     private final IConfig<Config> config = new ConfigImpl<>(Config::new, Config.class);
 
     public GyroStateC getState() {
@@ -19,7 +22,25 @@ public class GyroComponent implements ECSComponent, ConfigHolder<GyroComponent.C
     }
 
     public void setState(GyroStateC state) {
-        this.gyroState = state;
+        this.gyroState.set(state);
+    }
+
+    /**
+     * Records a sample reported by the sensor, and makes it the current state.
+     *
+     * @param timestampNanos the sensor's own timestamp of the sample
+     */
+    public void pushSample(long timestampNanos, float pitch, float yaw, float roll) {
+        this.samples.push(timestampNanos, pitch, yaw, roll);
+        this.gyroState.set(pitch, yaw, roll);
+    }
+
+    /**
+     * @return every sample recently reported by the sensor,
+     *         only populated by drivers that receive individual sensor reports
+     */
+    public GyroSampleBuffer samples() {
+        return this.samples;
     }
 
     @Override
@@ -0,0 +1,99 @@
+package dev.isxander.controlify.controller.gyro;
+
+import org.joml.Vector3f;
+
+/**
+ * A ring of timestamped angular velocity samples, as reported by the controller's sensor.
+ * <p>
+ * Controllers report gyro far faster than the game ticks, so rather than treating one reading as
+ * the rate for a whole tick, consumers keep a cursor and {@link #integrate(long, Vector3f) integrate}
+ * every sample reported since they last read, giving the exact angular displacement in between.
+ * Must only be used from the main thread.
+ */
+public final class GyroSampleBuffer {
+    /** Longest gap between two samples that is integrated, so a stalled sensor does not cause a jump. */
+    private static final float MAX_SAMPLE_DELTA = 0.05f;
+    /** How long since the last sample before the sensor is considered to have stopped reporting. */
+    private static final long STALE_NANOS = 100_000_000L;
+
+    private final int mask;
+    private final float[] pitch, yaw, roll;
+    private final long[] timestamps;
+
+    private long latest = -1;
+    private long lastPushNanos = -1;
+
+    /**
+     * @param capacity number of samples retained, rounded up to a power of two
+     */
+    public GyroSampleBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+
+        this.mask = size - 1;
+        this.pitch = new float[size];
+        this.yaw = new float[size];
+        this.roll = new float[size];
+        this.timestamps = new long[size];
+    }
+
+    /**
+     * @param timestampNanos the sensor's own timestamp of the sample
+     * @param pitch angular velocity in radians per second
+     * @param yaw angular velocity in radians per second
+     * @param roll angular velocity in radians per second
+     */
+    public void push(long timestampNanos, float pitch, float yaw, float roll) {
+        long sequence = ++latest;
+        int slot = (int) (sequence & mask);
+
+        this.pitch[slot] = pitch;
+        this.yaw[slot] = yaw;
+        this.roll[slot] = roll;
+        this.timestamps[slot] = timestampNanos;
+        this.lastPushNanos = System.nanoTime();
+    }
+
+    /**
+     * Adds the angular displacement, in radians, between the sample at {@code cursor} and the latest sample
+     * to {@code out}, using the trapezoidal rule between each pair of samples.
+     * If samples after the cursor have already been overwritten, integration starts at the oldest retained sample.
+     *
+     * @param cursor the value returned by the previous call, or -1 to start from the latest sample
+     * @return the cursor to pass to the next call
+     */
+    public long integrate(long cursor, Vector3f out) {
+        if (cursor < 0 || latest < 0)
+            return latest;
+
+        // each step needs the sample before it, so start one after the oldest retained sample
+        long first = Math.max(cursor + 1, latest - mask + 1);
+        for (long sequence = first; sequence <= latest; sequence++) {
+            int slot = (int) (sequence & mask);
+            int prev = (int) ((sequence - 1) & mask);
+
+            float dt = Math.min(Math.max((timestamps[slot] - timestamps[prev]) / 1e9f, 0f), MAX_SAMPLE_DELTA);
+            out.add(
+                    (pitch[slot] + pitch[prev]) * 0.5f * dt,
+                    (yaw[slot] + yaw[prev]) * 0.5f * dt,
+                    (roll[slot] + roll[prev]) * 0.5f * dt
+            );
+        }
+
+        return latest;
+    }
+
+    /**
+     * @return whether the sensor is currently reporting samples
+     */
+    public boolean isLive() {
+        return lastPushNanos >= 0 && System.nanoTime() - lastPushNanos < STALE_NANOS;
+    }
+
+    public long latestSequence() {
+        return latest;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
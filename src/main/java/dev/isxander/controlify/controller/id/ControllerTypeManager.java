@@ -11,6 +11,7 @@ import dev.isxander.controlify.controllermanager.ControllerManager;
 import dev.isxander.controlify.hid.ControllerHIDService;
 import dev.isxander.controlify.hid.HIDDevice;
 import dev.isxander.controlify.hid.HIDIdentifier;
+import dev.isxander.controlify.platform.client.resource.ReloadCache;
 import dev.isxander.controlify.platform.client.resource.SimpleControlifyReloadListener;
 import dev.isxander.controlify.utils.CUtil;
 import dev.isxander.controlify.utils.JsonTreeParser;
@@ -21,7 +22,6 @@ import net.minecraft.server.packs.resources.ResourceManager;
 import net.minecraft.util.profiling.ProfilerFiller;
 import org.quiltmc.parsers.json.JsonReader;
 
-import java.io.BufferedReader;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
@@ -32,6 +32,9 @@ public class ControllerTypeManager implements SimpleControlifyReloadListener<Con
     private Map<HIDIdentifier, ControllerType> typeMap = new HashMap<>();
 
     public static final ResourceLocation ID = CUtil.rl("controller_type");
+    private static final ResourceLocation IDENTIFICATION_FILE = CUtil.rl("controllers/controller_identification.json5");
+
+    private final ReloadCache<List<Map.Entry<HIDIdentifier, ControllerType>>> identificationCache = new ReloadCache<>(ID);
 
     private static final Codec<ControllerTypeEntry> ENTRY_CODEC = RecordCodecBuilder.create(instance -> instance.group(
             Codec.list(HIDIdentifier.LIST_CODEC)
@@ -51,7 +54,10 @@ public class ControllerTypeManager implements SimpleControlifyReloadListener<Con
 
     @Override
     public CompletableFuture<Preparations> load(ResourceManager manager, ProfilerFiller profiler, Executor executor) {
-        return CompletableFuture.supplyAsync(() -> manager.getResourceStack(CUtil.rl("controllers/controller_identification.json5")), executor)
+        return CompletableFuture.supplyAsync(() -> {
+                    identificationCache.beginReload();
+                    return manager.getResourceStack(IDENTIFICATION_FILE);
+                }, executor)
                 .thenCompose(resources -> {
                     List<CompletableFuture<List<Map.Entry<HIDIdentifier, ControllerType>>>> futures = new ArrayList<>();
                     for (Resource resource : resources) {
@@ -64,30 +70,36 @@ public class ControllerTypeManager implements SimpleControlifyReloadListener<Con
                                     .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> b)));
 
                 })
-                .thenApply(Preparations::new);
+                .thenApply(typeMap -> {
+                    identificationCache.endReload();
+                    return new Preparations(typeMap);
+                });
     }
 
     private List<Map.Entry<HIDIdentifier, ControllerType>> readIdentificationResource(Resource resource) {
-        Map<HIDIdentifier, ControllerType> typeMap = new HashMap<>();
-
-        try (BufferedReader resourceReader = resource.openAsReader()) {
-            var reader = JsonReader.json5(resourceReader);
-            JsonElement json = JsonTreeParser.parse(reader);
-
-            ENTRY_CODEC.listOf().parse(JsonOps.INSTANCE, json)
-                    .resultOrPartial(CUtil.LOGGER::error)
-                    .ifPresent(entries -> {
-                        for (var entry : entries) {
-                            for (var hid : entry.hid()) {
-                                typeMap.put(hid, entry.type());
+        try {
+            return identificationCache.decode(IDENTIFICATION_FILE, resource, resourceReader -> {
+                Map<HIDIdentifier, ControllerType> typeMap = new HashMap<>();
+
+                var reader = JsonReader.json5(resourceReader);
+                JsonElement json = JsonTreeParser.parse(reader);
+
+                ENTRY_CODEC.listOf().parse(JsonOps.INSTANCE, json)
+                        .resultOrPartial(CUtil.LOGGER::error)
+                        .ifPresent(entries -> {
+                            for (var entry : entries) {
+                                for (var hid : entry.hid()) {
+                                    typeMap.put(hid, entry.type());
+                                }
                             }
-                        }
-                    });
+                        });
+
+                return typeMap.entrySet().stream().toList();
+            });
         } catch (Exception e) {
             CUtil.LOGGER.error("Failed to read controller identification database!", e);
+            return List.of();
         }
-
-        return typeMap.entrySet().stream().toList();
     }
 
     @Override
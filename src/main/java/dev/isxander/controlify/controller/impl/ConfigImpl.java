@@ -21,6 +21,9 @@ public class ConfigImpl<T extends ConfigClass> implements IConfig<T> {
 
     private @Nullable CustomSaveLoadConfig customSaveLoadConfig;
 
+    private @Nullable JsonElement serialized;
+    private boolean dirty = true;
+
     public ConfigImpl(Supplier<T> defaultFactory, Class<T> configClass, @Nullable CustomSaveLoadConfig customSaveLoadConfig) {
         this.defaultFactory = defaultFactory;
         this.classOfT = configClass;
@@ -45,11 +48,17 @@ public class ConfigImpl<T extends ConfigClass> implements IConfig<T> {
     @Override
     public JsonElement serialize(Gson gson, ControllerEntity controller) throws SerializationException {
         try {
+            // always validated on save, which marks this dirty if it changed anything
             this.config().onConfigSaveLoad(controller);
+            if (!this.dirty && this.serialized != null)
+                return this.serialized;
+
             JsonObject json = gson.toJsonTree(this.config(), this.classOfT).getAsJsonObject();
 
             if (customSaveLoadConfig != null) customSaveLoadConfig.toJson(json);
 
+            this.serialized = json;
+            this.dirty = false;
             return json;
         } catch (Exception e) {
             throw new SerializationException("Failed to serialize config type " + this.classOfT.getTypeName(), e);
@@ -67,13 +76,26 @@ public class ConfigImpl<T extends ConfigClass> implements IConfig<T> {
             if (customSaveLoadConfig != null) customSaveLoadConfig.fromJson(element.getAsJsonObject());
         } catch (Throwable e) {
             this.instance = this.defaultFactory.get();
+            this.markDirty();
             throw new SerializationException("Failed to deserialize type " + this.classOfT.getTypeName() + ". Resetting to default.", e);
         }
         this.instance.onConfigSaveLoad(controller);
+        this.markDirty();
     }
 
     @Override
     public void resetToDefault() {
         this.instance = this.defaultFactory.get();
+        this.markDirty();
+    }
+
+    @Override
+    public void markDirty() {
+        this.dirty = true;
+    }
+
+    @Override
+    public boolean isDirty() {
+        return this.dirty;
     }
 }
@@ -0,0 +1,42 @@
+package dev.isxander.controlify.controller.impl;
+
+import dev.isxander.controlify.controller.input.ControllerInputIndex;
+
+/**
+ * A fixed pool of three states that are handed out in rotation.
+ * <p>
+ * {@link dev.isxander.controlify.controller.input.InputComponent} keeps a reference to the
+ * current and previous state, so a third buffer is always free to be written into by the
+ * producer without ever allocating a new state.
+ */
+public class ControllerStateBuffers {
+    private static final int BUFFER_COUNT = 3;
+
+    private final ControllerInputIndex index;
+    private final IndexedControllerState[] buffers;
+    private int cursor;
+
+    public ControllerStateBuffers(ControllerInputIndex index) {
+        this.index = index;
+        this.buffers = new IndexedControllerState[BUFFER_COUNT];
+        for (int i = 0; i < BUFFER_COUNT; i++) {
+            this.buffers[i] = new IndexedControllerState(index);
+        }
+    }
+
+    /**
+     * Rotates to the next buffer and clears it, ready to be written to.
+     * The returned state must not be written to after the next call.
+     */
+    public IndexedControllerState nextBackBuffer() {
+        cursor = (cursor + 1) % BUFFER_COUNT;
+
+        IndexedControllerState buffer = buffers[cursor];
+        buffer.clearState();
+        return buffer;
+    }
+
+    public ControllerInputIndex index() {
+        return this.index;
+    }
+}
@@ -1,37 +1,83 @@
 package dev.isxander.controlify.controller.impl;
 
 import com.google.common.collect.ImmutableMap;
+import dev.isxander.controlify.controller.ComponentSlot;
 import dev.isxander.controlify.controller.ECSComponent;
 import dev.isxander.controlify.controller.ECSEntity;
 import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 
+/**
+ * Stores components in an array indexed by their {@link ComponentSlot}, alongside an {@link Optional}
+ * for each, so accessing a component neither hashes nor allocates.
+ * The map view of all components is only rebuilt after components are set or removed.
+ */
 public class ECSEntityImpl implements ECSEntity {
+    private static final Optional<?>[] NO_COMPONENTS = new Optional<?>[0];
+
     private final Map<ResourceLocation, ECSComponent> components;
+    // null where no component is set
+    private Optional<?>[] slots = NO_COMPONENTS;
+    private @Nullable Map<ResourceLocation, ECSComponent> componentsView;
 
     public ECSEntityImpl() {
         this.components = new HashMap<>();
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public <T extends ECSComponent> Optional<T> getComponent(ResourceLocation id) {
-        return Optional.ofNullable((T) this.components.get(id));
+        ComponentSlot<T> slot = ComponentSlot.find(id);
+        return slot != null ? this.getComponent(slot) : Optional.empty();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends ECSComponent> Optional<T> getComponent(ComponentSlot<T> slot) {
+        int index = slot.index();
+        if (index >= this.slots.length || this.slots[index] == null)
+            return Optional.empty();
+        return (Optional<T>) this.slots[index];
     }
 
     @Override
     public <T extends ECSComponent> boolean setComponent(T component, ResourceLocation id) {
-        return this.components.put(id, component) != null;
+        int index = ComponentSlot.of(id).index();
+        if (index >= this.slots.length) {
+            this.slots = Arrays.copyOf(this.slots, Math.max(index + 1, ComponentSlot.count()));
+        }
+        this.slots[index] = Optional.of(component);
+
+        boolean replaced = this.components.put(id, component) != null;
+        this.onComponentsChanged();
+        return replaced;
     }
 
     @Override
     public boolean removeComponent(ResourceLocation id) {
-        return this.components.remove(id) != null;
+        ComponentSlot<?> slot = ComponentSlot.find(id);
+        if (slot != null && slot.index() < this.slots.length) {
+            this.slots[slot.index()] = null;
+        }
+
+        boolean removed = this.components.remove(id) != null;
+        this.onComponentsChanged();
+        return removed;
     }
 
     @Override
     public Map<ResourceLocation, ECSComponent> getAllComponents() {
-        return ImmutableMap.copyOf(this.components);
+        if (this.componentsView == null) {
+            this.componentsView = ImmutableMap.copyOf(this.components);
+        }
+        return this.componentsView;
+    }
+
+    /**
+     * Called after a component is set or removed, to drop anything derived from the components.
+     */
+    protected void onComponentsChanged() {
+        this.componentsView = null;
     }
 }
@@ -0,0 +1,163 @@
+package dev.isxander.controlify.controller.impl;
+
+import dev.isxander.controlify.controller.input.ControllerInputIndex;
+import dev.isxander.controlify.controller.input.HatState;
+import dev.isxander.controlify.controller.input.ModifiableControllerState;
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * A controller state backed by dense primitive arrays, addressed through a {@link ControllerInputIndex}.
+ * Reading an input by handle is a single array load, and reading by id is one hash lookup with no boxing.
+ */
+public class IndexedControllerState implements ModifiableControllerState {
+    private static final HatState[] HAT_STATES = HatState.values();
+
+    private final ControllerInputIndex index;
+    private final boolean[] buttons;
+    private final float[] axes;
+    private final float[] restingAxes;
+    private final byte[] hats;
+
+    public IndexedControllerState(ControllerInputIndex index) {
+        this.index = index;
+        this.buttons = new boolean[index.buttonCount()];
+        this.axes = new float[index.axisCount()];
+        this.restingAxes = new float[index.axisCount()];
+        this.hats = new byte[index.hatCount()];
+    }
+
+    @Override
+    public ControllerInputIndex inputIndex() {
+        return this.index;
+    }
+
+    @Override
+    public boolean isButtonDown(ResourceLocation button) {
+        return isButtonDown(index.button(button));
+    }
+
+    @Override
+    public boolean isButtonDown(int button) {
+        return button >= 0 && buttons[button];
+    }
+
+    @Override
+    public Set<ResourceLocation> getButtons() {
+        return index.buttons();
+    }
+
+    @Override
+    public float getAxisState(ResourceLocation axis) {
+        return getAxisState(index.axis(axis));
+    }
+
+    @Override
+    public float getAxisState(int axis) {
+        return axis >= 0 ? axes[axis] : 0f;
+    }
+
+    @Override
+    public Set<ResourceLocation> getAxes() {
+        return index.axes();
+    }
+
+    @Override
+    public float getAxisResting(ResourceLocation axis) {
+        return getAxisResting(index.axis(axis));
+    }
+
+    @Override
+    public float getAxisResting(int axis) {
+        return axis >= 0 ? restingAxes[axis] : 0f;
+    }
+
+    @Override
+    public HatState getHatState(ResourceLocation hat) {
+        return getHatState(index.hat(hat));
+    }
+
+    @Override
+    public HatState getHatState(int hat) {
+        return hat >= 0 ? HAT_STATES[hats[hat]] : HatState.CENTERED;
+    }
+
+    @Override
+    public Set<ResourceLocation> getHats() {
+        return index.hats();
+    }
+
+    @Override
+    public void setButton(ResourceLocation button, boolean pressed) {
+        int handle = index.button(button);
+        if (handle != ControllerInputIndex.ABSENT)
+            setButton(handle, pressed);
+    }
+
+    @Override
+    public void setButton(int button, boolean pressed) {
+        buttons[button] = pressed;
+    }
+
+    @Override
+    public void setAxis(ResourceLocation axis, float value) {
+        int handle = index.axis(axis);
+        if (handle != ControllerInputIndex.ABSENT)
+            setAxis(handle, value);
+    }
+
+    @Override
+    public void setAxis(int axis, float value) {
+        axes[axis] = value;
+    }
+
+    public void setRestingAxis(ResourceLocation axis, float value) {
+        restingAxes[require(index.axis(axis), axis)] = value;
+    }
+
+    @Override
+    public void setHat(ResourceLocation hat, HatState state) {
+        int handle = index.hat(hat);
+        if (handle != ControllerInputIndex.ABSENT)
+            setHat(handle, state);
+    }
+
+    @Override
+    public void setHat(int hat, HatState state) {
+        hats[hat] = (byte) state.ordinal();
+    }
+
+    @Override
+    public void clearState() {
+        Arrays.fill(buttons, false);
+        Arrays.fill(axes, 0f);
+        Arrays.fill(restingAxes, 0f);
+        Arrays.fill(hats, (byte) HatState.CENTERED.ordinal());
+    }
+
+    public String toDebugString() {
+        StringJoiner axesJoiner = new StringJoiner(",");
+        for (int i = 0; i < axes.length; i++) {
+            axesJoiner.add(index.axisId(i) + "=" + axes[i]);
+        }
+        StringJoiner buttonsJoiner = new StringJoiner(",");
+        for (int i = 0; i < buttons.length; i++) {
+            buttonsJoiner.add(index.buttonId(i) + "=" + buttons[i]);
+        }
+        StringJoiner hatsJoiner = new StringJoiner(",");
+        for (int i = 0; i < hats.length; i++) {
+            hatsJoiner.add(index.hatId(i) + "=" + getHatState(i));
+        }
+
+        return "ControllerState{axes:%s,buttons:%s,hats:%s}".formatted(axesJoiner, buttonsJoiner, hatsJoiner);
+    }
+
+    private static int require(int handle, ResourceLocation id) {
+        if (handle == ControllerInputIndex.ABSENT)
+            throw new IllegalArgumentException("Cannot set resting axis for axis that doesn't exist: " + id);
+        return handle;
+    }
+}
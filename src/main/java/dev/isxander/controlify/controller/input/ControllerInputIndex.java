@@ -0,0 +1,117 @@
+package dev.isxander.controlify.controller.input;
+
+import it.unimi.dsi.fastutil.objects.Object2IntLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Assigns every input a controller can report a dense integer index.
+ * Built once per controller (or mapping) so that state can be stored in primitive arrays,
+ * and consumers can resolve a {@link ResourceLocation} to an int handle ahead of time.
+ * <p>
+ * Lookups for inputs that are not part of the index return {@link #ABSENT}, which every
+ * {@link ControllerStateView} int accessor treats as an unpressed/resting/centered input.
+ */
+public final class ControllerInputIndex {
+    public static final int ABSENT = -1;
+
+    public static final ControllerInputIndex EMPTY = new Builder().build();
+
+    private final Object2IntMap<ResourceLocation> buttonLookup, axisLookup, hatLookup;
+    private final ResourceLocation[] buttons, axes, hats;
+
+    private ControllerInputIndex(Object2IntLinkedOpenHashMap<ResourceLocation> buttonLookup, Object2IntLinkedOpenHashMap<ResourceLocation> axisLookup, Object2IntLinkedOpenHashMap<ResourceLocation> hatLookup) {
+        this.buttonLookup = buttonLookup;
+        this.axisLookup = axisLookup;
+        this.hatLookup = hatLookup;
+        this.buttons = buttonLookup.keySet().toArray(new ResourceLocation[0]);
+        this.axes = axisLookup.keySet().toArray(new ResourceLocation[0]);
+        this.hats = hatLookup.keySet().toArray(new ResourceLocation[0]);
+    }
+
+    public int button(ResourceLocation button) {
+        return buttonLookup.getInt(button);
+    }
+
+    public int axis(ResourceLocation axis) {
+        return axisLookup.getInt(axis);
+    }
+
+    public int hat(ResourceLocation hat) {
+        return hatLookup.getInt(hat);
+    }
+
+    public ResourceLocation buttonId(int index) {
+        return buttons[index];
+    }
+
+    public ResourceLocation axisId(int index) {
+        return axes[index];
+    }
+
+    public ResourceLocation hatId(int index) {
+        return hats[index];
+    }
+
+    public int buttonCount() {
+        return buttons.length;
+    }
+
+    public int axisCount() {
+        return axes.length;
+    }
+
+    public int hatCount() {
+        return hats.length;
+    }
+
+    public Set<ResourceLocation> buttons() {
+        return Collections.unmodifiableSet(buttonLookup.keySet());
+    }
+
+    public Set<ResourceLocation> axes() {
+        return Collections.unmodifiableSet(axisLookup.keySet());
+    }
+
+    public Set<ResourceLocation> hats() {
+        return Collections.unmodifiableSet(hatLookup.keySet());
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private final Object2IntLinkedOpenHashMap<ResourceLocation> buttons = createLookup();
+        private final Object2IntLinkedOpenHashMap<ResourceLocation> axes = createLookup();
+        private final Object2IntLinkedOpenHashMap<ResourceLocation> hats = createLookup();
+
+        public Builder addButton(ResourceLocation button) {
+            buttons.putIfAbsent(button, buttons.size());
+            return this;
+        }
+
+        public Builder addAxis(ResourceLocation axis) {
+            axes.putIfAbsent(axis, axes.size());
+            return this;
+        }
+
+        public Builder addHat(ResourceLocation hat) {
+            hats.putIfAbsent(hat, hats.size());
+            return this;
+        }
+
+        public ControllerInputIndex build() {
+            return new ControllerInputIndex(buttons.clone(), axes.clone(), hats.clone());
+        }
+
+        private static Object2IntLinkedOpenHashMap<ResourceLocation> createLookup() {
+            var map = new Object2IntLinkedOpenHashMap<ResourceLocation>();
+            map.defaultReturnValue(ABSENT);
+            return map;
+        }
+    }
+}
@@ -1,9 +1,9 @@
 package dev.isxander.controlify.controller.input;
 
-import dev.isxander.controlify.controller.impl.ControllerStateImpl;
+import dev.isxander.controlify.controller.impl.IndexedControllerState;
 
 public interface ControllerState extends ControllerStateView {
-    ControllerState EMPTY = new ControllerStateImpl();
+    ControllerState EMPTY = new IndexedControllerState(ControllerInputIndex.EMPTY);
 
     void clearState();
 
@@ -7,6 +7,11 @@ import java.util.Set;
 public interface ControllerStateView {
     boolean isButtonDown(ResourceLocation button);
 
+    /**
+     * The ids of every button this state can hold, which is fixed by its {@link #inputIndex()}.
+     * A button is listed even if it was never set or the state was cleared, in which case it reads as released.
+     * The same applies to {@link #getAxes()} and {@link #getHats()}.
+     */
     Set<ResourceLocation> getButtons();
 
     float getAxisState(ResourceLocation axis);
@@ -16,4 +21,30 @@ public interface ControllerStateView {
 
     HatState getHatState(ResourceLocation hat);
     Set<ResourceLocation> getHats();
+
+    /**
+     * The index that int handles passed to this view are resolved against.
+     * Handles are only valid for views that share the same index instance.
+     */
+    ControllerInputIndex inputIndex();
+
+    /**
+     * @param button a handle resolved with {@link ControllerInputIndex#button(ResourceLocation)}
+     */
+    boolean isButtonDown(int button);
+
+    /**
+     * @param axis a handle resolved with {@link ControllerInputIndex#axis(ResourceLocation)}
+     */
+    float getAxisState(int axis);
+
+    /**
+     * @param axis a handle resolved with {@link ControllerInputIndex#axis(ResourceLocation)}
+     */
+    float getAxisResting(int axis);
+
+    /**
+     * @param hat a handle resolved with {@link ControllerInputIndex#hat(ResourceLocation)}
+     */
+    HatState getHatState(int hat);
 }
@@ -1,18 +1,33 @@
 package dev.isxander.controlify.controller.input;
 
-import dev.isxander.controlify.utils.ControllerUtils;
 import net.minecraft.resources.ResourceLocation;
 
-import java.util.Optional;
 import java.util.Set;
 
 public class DeadzoneControllerStateView implements ControllerStateView {
-    private final ControllerStateView view;
-    private final InputComponent input;
+    private ControllerStateView view;
+    private float[] axes;
 
-    public DeadzoneControllerStateView(ControllerStateView view, InputComponent input) {
+    public DeadzoneControllerStateView(ControllerStateView view) {
         this.view = view;
-        this.input = input;
+        this.axes = new float[0];
+    }
+
+    /**
+     * Retargets this view at a new underlying state, so that a single view
+     * can be reused for the lifetime of the controller.
+     * Deadzones are applied to every axis here, once, so reads are a single array load.
+     *
+     * @param table a table compiled against the index of {@code view}
+     */
+    void setView(ControllerStateView view, DeadzoneTable table) {
+        this.view = view;
+
+        int axisCount = view.inputIndex().axisCount();
+        if (this.axes.length != axisCount) {
+            this.axes = new float[axisCount];
+        }
+        table.apply(view, this.axes);
     }
 
     @Override
@@ -20,6 +35,11 @@ public class DeadzoneControllerStateView implements ControllerStateView {
         return view.isButtonDown(button);
     }
 
+    @Override
+    public boolean isButtonDown(int button) {
+        return view.isButtonDown(button);
+    }
+
     @Override
     public Set<ResourceLocation> getButtons() {
         return view.getButtons();
@@ -27,11 +47,12 @@ public class DeadzoneControllerStateView implements ControllerStateView {
 
     @Override
     public float getAxisState(ResourceLocation axis) {
-        float rawAxis = view.getAxisState(axis);
-        Optional<ResourceLocation> deadzoneId = input.getDeadzoneForAxis(axis);
-        float deadzone = deadzoneId.map(id -> input.confObj().deadzones.get(id)).orElse(0f);
+        return getAxisState(view.inputIndex().axis(axis));
+    }
 
-        return ControllerUtils.deadzone(rawAxis, deadzone);
+    @Override
+    public float getAxisState(int axis) {
+        return axis >= 0 ? axes[axis] : 0f;
     }
 
     @Override
@@ -44,13 +65,28 @@ public class DeadzoneControllerStateView implements ControllerStateView {
         return view.getAxisResting(axis);
     }
 
+    @Override
+    public float getAxisResting(int axis) {
+        return view.getAxisResting(axis);
+    }
+
     @Override
     public HatState getHatState(ResourceLocation hat) {
         return view.getHatState(hat);
     }
 
+    @Override
+    public HatState getHatState(int hat) {
+        return view.getHatState(hat);
+    }
+
     @Override
     public Set<ResourceLocation> getHats() {
         return view.getHats();
     }
+
+    @Override
+    public ControllerInputIndex inputIndex() {
+        return view.inputIndex();
+    }
 }
@@ -3,9 +3,40 @@ package dev.isxander.controlify.controller.input;
 import net.minecraft.resources.ResourceLocation;
 
 import java.util.List;
+import java.util.Optional;
 
 public record DeadzoneGroup(
         ResourceLocation name,
         List<ResourceLocation> axes
 ) {
+    private static final String[] STICK_DIRECTIONS = { "_up", "_down", "_left", "_right" };
+
+    /**
+     * Orders the axes of this group up, down, left, right by the direction suffix of each axis id.
+     *
+     * @return the ordered axes, or empty if this group is not exactly one axis per direction,
+     *         in which case it cannot be treated as a stick
+     */
+    public Optional<List<ResourceLocation>> stickAxes() {
+        if (axes.size() != STICK_DIRECTIONS.length)
+            return Optional.empty();
+
+        ResourceLocation[] ordered = new ResourceLocation[STICK_DIRECTIONS.length];
+        for (ResourceLocation axis : axes) {
+            for (int i = 0; i < STICK_DIRECTIONS.length; i++) {
+                if (axis.getPath().endsWith(STICK_DIRECTIONS[i])) {
+                    if (ordered[i] != null)
+                        return Optional.empty();
+                    ordered[i] = axis;
+                    break;
+                }
+            }
+        }
+
+        for (ResourceLocation axis : ordered) {
+            if (axis == null)
+                return Optional.empty();
+        }
+        return Optional.of(List.of(ordered));
+    }
 }
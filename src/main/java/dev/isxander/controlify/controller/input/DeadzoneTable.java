@@ -0,0 +1,102 @@
+package dev.isxander.controlify.controller.input;
+
+import dev.isxander.controlify.utils.ControllerUtils;
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Deadzone configuration compiled against a {@link ControllerInputIndex}.
+ * <p>
+ * Axial deadzones are stored per axis handle. Radial deadzones are stored per
+ * stick group, with its axes ordered up, down, left, right by {@link DeadzoneGroup#stickAxes()},
+ * and are applied to the stick's magnitude, so they are computed once per group rather than once per axis.
+ */
+final class DeadzoneTable {
+    static final DeadzoneTable EMPTY = new DeadzoneTable(ControllerInputIndex.EMPTY, new float[0], new int[0][], new float[0]);
+
+    private final ControllerInputIndex index;
+    private final float[] axisDeadzones;
+    private final int[][] radialGroups;
+    private final float[] radialDeadzones;
+
+    private DeadzoneTable(ControllerInputIndex index, float[] axisDeadzones, int[][] radialGroups, float[] radialDeadzones) {
+        this.index = index;
+        this.axisDeadzones = axisDeadzones;
+        this.radialGroups = radialGroups;
+        this.radialDeadzones = radialDeadzones;
+    }
+
+    static DeadzoneTable compile(ControllerInputIndex index, Collection<DeadzoneGroup> groups, InputComponent.Config config) {
+        float[] axisDeadzones = new float[index.axisCount()];
+        boolean[] claimed = new boolean[index.axisCount()];
+        List<int[]> radialGroups = new ArrayList<>();
+        List<Float> radialDeadzones = new ArrayList<>();
+
+        for (DeadzoneGroup group : groups) {
+            float deadzone = config.deadzones.getOrDefault(group.name(), 0f);
+
+            Optional<List<ResourceLocation>> stickAxes = group.stickAxes();
+            if (stickAxes.isPresent() && config.radialDeadzones.contains(group.name())) {
+                int[] handles = new int[4];
+                for (int i = 0; i < 4; i++) {
+                    handles[i] = index.axis(stickAxes.get().get(i));
+                }
+                radialGroups.add(handles);
+                radialDeadzones.add(deadzone);
+                continue;
+            }
+
+            for (ResourceLocation axis : group.axes()) {
+                int handle = index.axis(axis);
+                // the first group to claim an axis wins, matching the previous lookup order
+                if (handle != ControllerInputIndex.ABSENT && !claimed[handle]) {
+                    axisDeadzones[handle] = deadzone;
+                    claimed[handle] = true;
+                }
+            }
+        }
+
+        float[] radialDeadzonesArr = new float[radialDeadzones.size()];
+        for (int i = 0; i < radialDeadzonesArr.length; i++) {
+            radialDeadzonesArr[i] = radialDeadzones.get(i);
+        }
+
+        return new DeadzoneTable(index, axisDeadzones, radialGroups.toArray(new int[0][]), radialDeadzonesArr);
+    }
+
+    /**
+     * Writes every axis of {@code state}, with deadzones applied, into {@code out}.
+     */
+    void apply(ControllerStateView state, float[] out) {
+        for (int i = 0; i < axisDeadzones.length; i++) {
+            out[i] = ControllerUtils.deadzone(state.getAxisState(i), axisDeadzones[i]);
+        }
+
+        for (int g = 0; g < radialGroups.length; g++) {
+            int[] handles = radialGroups[g];
+            float up = state.getAxisState(handles[0]);
+            float down = state.getAxisState(handles[1]);
+            float left = state.getAxisState(handles[2]);
+            float right = state.getAxisState(handles[3]);
+
+            float x = right - left;
+            float y = down - up;
+            float magnitude = (float) Math.sqrt(x * x + y * y);
+            float scale = magnitude > 0 ? ControllerUtils.deadzone(magnitude, radialDeadzones[g]) / magnitude : 0;
+
+            for (int handle : handles) {
+                if (handle != ControllerInputIndex.ABSENT) {
+                    out[handle] = state.getAxisState(handle) * scale;
+                }
+            }
+        }
+    }
+
+    ControllerInputIndex index() {
+        return this.index;
+    }
+}
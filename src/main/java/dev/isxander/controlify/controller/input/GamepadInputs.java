@@ -78,6 +78,48 @@ public final class GamepadInputs {
             ))
     ));
 
+    /**
+     * The input index shared by every gamepad driver, covering every input in this class.
+     */
+    public static final ControllerInputIndex INDEX = ControllerInputIndex.builder()
+            .addButton(SOUTH_BUTTON)
+            .addButton(EAST_BUTTON)
+            .addButton(WEST_BUTTON)
+            .addButton(NORTH_BUTTON)
+            .addButton(LEFT_SHOULDER_BUTTON)
+            .addButton(RIGHT_SHOULDER_BUTTON)
+            .addButton(LEFT_STICK_BUTTON)
+            .addButton(RIGHT_STICK_BUTTON)
+            .addButton(BACK_BUTTON)
+            .addButton(START_BUTTON)
+            .addButton(GUIDE_BUTTON)
+            .addButton(DPAD_UP_BUTTON)
+            .addButton(DPAD_DOWN_BUTTON)
+            .addButton(DPAD_LEFT_BUTTON)
+            .addButton(DPAD_RIGHT_BUTTON)
+            .addButton(MISC_1_BUTTON)
+            .addButton(MISC_2_BUTTON)
+            .addButton(MISC_3_BUTTON)
+            .addButton(MISC_4_BUTTON)
+            .addButton(MISC_5_BUTTON)
+            .addButton(MISC_6_BUTTON)
+            .addButton(RIGHT_PADDLE_1_BUTTON)
+            .addButton(RIGHT_PADDLE_2_BUTTON)
+            .addButton(LEFT_PADDLE_1_BUTTON)
+            .addButton(LEFT_PADDLE_2_BUTTON)
+            .addButton(TOUCHPAD_BUTTON)
+            .addAxis(LEFT_TRIGGER_AXIS)
+            .addAxis(RIGHT_TRIGGER_AXIS)
+            .addAxis(LEFT_STICK_AXIS_UP)
+            .addAxis(LEFT_STICK_AXIS_DOWN)
+            .addAxis(LEFT_STICK_AXIS_LEFT)
+            .addAxis(LEFT_STICK_AXIS_RIGHT)
+            .addAxis(RIGHT_STICK_AXIS_UP)
+            .addAxis(RIGHT_STICK_AXIS_DOWN)
+            .addAxis(RIGHT_STICK_AXIS_LEFT)
+            .addAxis(RIGHT_STICK_AXIS_RIGHT)
+            .build();
+
     public static Input getBind(ResourceLocation id) {
         return switch (id.getPath().split("/")[0]) {
             case "button" -> new ButtonInput(id);
@@ -4,6 +4,7 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.mojang.serialization.JsonOps;
 import dev.isxander.controlify.Controlify;
+import dev.isxander.controlify.bindings.BindingEvaluator;
 import dev.isxander.controlify.bindings.ControlifyBindApiImpl;
 import dev.isxander.controlify.bindings.ControlifyBindings;
 import dev.isxander.controlify.api.bind.InputBinding;
@@ -15,10 +16,11 @@ import dev.isxander.controlify.controller.serialization.CustomSaveLoadConfig;
 import dev.isxander.controlify.controller.serialization.IConfig;
 import dev.isxander.controlify.controller.input.mapping.ControllerMapping;
 import dev.isxander.controlify.controller.impl.ConfigImpl;
-import dev.isxander.controlify.controller.input.mapping.ControllerMappingStorage;
+import dev.isxander.controlify.controller.impl.ControllerStateBuffers;
 import dev.isxander.controlify.gui.screen.RadialMenuScreen;
 import dev.isxander.controlify.utils.CUtil;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import net.minecraft.resources.ResourceLocation;
 import org.jetbrains.annotations.Nullable;
 
@@ -36,11 +38,22 @@ public class InputComponent implements ECSComponent, ConfigHolder<InputComponent
             stateThen = ControllerState.EMPTY;
     private DeadzoneControllerStateView deadzoneStateNow, deadzoneStateThen;
 
+    private DeadzoneTable deadzoneTable = DeadzoneTable.EMPTY;
+    private @Nullable ControllerMapping deadzoneMapping;
+    private @Nullable Config deadzoneConfig;
+    private boolean deadzonesDirty = true;
+
+    private @Nullable ControllerMapping bufferedMapping;
+    private @Nullable ControllerStateBuffers mappedStates;
+
+    private @Nullable InputSampleBuffer sampleBuffer;
+
     private final int buttonCount, axisCount, hatCount;
     private final Map<ResourceLocation, DeadzoneGroup> deadzoneAxes;
     private final boolean definitelyGamepad;
 
     private final Map<ResourceLocation, InputBinding> inputBindings;
+    private final BindingEvaluator bindingEvaluator;
 
     private final IConfig<Config> config;
 
@@ -49,13 +62,15 @@ public class InputComponent implements ECSComponent, ConfigHolder<InputComponent
         this.buttonCount = buttonCount;
         this.axisCount = axisCount;
         this.hatCount = hatCount;
-        this.config = new ConfigImpl<>(() -> new Config(ControllerMappingStorage.get(mappingId)), Config.class, this);
+        this.config = new ConfigImpl<>(() -> new Config(Controlify.instance().controllerMappingStorage().get(mappingId)), Config.class, this);
         this.definitelyGamepad = definitelyGamepad;
         this.deadzoneAxes = deadzoneAxes.stream()
                 .collect(Collectors.toMap(DeadzoneGroup::name, Function.identity(), (x, y) -> y, LinkedHashMap::new));
         this.inputBindings = new LinkedHashMap<>();
+        this.bindingEvaluator = new BindingEvaluator(this.inputBindings.values());
 
-        this.updateDeadzoneView();
+        this.deadzoneStateNow = new DeadzoneControllerStateView(this.stateNow);
+        this.deadzoneStateThen = new DeadzoneControllerStateView(this.stateThen);
     }
 
     public ControllerStateView stateNow() {
@@ -73,19 +88,42 @@ public class InputComponent implements ECSComponent, ConfigHolder<InputComponent
         return this.stateThen;
     }
 
+    /**
+     * Pushes a new state from the driver, rotating the current state to the previous.
+     * <p>
+     * The pushed state is retained as {@link #rawStateNow()} until the next two pushes,
+     * so drivers should write into a {@link ControllerStateBuffers} rather than allocating.
+     */
     public void pushState(ControllerState state) {
         ControllerMapping mapping = confObj().mapping;
-        if (mapping != null) {
-            state = mapping.mapState(state);
+        if (mapping != null && !mapping.isIdentity()) {
+            if (mapping != this.bufferedMapping || this.mappedStates == null) {
+                this.bufferedMapping = mapping;
+                this.mappedStates = new ControllerStateBuffers(mapping.createOutputIndex());
+            }
+
+            ModifiableControllerState mappedState = this.mappedStates.nextBackBuffer();
+            mapping.mapState(state, mappedState);
+            state = mappedState;
         }
 
         this.stateThen = this.stateNow;
         this.stateNow = state;
         this.updateDeadzoneView();
 
-        for (InputBinding binding : this.inputBindings.values()) {
-            binding.pushState(this.deadzoneStateNow);
-        }
+        this.bindingEvaluator.evaluate(this.deadzoneStateNow, confObj().buttonActivationThreshold);
+    }
+
+    /**
+     * @return the buffer that a polling thread publishes high-rate samples into,
+     *         or null if the driver does not support sampling
+     */
+    public @Nullable InputSampleBuffer sampleBuffer() {
+        return this.sampleBuffer;
+    }
+
+    public void setSampleBuffer(@Nullable InputSampleBuffer sampleBuffer) {
+        this.sampleBuffer = sampleBuffer;
     }
 
     public @Nullable InputBinding getBinding(ResourceLocation id) {
@@ -107,6 +145,7 @@ public class InputComponent implements ECSComponent, ConfigHolder<InputComponent
         for (InputBinding binding : ControlifyBindApiImpl.INSTANCE.provideBindsForController(controller)) {
             this.inputBindings.put(binding.id(), binding);
         }
+        this.bindingEvaluator.invalidate();
     }
 
     public int buttonCount() {
@@ -138,18 +177,56 @@ public class InputComponent implements ECSComponent, ConfigHolder<InputComponent
         return this.config;
     }
 
+    /**
+     * Marks the compiled bindings as stale. Must be called after rebinding an input.
+     */
+    public void invalidateBindings() {
+        this.bindingEvaluator.invalidate();
+    }
+
+    /**
+     * Marks the compiled deadzone table as stale. Must be called after
+     * modifying {@link Config#deadzones} or {@link Config#radialDeadzones}.
+     */
+    public void invalidateDeadzones() {
+        this.deadzonesDirty = true;
+    }
+
+    DeadzoneTable deadzoneTable() {
+        return this.deadzoneTable;
+    }
+
     private void updateDeadzoneView() {
-        this.deadzoneStateNow = new DeadzoneControllerStateView(this.stateNow, this);
-        this.deadzoneStateThen = new DeadzoneControllerStateView(this.stateThen, this);
+        boolean rebuilt = this.updateDeadzoneTable();
+
+        // the view for the last tick already has its deadzones applied, so rotate the views
+        // rather than applying them again
+        DeadzoneControllerStateView previous = this.deadzoneStateNow;
+        this.deadzoneStateNow = this.deadzoneStateThen;
+        this.deadzoneStateThen = previous;
+
+        this.deadzoneStateNow.setView(this.stateNow, this.deadzoneTable);
+        if (rebuilt && this.stateThen.inputIndex() == this.deadzoneTable.index()) {
+            this.deadzoneStateThen.setView(this.stateThen, this.deadzoneTable);
+        }
     }
 
-    Optional<ResourceLocation> getDeadzoneForAxis(ResourceLocation axis) {
-        for (DeadzoneGroup group : this.getDeadzoneGroups().values()) {
-            if (group.axes().contains(axis)) {
-                return Optional.of(group.name());
-            }
+    private boolean updateDeadzoneTable() {
+        Config config = confObj();
+        ControllerInputIndex index = this.stateNow.inputIndex();
+
+        if (!this.deadzonesDirty
+                && this.deadzoneTable.index() == index
+                && this.deadzoneMapping == config.mapping
+                && this.deadzoneConfig == config) {
+            return false;
         }
-        return Optional.empty();
+
+        this.deadzoneTable = DeadzoneTable.compile(index, this.getDeadzoneGroups().values(), config);
+        this.deadzoneMapping = config.mapping;
+        this.deadzoneConfig = config;
+        this.deadzonesDirty = false;
+        return true;
     }
 
     @Override
@@ -215,6 +292,7 @@ public class InputComponent implements ECSComponent, ConfigHolder<InputComponent
         public float buttonActivationThreshold = 0.5f;
 
         public Map<ResourceLocation, Float> deadzones = new Object2ObjectOpenHashMap<>();
+        public Set<ResourceLocation> radialDeadzones = new ObjectOpenHashSet<>();
         public boolean deadzonesCalibrated = false;
         public boolean delayedCalibration = false;
 
@@ -244,8 +322,10 @@ public class InputComponent implements ECSComponent, ConfigHolder<InputComponent
                     changed = true;
                 }
             }
-            if (changed)
+            if (changed) {
+                controller.input().orElseThrow().config().markDirty();
                 Controlify.instance().config().setDirty();
+            }
         }
 
         private void setDefaultRadialAction(int index) {
@@ -0,0 +1,106 @@
+package dev.isxander.controlify.controller.input;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free, single-writer/multi-reader ring of timestamped axis samples.
+ * <p>
+ * The writer is a high-rate polling thread, readers are per-frame consumers on the render thread.
+ * Each slot is guarded by a sequence stamp (a per-slot seqlock): the writer invalidates the stamp,
+ * writes the sample, then publishes the new stamp. A reader copies a slot and checks that the stamp
+ * did not change underneath it, so it never observes a torn sample and never blocks the writer.
+ */
+public final class InputSampleBuffer {
+    private static final long WRITING = -1;
+
+    private final ControllerInputIndex index;
+    private final int axisCount;
+    private final int mask;
+
+    private final float[] axes;
+    private final long[] timestamps;
+    private final AtomicLongArray stamps;
+
+    private volatile long published = -1;
+
+    /**
+     * @param index the index the written axes are addressed by
+     * @param capacity number of samples retained, rounded up to a power of two
+     */
+    public InputSampleBuffer(ControllerInputIndex index, int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+
+        this.index = index;
+        this.axisCount = index.axisCount();
+        this.mask = size - 1;
+        this.axes = new float[size * axisCount];
+        this.timestamps = new long[size];
+        this.stamps = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            this.stamps.set(i, WRITING);
+        }
+    }
+
+    /**
+     * Publishes a new sample. Must only ever be called from a single thread.
+     *
+     * @param timestampNanos {@link System#nanoTime()} at which the sample was taken
+     * @param sample the state to copy the axes of, addressed by {@link #index()}
+     */
+    public void publish(long timestampNanos, ControllerStateView sample) {
+        long sequence = published + 1;
+        int slot = (int) (sequence & mask);
+
+        stamps.set(slot, WRITING);
+        VarHandle.releaseFence();
+
+        int offset = slot * axisCount;
+        for (int i = 0; i < axisCount; i++) {
+            axes[offset + i] = sample.getAxisState(i);
+        }
+        timestamps[slot] = timestampNanos;
+
+        stamps.set(slot, sequence);
+        published = sequence;
+    }
+
+    /**
+     * @return the sequence number of the latest sample, or -1 if none have been published
+     */
+    public long publishedSequence() {
+        return published;
+    }
+
+    /**
+     * Copies the axes of the sample with the given sequence number into {@code out},
+     * which must be addressed by {@link #index()}.
+     *
+     * @return the sample's timestamp, or -1 if the sample has already been overwritten
+     */
+    public long read(long sequence, ModifiableControllerState out) {
+        int slot = (int) (sequence & mask);
+        if (stamps.get(slot) != sequence)
+            return -1;
+
+        int offset = slot * axisCount;
+        for (int i = 0; i < axisCount; i++) {
+            out.setAxis(i, axes[offset + i]);
+        }
+        long timestamp = timestamps[slot];
+
+        VarHandle.acquireFence();
+        if (stamps.get(slot) != sequence)
+            return -1;
+
+        return timestamp;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    public ControllerInputIndex index() {
+        return this.index;
+    }
+}
@@ -0,0 +1,120 @@
+package dev.isxander.controlify.controller.input;
+
+import dev.isxander.controlify.controller.impl.IndexedControllerState;
+import dev.isxander.controlify.controller.input.mapping.ControllerMapping;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Consumes the high-rate samples of a single {@link InputComponent}, for use on the render thread.
+ * <p>
+ * Each sample is passed through the controller's mapping and deadzones, the same as a tick state,
+ * along with the time elapsed since the previous sample. Samples only carry axes, so buttons
+ * and hats always read as released.
+ * All scratch states are reused, so draining does not allocate.
+ */
+public final class InputSampleReader {
+    /** Longest gap between two samples that is integrated, so a stall does not cause a jump. */
+    private static final float MAX_SAMPLE_DELTA = 0.05f;
+    /** How old the latest sample may be before sampling is considered to have stopped. */
+    private static final long STALE_NANOS = 100_000_000L;
+
+    private final InputComponent input;
+    private final DeadzoneControllerStateView view;
+
+    private @Nullable InputSampleBuffer buffer;
+    private @Nullable IndexedControllerState rawState, mappedState;
+    private long cursor = -1;
+    private long lastTimestamp = -1;
+
+    public InputSampleReader(InputComponent input) {
+        this.input = input;
+        this.view = new DeadzoneControllerStateView(ControllerState.EMPTY);
+    }
+
+    /**
+     * Passes every sample published since the last drain to {@code consumer}, oldest first.
+     * If more samples were published than the buffer retains, the oldest are skipped.
+     *
+     * @return the number of samples consumed
+     */
+    public int drain(SampleConsumer consumer) {
+        InputSampleBuffer buffer = input.sampleBuffer();
+        if (buffer == null)
+            return 0;
+
+        if (buffer != this.buffer) {
+            this.buffer = buffer;
+            this.rawState = new IndexedControllerState(buffer.index());
+            this.cursor = -1;
+            this.lastTimestamp = -1;
+        }
+
+        long published = buffer.publishedSequence();
+        if (published < 0 || published == this.cursor)
+            return 0;
+
+        // there is no previous sample to integrate from, just mark where to start
+        if (this.cursor < 0) {
+            this.lastTimestamp = buffer.read(published, this.rawState);
+            this.cursor = published;
+            return 0;
+        }
+
+        int count = 0;
+        long first = Math.max(this.cursor + 1, published - buffer.capacity() + 1);
+        for (long sequence = first; sequence <= published; sequence++) {
+            long timestamp = buffer.read(sequence, this.rawState);
+            if (timestamp < 0)
+                continue; // overwritten while it was being read
+
+            float deltaSeconds = Math.min(Math.max((timestamp - this.lastTimestamp) / 1e9f, 0f), MAX_SAMPLE_DELTA);
+            this.lastTimestamp = timestamp;
+
+            ControllerStateView state = this.prepare(this.rawState);
+            if (state == null)
+                break;
+
+            consumer.accept(state, deltaSeconds);
+            count++;
+        }
+        this.cursor = published;
+
+        return count;
+    }
+
+    /**
+     * @return whether samples are being published, so a consumer should prefer them over tick states
+     */
+    public boolean isActive() {
+        return this.lastTimestamp >= 0 && System.nanoTime() - this.lastTimestamp < STALE_NANOS;
+    }
+
+    private @Nullable ControllerStateView prepare(IndexedControllerState raw) {
+        // the table is compiled against whatever layout the tick states currently use,
+        // so samples are mapped into that same layout
+        DeadzoneTable table = input.deadzoneTable();
+        ControllerState state = raw;
+
+        ControllerMapping mapping = input.confObj().mapping;
+        if (mapping != null && !mapping.isIdentity()) {
+            if (this.mappedState == null || this.mappedState.inputIndex() != table.index()) {
+                this.mappedState = new IndexedControllerState(table.index());
+            }
+            this.mappedState.clearState();
+            mapping.mapState(raw, this.mappedState);
+            state = this.mappedState;
+        }
+
+        // deadzones have not been compiled for this layout yet, wait for the next tick
+        if (state.inputIndex() != table.index())
+            return null;
+
+        this.view.setView(state, table);
+        return this.view;
+    }
+
+    @FunctionalInterface
+    public interface SampleConsumer {
+        void accept(ControllerStateView state, float deltaSeconds);
+    }
+}
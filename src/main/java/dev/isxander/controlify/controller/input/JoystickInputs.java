@@ -11,6 +11,26 @@ public final class JoystickInputs {
     private JoystickInputs() {
     }
 
+    /**
+     * Creates an input index for a joystick with the given physical input counts.
+     * Buttons and hats keep their native index, each axis occupies two slots,
+     * positive at {@code 2 * index} and negative at {@code 2 * index + 1}.
+     */
+    public static ControllerInputIndex createIndex(int buttonCount, int axisCount, int hatCount) {
+        ControllerInputIndex.Builder builder = ControllerInputIndex.builder();
+        for (int i = 0; i < buttonCount; i++) {
+            builder.addButton(button(i));
+        }
+        for (int i = 0; i < axisCount; i++) {
+            builder.addAxis(axis(i, true));
+            builder.addAxis(axis(i, false));
+        }
+        for (int i = 0; i < hatCount; i++) {
+            builder.addHat(hat(i));
+        }
+        return builder.build();
+    }
+
     public static ResourceLocation button(int index) {
         ResourceLocation cache = BUTTONS[index];
 
@@ -3,9 +3,19 @@ package dev.isxander.controlify.controller.input;
 import net.minecraft.resources.ResourceLocation;
 
 public interface ModifiableControllerState extends ControllerState {
+    /**
+     * Ids that are not part of this state's {@link #inputIndex()} are ignored,
+     * as they are for {@link #setAxis(ResourceLocation, float)} and {@link #setHat(ResourceLocation, HatState)}.
+     */
     void setButton(ResourceLocation button, boolean pressed);
 
     void setAxis(ResourceLocation axis, float value);
 
     void setHat(ResourceLocation hat, HatState state);
+
+    void setButton(int button, boolean pressed);
+
+    void setAxis(int axis, float value);
+
+    void setHat(int hat, HatState state);
 }
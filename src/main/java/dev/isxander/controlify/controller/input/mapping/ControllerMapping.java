@@ -1,9 +1,9 @@
 package dev.isxander.controlify.controller.input.mapping;
 
+import dev.isxander.controlify.controller.input.ControllerInputIndex;
 import dev.isxander.controlify.controller.input.ControllerState;
 import dev.isxander.controlify.controller.input.DeadzoneGroup;
 import dev.isxander.controlify.controller.input.ModifiableControllerState;
-import dev.isxander.controlify.controller.impl.ControllerStateImpl;
 import net.minecraft.resources.ResourceLocation;
 
 import java.util.*;
@@ -13,18 +13,29 @@ public record ControllerMapping(
         LinkedHashMap<ResourceLocation, DeadzoneGroup> deadzones
 ) implements StateMapper {
     @Override
-    public ControllerState mapState(ControllerState state) {
-        if (mappings.isEmpty()) {
-            return state;
+    public void mapState(ControllerState state, ModifiableControllerState newState) {
+        for (MappingEntry mapping : mappings) {
+            mapping.apply(state, newState);
         }
+    }
 
-        ModifiableControllerState newState = new ControllerStateImpl();
+    @Override
+    public boolean isIdentity() {
+        return mappings.isEmpty();
+    }
 
+    @Override
+    public ControllerInputIndex createOutputIndex() {
+        ControllerInputIndex.Builder builder = ControllerInputIndex.builder();
         for (MappingEntry mapping : mappings) {
-            mapping.apply(state, newState);
+            switch (mapping.outputType()) {
+                case BUTTON -> builder.addButton(mapping.to());
+                case AXIS -> builder.addAxis(mapping.to());
+                case HAT -> builder.addHat(mapping.to());
+                case NOTHING -> {}
+            }
         }
-
-        return newState;
+        return builder.build();
     }
 
     public static final ControllerMapping NO_MAPPING = new Builder().build();
@@ -1,22 +1,90 @@
 package dev.isxander.controlify.controller.input.mapping;
 
 import dev.isxander.controlify.config.ControlifyConfig;
+import dev.isxander.controlify.platform.client.resource.ReloadCache;
+import dev.isxander.controlify.platform.client.resource.SimpleControlifyReloadListener;
 import dev.isxander.controlify.utils.CUtil;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import net.minecraft.Util;
 import net.minecraft.client.Minecraft;
+import net.minecraft.resources.FileToIdConverter;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.packs.resources.Resource;
 import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.util.profiling.ProfilerFiller;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
-public class ControllerMappingStorage {
-    private static final Map<String, ControllerMapping> MAPPINGS = new Object2ObjectOpenHashMap<>();
+/**
+ * Controller mappings, preloaded from {@code assets/controlify/mappings} on every resource reload,
+ * so creating a controller never has to parse them, and they can be looked up from any thread.
+ */
+public class ControllerMappingStorage implements SimpleControlifyReloadListener<ControllerMappingStorage.Preparations> {
+    private static final FileToIdConverter converter = FileToIdConverter.json("mappings");
 
-    public static @Nullable ControllerMapping get(String id) {
-        return MAPPINGS.computeIfAbsent(id, ControllerMappingStorage::resolve);
+    private final ReloadCache<ControllerMapping> mappingCache = new ReloadCache<>(getReloadId());
+    // null until the first reload, before which mappings are resolved on demand
+    private volatile @Nullable Map<String, ControllerMapping> mappings;
+
+    public @Nullable ControllerMapping get(String id) {
+        Map<String, ControllerMapping> mappings = this.mappings;
+        if (mappings != null)
+            return mappings.get(id);
+
+        return resolve(id);
+    }
+
+    @Override
+    public CompletableFuture<Preparations> load(ResourceManager manager, ProfilerFiller profiler, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+                    mappingCache.beginReload();
+                    return converter.listMatchingResources(manager);
+                }, executor)
+                .thenCompose(resources -> {
+                    List<String> ids = new ArrayList<>(resources.size());
+                    List<CompletableFuture<@Nullable ControllerMapping>> futures = new ArrayList<>(resources.size());
+                    resources.forEach((rl, resource) -> {
+                        // mappings were only ever looked up in controlify's namespace
+                        if (!rl.getNamespace().equals("controlify"))
+                            return;
+
+                        ids.add(converter.fileToId(rl).getPath());
+                        futures.add(CompletableFuture.supplyAsync(() -> readMapping(rl, resource), executor));
+                    });
+
+                    return Util.sequence(futures).thenApply(parsed -> {
+                        mappingCache.endReload();
+
+                        Map<String, ControllerMapping> mappings = new HashMap<>();
+                        for (int i = 0; i < ids.size(); i++) {
+                            if (parsed.get(i) != null) {
+                                mappings.put(ids.get(i), parsed.get(i));
+                            }
+                        }
+                        return new Preparations(mappings);
+                    });
+                });
+    }
+
+    @Override
+    public CompletableFuture<Void> apply(Preparations data, ResourceManager manager, ProfilerFiller profiler, Executor executor) {
+        return CompletableFuture.runAsync(() -> this.mappings = Map.copyOf(data.mappings()), executor);
+    }
+
+    private @Nullable ControllerMapping readMapping(ResourceLocation rl, Resource resource) {
+        try {
+            return mappingCache.decode(rl, resource, reader -> ControlifyConfig.GSON.fromJson(reader, ControllerMapping.class));
+        } catch (Exception e) {
+            CUtil.LOGGER.error("Failed to load controller mapping {}", rl, e);
+            return null;
+        }
     }
 
     private static @Nullable ControllerMapping resolve(String id) {
@@ -33,4 +101,12 @@ public class ControllerMappingStorage {
             throw new IllegalStateException("Failed to load controller mapping!", e);
         }
     }
+
+    @Override
+    public ResourceLocation getReloadId() {
+        return CUtil.rl("controller_mappings");
+    }
+
+    public record Preparations(Map<String, ControllerMapping> mappings) {
+    }
 }
@@ -9,6 +9,8 @@ import net.minecraft.util.Mth;
 public sealed interface MappingEntry {
     void apply(ControllerState oldState, ModifiableControllerState newState);
 
+    ResourceLocation to();
+
     MapType inputType();
 
     MapType outputType();
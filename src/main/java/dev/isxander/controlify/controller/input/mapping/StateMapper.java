@@ -1,7 +1,19 @@
 package dev.isxander.controlify.controller.input.mapping;
 
+import dev.isxander.controlify.controller.input.ControllerInputIndex;
 import dev.isxander.controlify.controller.input.ControllerState;
+import dev.isxander.controlify.controller.input.ModifiableControllerState;
 
 public interface StateMapper {
-   ControllerState mapState(ControllerState state);
+    /**
+     * Maps {@code state} into {@code newState}, which must be indexed by {@link #createOutputIndex()}.
+     */
+    void mapState(ControllerState state, ModifiableControllerState newState);
+
+    /**
+     * @return true if {@link #mapState(ControllerState, ModifiableControllerState)} would not change anything
+     */
+    boolean isIdentity();
+
+    ControllerInputIndex createOutputIndex();
 }
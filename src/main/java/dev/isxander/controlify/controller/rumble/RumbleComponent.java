@@ -13,30 +13,28 @@ import dev.isxander.controlify.utils.CUtil;
 import net.minecraft.resources.ResourceLocation;
 
 import java.util.Map;
-import java.util.Optional;
 
 public class RumbleComponent implements ECSComponent, ConfigHolder<RumbleComponent.Config> {
     public static final ResourceLocation ID = CUtil.rl("rumble");
 
-    private RumbleState state = null;
+    private final MotorWriter motorWriter;
     private final IConfig<Config> config;
     private final RumbleManager rumbleManager;
 
-    public RumbleComponent() {
+    /**
+     * @param motorWriter writes a motor state directly to the device
+     */
+    public RumbleComponent(MotorWriter motorWriter) {
+        this.motorWriter = motorWriter;
         this.config = new ConfigImpl<>(Config::new, Config.class);
         this.rumbleManager = new RumbleManager(this);
     }
 
-    public void queueRumble(RumbleState state) {
-        if (confObj().enabled) {
-            this.state = state;
-        }
-    }
-
-    public Optional<RumbleState> consumeRumble() {
-        RumbleState state = this.state;
-        this.state = null;
-        return Optional.ofNullable(state);
+    /**
+     * Sets the state of the motors. The {@link RumbleManager} only calls this when the state has changed.
+     */
+    public void writeRumble(float strong, float weak) {
+        motorWriter.write(strong, weak);
     }
 
     public RumbleManager rumbleManager() {
@@ -54,16 +52,31 @@ public class RumbleComponent implements ECSComponent, ConfigHolder<RumbleCompone
         public Map<ResourceLocation, Float> vibrationStrengths = RumbleSource.getDefaultMap();
 
         public RumbleState applyRumbleStrength(RumbleState state, RumbleSource source) {
-            float strength = this.getStrength(source);
+            return state.mul(this.getStrength(source));
+        }
+
+        /**
+         * @return the multiplier applied to effects of this source, including the master strength
+         */
+        public float getStrength(RumbleSource source) {
+            float strength = this.getSourceStrength(source);
             if (source != RumbleSource.MASTER) { // don't apply master twice
-                strength *= this.getStrength(RumbleSource.MASTER);
+                strength *= this.getSourceStrength(RumbleSource.MASTER);
             }
-
-            return state.mul(strength);
+            return strength;
         }
 
-        private float getStrength(RumbleSource source) {
+        private float getSourceStrength(RumbleSource source) {
             return this.vibrationStrengths.getOrDefault(source.id(), 1f);
         }
     }
+
+    @FunctionalInterface
+    public interface MotorWriter {
+        /**
+         * @param strong strength of the low frequency motor, from 0 to 1
+         * @param weak strength of the high frequency motor, from 0 to 1
+         */
+        void write(float strong, float weak);
+    }
 }
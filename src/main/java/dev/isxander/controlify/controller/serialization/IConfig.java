@@ -11,9 +11,21 @@ public interface IConfig<T extends ConfigClass> extends ECSComponent {
 
     T defaultConfig();
 
+    /**
+     * Serializes the config. If it has not been {@link #markDirty() changed} since it was last serialized,
+     * the previous element is returned, so the result is shared and must not be modified.
+     */
     JsonElement serialize(Gson gson, ControllerEntity controller) throws SerializationException;
 
     void deserialize(JsonElement element, Gson gson, ControllerEntity controller) throws SerializationException;
 
     void resetToDefault();
+
+    /**
+     * Marks the config as changed, so it is re-serialized on the next save.
+     * Must be called whenever the {@link #config()} instance is modified.
+     */
+    void markDirty();
+
+    boolean isDirty();
 }
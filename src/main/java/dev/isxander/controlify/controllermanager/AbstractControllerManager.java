@@ -34,6 +34,7 @@ public abstract class AbstractControllerManager implements ControllerManager {
     protected final Map<String, ControllerHIDService.ControllerHIDInfo> hidInfoByUid = new Object2ObjectOpenHashMap<>();
 
     protected final Map<String, Driver> driversByUid = new Object2ObjectOpenHashMap<>();
+    private final Map<String, ControlifyEvents.ControllerStateUpdate> stateUpdateEvents = new Object2ObjectOpenHashMap<>();
 
     public AbstractControllerManager() {
         this.controlify = Controlify.instance();
@@ -72,15 +73,24 @@ public abstract class AbstractControllerManager implements ControllerManager {
 
     @Override
     public void tick(boolean outOfFocus) {
+        boolean hasStateListeners = ControlifyEvents.CONTROLLER_STATE_UPDATE.hasListeners();
         for (Driver driver : driversByUid.values()) {
             driver.update(outOfFocus);
-            ControlifyEvents.CONTROLLER_STATE_UPDATE.invoke(new ControlifyEvents.ControllerStateUpdate(driver.getController()));
+            if (hasStateListeners) {
+                // the event is immutable, so one per controller is reused every tick
+                ControlifyEvents.CONTROLLER_STATE_UPDATE.invoke(stateUpdateEvents.get(driver.getController().info().uid()));
+            }
         }
     }
 
     protected void onControllerConnected(ControllerEntity controller, boolean hotplug) {
-        boolean newController = controlify.config().loadControllerConfig(controller);
+        onControllerConnected(controller, hotplug, controlify.config().loadControllerConfig(controller));
+    }
 
+    /**
+     * @param newController whether the controller had no config, as its config has already been loaded
+     */
+    protected void onControllerConnected(ControllerEntity controller, boolean hotplug, boolean newController) {
         CUtil.LOGGER.info("Controller connected: {}", ControllerUtils.createControllerString(controller));
 
         ControlifyEvents.CONTROLLER_CONNECTED.invoke(new ControlifyEvents.ControllerConnected(controller, hotplug, newController));
@@ -109,6 +119,7 @@ public abstract class AbstractControllerManager implements ControllerManager {
         controllersByUid.put(controller.info().uid(), controller);
         controllersByJid.put(ucid, controller);
         driversByUid.put(controller.info().uid(), driver);
+        stateUpdateEvents.put(controller.info().uid(), new ControlifyEvents.ControllerStateUpdate(controller));
     }
 
     protected void removeController(String uid) {
@@ -118,6 +129,7 @@ public abstract class AbstractControllerManager implements ControllerManager {
                 .ifPresent(controlify.controllerHIDService()::unconsumeController);
         closeController(uid);
         driversByUid.remove(uid);
+        stateUpdateEvents.remove(uid);
     }
 
     @Override
@@ -11,6 +11,12 @@ public interface ControllerManager {
 
     void tick(boolean outOfFocus);
 
+    /**
+     * Called every frame to deliver sensor reports that arrive faster than the game ticks.
+     */
+    default void pollSensors() {
+    }
+
     boolean probeConnectedControllers();
 
     List<ControllerEntity> getConnectedControllers();
@@ -36,6 +36,8 @@ public class GLFWControllerManager extends AbstractControllerManager {
                             .ifPresent(controller -> onControllerConnected(controller, true));
                 } else if (event == GLFW.GLFW_DISCONNECTED) {
                     getController(ucid).ifPresent(this::onControllerRemoved);
+                    // keep the snapshot current, so the next connection is more likely to be in it already
+                    controlify.controllerHIDService().requestScan();
                 }
             } catch (Throwable e) {
                 CUtil.LOGGER.error("Failed to handle controller connect/disconnect event", e);
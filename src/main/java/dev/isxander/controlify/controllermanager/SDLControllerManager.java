@@ -1,13 +1,18 @@
 package dev.isxander.controlify.controllermanager;
 
 import com.google.common.io.ByteStreams;
+import com.google.gson.JsonObject;
 import com.sun.jna.Memory;
 import com.sun.jna.Pointer;
 import dev.isxander.controlify.Controlify;
 import dev.isxander.controlify.controller.id.ControllerType;
 import dev.isxander.controlify.controller.ControllerEntity;
+import dev.isxander.controlify.config.GlobalSettings;
 import dev.isxander.controlify.debug.DebugProperties;
+import dev.isxander.controlify.driver.Driver;
+import dev.isxander.controlify.driver.InputPollingThread;
 import dev.isxander.controlify.driver.SDL3NativesManager;
+import dev.isxander.controlify.driver.SampledDriver;
 import dev.isxander.controlify.driver.sdl.SDL3GamepadDriver;
 import dev.isxander.controlify.driver.sdl.SDL3JoystickDriver;
 import dev.isxander.controlify.hid.ControllerHIDService;
@@ -15,47 +20,90 @@ import dev.isxander.controlify.hid.HIDDevice;
 import dev.isxander.controlify.hid.HIDIdentifier;
 import dev.isxander.controlify.utils.CUtil;
 import dev.isxander.controlify.utils.ControllerUtils;
+import dev.isxander.controlify.utils.DebugLog;
 import dev.isxander.sdl3java.api.events.SDL_EventFilter;
 import dev.isxander.sdl3java.api.events.events.SDL_Event;
 import dev.isxander.sdl3java.api.iostream.SDL_IOStream;
 import dev.isxander.sdl3java.api.joystick.SDL_JoystickGUID;
 import dev.isxander.sdl3java.api.joystick.SDL_JoystickID;
 import dev.isxander.sdl3java.jna.size_t;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import net.minecraft.server.packs.resources.Resource;
 import net.minecraft.server.packs.resources.ResourceProvider;
 import org.apache.commons.lang3.Validate;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.InputStream;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static dev.isxander.sdl3java.api.SDL_bool.*;
 import static dev.isxander.sdl3java.api.error.SdlError.*;
+import static dev.isxander.sdl3java.api.events.SDL_EventAction.*;
 import static dev.isxander.sdl3java.api.events.SDL_EventType.*;
 import static dev.isxander.sdl3java.api.events.SdlEvents.*;
 import static dev.isxander.sdl3java.api.gamepad.SdlGamepad.*;
 import static dev.isxander.sdl3java.api.iostream.SdlIOStream.*;
 import static dev.isxander.sdl3java.api.joystick.SdlJoystick.*;
-
+import static dev.isxander.sdl3java.api.sensor.SDL_SensorType.*;
+
+/**
+ * Manages controllers backed by SDL3.
+ * <p>
+ * The client thread owns SDL: the event queue, hotplug, opening and closing devices and rumble.
+ * When high-rate polling is enabled, the {@link InputPollingThread} also calls
+ * {@code SDL_UpdateGamepads} and the gamepad state getters, always while holding its lock.
+ * Every SDL call on the client thread that can race with those goes through
+ * {@link InputPollingThread#runExclusive(Runnable)}, so SDL is never entered from both threads at once.
+ */
 public class SDLControllerManager extends AbstractControllerManager {
+    private static final int SENSOR_EVENT_BATCH = 64;
 
     private SDL_Event event = new SDL_Event();
+    private final SDL_Event[] sensorEvents = (SDL_Event[]) new SDL_Event().toArray(SENSOR_EVENT_BATCH);
+
+    private final Int2ObjectMap<SDL3GamepadDriver> gamepadsByJid = new Int2ObjectOpenHashMap<>();
 
     // must keep a reference to prevent GC from collecting it and the callback failing
     @SuppressWarnings({"FieldCanBeLocal", "unused"})
     private final EventFilter eventFilter;
 
+    private final InputPollingThread inputPoller;
+
+    private final ExecutorService controllerWorker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Controlify Controller Worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // controllers still going through the hotplug pipeline, so a removal can cancel them. main thread only
+    private final Map<UniqueControllerID, PendingController> pendingControllers = new Object2ObjectOpenHashMap<>();
+
     public SDLControllerManager() {
         Validate.isTrue(SDL3NativesManager.isLoaded(), "SDL3 natives must be loaded before creating SDLControllerManager");
 
         SDL_SetEventFilter(eventFilter = new EventFilter(), Pointer.NULL);
+
+        this.inputPoller = new InputPollingThread(() -> SDL_UpdateGamepads(), GlobalSettings.DEFAULT.inputPollingRate);
     }
 
     @Override
     public void tick(boolean outOfFocus) {
-        super.tick(outOfFocus);
+        inputPoller.runExclusive(() -> super.tick(outOfFocus));
 
+        // outside the lock, stopping the poller waits for its thread to exit
+        updateInputPoller();
+
+        inputPoller.runExclusive(this::pumpEvents);
+    }
+
+    private void pumpEvents() {
         SDL_PumpEvents();
 
         if (event == null) {
@@ -70,16 +118,7 @@ public class SDLControllerManager extends AbstractControllerManager {
                     SDL_JoystickID jid = event.jdevice.which;
                     Validate.notNull(jid, "JID was null");
 
-                    UniqueControllerID ucid = new SDLUniqueControllerID(jid);
-
-                    Optional<ControllerEntity> controllerOpt = tryCreate(
-                            ucid,
-                            fetchTypeFromSDL(jid)
-                                    .orElse(new ControllerHIDService.ControllerHIDInfo(ControllerType.DEFAULT, Optional.empty()))
-                    );
-                    controllerOpt.ifPresent(controller -> {
-                        ControllerUtils.wrapControllerError(() -> onControllerConnected(controller, true), "Connecting controller", controller);
-                    });
+                    createControllerAsync(new SDLUniqueControllerID(jid));
                 }
 
                 // On removed, `which` refers to the device instance ID
@@ -87,12 +126,20 @@ public class SDLControllerManager extends AbstractControllerManager {
                     SDL_JoystickID jid = event.jdevice.which;
                     Validate.notNull(jid, "JID was null");
 
-                    getController(new SDLUniqueControllerID(jid))
+                    UniqueControllerID ucid = new SDLUniqueControllerID(jid);
+                    if (pendingControllers.remove(ucid) != null) {
+                        DebugLog.log("Controller {} removed before it finished connecting.", ucid);
+                        continue;
+                    }
+
+                    getController(ucid)
                             .ifPresentOrElse(
                                     this::onControllerRemoved,
                                     () -> CUtil.LOGGER.warn("Controller removed but not found: {}", jid.intValue())
                             );
                 }
+
+                case SDL_EVENT_GAMEPAD_SENSOR_UPDATE -> handleSensorEvent(event);
             }
         }
 
@@ -100,6 +147,34 @@ public class SDLControllerManager extends AbstractControllerManager {
         SDL_UpdateJoysticks();
     }
 
+    @Override
+    public void pollSensors() {
+        inputPoller.runExclusive(this::drainSensorEvents);
+    }
+
+    private void drainSensorEvents() {
+        SDL_UpdateGamepads();
+
+        // only take sensor events, anything else is left for the next tick
+        int count;
+        do {
+            count = SDL_PeepEvents(sensorEvents, sensorEvents.length, SDL_GETEVENT, SDL_EVENT_GAMEPAD_SENSOR_UPDATE, SDL_EVENT_GAMEPAD_SENSOR_UPDATE);
+            for (int i = 0; i < count; i++) {
+                handleSensorEvent(sensorEvents[i]);
+            }
+        } while (count == sensorEvents.length);
+    }
+
+    private void handleSensorEvent(SDL_Event event) {
+        if (event.gsensor.sensor != SDL_SENSOR_GYRO)
+            return;
+
+        SDL3GamepadDriver driver = gamepadsByJid.get(event.gsensor.which.intValue());
+        if (driver != null) {
+            driver.acceptGyroSample(event.gsensor.sensor_timestamp, event.gsensor.data);
+        }
+    }
+
     @Override
     public void discoverControllers() {
         SDL_JoystickID[] joysticks = SDL_GetJoysticks();
@@ -122,19 +197,113 @@ public class SDLControllerManager extends AbstractControllerManager {
                 this.getControllerCountWithMatchingHID(hid.orElse(null))
         ).orElse("unknown-uid-" + ucid);
         boolean isGamepad = isControllerGamepad(ucid) && !DebugProperties.FORCE_JOYSTICK;
-        if (isGamepad) {
-            SDL3GamepadDriver driver = new SDL3GamepadDriver(jid, hidInfo.type(), uid, ucid, hidInfo.hidDevice());
-            this.addController(ucid, driver.getController(), driver);
 
-            return Optional.of(driver.getController());
-        } else {
-            SDL3JoystickDriver driver = new SDL3JoystickDriver(jid, hidInfo.type(), uid, ucid, hidInfo.hidDevice());
-            this.addController(ucid, driver.getController(), driver);
+        Driver driver = isGamepad
+                ? new SDL3GamepadDriver(jid, hidInfo.type(), uid, ucid, hidInfo.hidDevice(), inputPoller)
+                : new SDL3JoystickDriver(jid, hidInfo.type(), uid, ucid, hidInfo.hidDevice(), inputPoller);
+        this.publishController(ucid, driver);
+
+        return Optional.of(driver.getController());
+    }
 
-            return Optional.of(driver.getController());
+    private void publishController(UniqueControllerID ucid, Driver driver) {
+        this.addController(ucid, driver.getController(), driver);
+        if (driver instanceof SDL3GamepadDriver gamepad) {
+            this.inputPoller.register(gamepad);
+            this.gamepadsByJid.put(((SDLUniqueControllerID) ucid).jid.intValue(), gamepad);
         }
     }
 
+    /**
+     * Creates a hotplugged controller without stalling the client thread.
+     * <p>
+     * Only the cheap parts happen on the client thread: reading the controller's ids from SDL,
+     * opening the native handle and finally publishing the controller. Generating the UID,
+     * discovering the DualSense's audio device and decoding the config happen on a worker in between.
+     * The controller is only added to the manager once it is fully ready,
+     * and is discarded if it is removed before then.
+     */
+    private void createControllerAsync(SDLUniqueControllerID ucid) {
+        if (controllersByJid.containsKey(ucid) || pendingControllers.containsKey(ucid)) {
+            CUtil.LOGGER.warn("Tried to create controller that already is initialised: {}", ucid);
+            return;
+        }
+
+        ControllerHIDService.ControllerHIDInfo hidInfo = fetchTypeFromSDL(ucid.jid())
+                .orElse(new ControllerHIDService.ControllerHIDInfo(ControllerType.DEFAULT, Optional.empty()));
+        if (hidInfo.type().dontLoad()) {
+            DebugLog.log("Preventing load of controller #" + ucid + " because its type prevents loading.");
+            return;
+        }
+
+        PendingController pending = new PendingController(
+                ucid,
+                hidInfo,
+                isControllerGamepad(ucid) && !DebugProperties.FORCE_JOYSTICK,
+                getControllerCountWithMatchingHID(hidInfo.hidDevice().map(HIDDevice::asIdentifier).orElse(null))
+        );
+        pendingControllers.put(ucid, pending);
+
+        CompletableFuture.runAsync(pending::identify, controllerWorker)
+                .thenRunAsync(() -> openPending(pending), minecraft)
+                .thenRunAsync(pending::decodeConfig, controllerWorker)
+                .thenRunAsync(() -> publishPending(pending), minecraft)
+                .whenCompleteAsync((result, e) -> {
+                    if (e != null) {
+                        CUtil.LOGGER.error("Failed to create controller #{}!", ucid, e);
+                        pendingControllers.remove(ucid, pending);
+                        inputPoller.runExclusive(pending::discard);
+                    }
+                }, minecraft);
+    }
+
+    private void openPending(PendingController pending) {
+        if (pendingControllers.get(pending.ucid) != pending) {
+            inputPoller.runExclusive(pending::discard);
+            return;
+        }
+
+        inputPoller.runExclusive(() -> pending.open(inputPoller));
+        pending.config = controlify.config().copyControllerConfig(pending.uid);
+    }
+
+    private void publishPending(PendingController pending) {
+        if (pending.driver == null)
+            return;
+        if (pendingControllers.get(pending.ucid) != pending) {
+            inputPoller.runExclusive(pending::discard);
+            return;
+        }
+        pendingControllers.remove(pending.ucid);
+
+        publishController(pending.ucid, pending.driver);
+
+        ControllerEntity controller = pending.driver.getController();
+        ControllerUtils.wrapControllerError(() -> onControllerConnected(controller, true, pending.newController), "Connecting controller", controller);
+    }
+
+    @Override
+    public void closeController(String uid) {
+        // the poller must be done with the driver before it is closed
+        Driver driver = driversByUid.get(uid);
+        if (driver instanceof SampledDriver sampledDriver) {
+            inputPoller.unregister(sampledDriver);
+        }
+        gamepadsByJid.values().remove(driver);
+
+        inputPoller.runExclusive(() -> super.closeController(uid));
+    }
+
+    @Override
+    public void close() {
+        inputPoller.stop();
+        controllerWorker.shutdownNow();
+        pendingControllers.values().forEach(PendingController::discard);
+        pendingControllers.clear();
+
+        super.close();
+    }
+
     @Override
     public boolean probeConnectedControllers() {
         return SDL_GetJoysticks().length > 0;
@@ -152,6 +321,17 @@ public class SDLControllerManager extends AbstractControllerManager {
         return isControllerGamepad(ucid) ? SDL_GetGamepadInstanceName(jid) : SDL_GetJoystickInstanceName(jid);
     }
 
+    private void updateInputPoller() {
+        GlobalSettings settings = controlify.config().globalSettings();
+
+        inputPoller.setRate(Math.max(settings.inputPollingRate, 1));
+        if (settings.highRateInputPolling && !inputPoller.isRunning()) {
+            inputPoller.start();
+        } else if (!settings.highRateInputPolling && inputPoller.isRunning()) {
+            inputPoller.stop();
+        }
+    }
+
     private Optional<ControllerEntity> getController(UniqueControllerID ucid) {
         return Optional.ofNullable(controllersByJid.getOrDefault(ucid, null));
     }
@@ -224,12 +404,75 @@ public class SDLControllerManager extends AbstractControllerManager {
         }
     }
 
+    /**
+     * A controller going through the hotplug pipeline. Each stage only runs after the previous completed,
+     * so the fields are safely handed between the client thread and the worker.
+     */
+    private static final class PendingController {
+        private final SDLUniqueControllerID ucid;
+        private final ControllerHIDService.ControllerHIDInfo hidInfo;
+        private final boolean isGamepad;
+        private final int matchingHIDCount;
+
+        private String uid;
+        private SDL3GamepadDriver.@Nullable DualSenseAudio dualsenseAudio;
+        private @Nullable Driver driver;
+        private @Nullable JsonObject config;
+        private boolean newController;
+
+        private PendingController(SDLUniqueControllerID ucid, ControllerHIDService.ControllerHIDInfo hidInfo, boolean isGamepad, int matchingHIDCount) {
+            this.ucid = ucid;
+            this.hidInfo = hidInfo;
+            this.isGamepad = isGamepad;
+            this.matchingHIDCount = matchingHIDCount;
+        }
+
+        /** Worker thread. */
+        private void identify() {
+            this.uid = hidInfo.createControllerUID(matchingHIDCount).orElse("unknown-uid-" + ucid);
+            if (isGamepad && SDL3GamepadDriver.supportsHDHaptics(hidInfo.type())) {
+                this.dualsenseAudio = SDL3GamepadDriver.openDualSenseAudio();
+            }
+        }
+
+        /** Client thread. */
+        private void open(InputPollingThread inputPoller) {
+            SDL3GamepadDriver.DualSenseAudio audio = this.dualsenseAudio;
+            this.dualsenseAudio = null; // the driver owns it now, even if opening fails
+
+            this.driver = isGamepad
+                    ? new SDL3GamepadDriver(ucid.jid(), hidInfo.type(), uid, ucid, hidInfo.hidDevice(), audio, inputPoller)
+                    : new SDL3JoystickDriver(ucid.jid(), hidInfo.type(), uid, ucid, hidInfo.hidDevice(), inputPoller);
+        }
+
+        /** Worker thread. */
+        private void decodeConfig() {
+            if (driver == null)
+                return;
+
+            this.newController = Controlify.instance().config().decodeControllerConfig(driver.getController(), config);
+        }
+
+        /** Client thread. */
+        private void discard() {
+            if (dualsenseAudio != null) {
+                dualsenseAudio.close();
+                dualsenseAudio = null;
+            }
+            if (driver != null) {
+                driver.close();
+                driver = null;
+            }
+        }
+    }
+
     private static class EventFilter implements SDL_EventFilter {
         @Override
         public int filterEvent(Pointer userdata, SDL_Event event) {
             switch (event.type) {
                 case SDL_EVENT_JOYSTICK_ADDED:
                 case SDL_EVENT_JOYSTICK_REMOVED:
+                case SDL_EVENT_GAMEPAD_SENSOR_UPDATE:
                     return SDL_TRUE;
                 default:
                     return SDL_FALSE;
@@ -20,6 +20,8 @@ public class DebugProperties {
     public static final boolean PRINT_DRIVER = boolProp("controlify.debug.print_driver", true, true);
     /** Debug dumps after finishing init */
     public static final boolean INIT_DUMP = boolProp("controlify.debug.init_dump", false, true);
+    /** Times every event listener, showing the slowest in the debug overlay */
+    public static final boolean PROFILE_EVENTS = boolProp("controlify.debug.profile_events", false, false);
 
     public static void printProperties() {
         if (properties.stream().noneMatch(prop -> prop.enabled() != prop.def()))
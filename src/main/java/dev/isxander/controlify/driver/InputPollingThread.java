@@ -0,0 +1,156 @@
+package dev.isxander.controlify.driver;
+
+import dev.isxander.controlify.utils.CUtil;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Polls registered drivers at a fixed rate, independent of the game's tick and frame rate.
+ * <p>
+ * Each iteration updates the device layer, then asks every driver to publish a sample.
+ * An iteration holds a lock for its whole duration, so once {@link #unregister(SampledDriver)}
+ * returns the driver is guaranteed not to be polled again and can safely be closed.
+ * <p>
+ * The same lock guards the device layer itself: the poller thread only touches devices while
+ * holding it, and any other thread that updates or reads the same devices must do so through
+ * {@link #runExclusive(Runnable)} so the two never call into the device layer concurrently.
+ */
+public final class InputPollingThread {
+    private final Runnable deviceUpdate;
+    private final List<SampledDriver> drivers = new ArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile long intervalNanos;
+    private volatile boolean running;
+    private volatile boolean failed;
+    private volatile @Nullable Thread thread;
+
+    /**
+     * @param deviceUpdate updates the state of all devices, called at the start of each iteration
+     * @param rateHz how many times per second to poll
+     */
+    public InputPollingThread(Runnable deviceUpdate, int rateHz) {
+        this.deviceUpdate = deviceUpdate;
+        this.setRate(rateHz);
+    }
+
+    public void register(SampledDriver driver) {
+        lock.lock();
+        try {
+            drivers.add(driver);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes a driver, blocking until any in-progress poll has finished.
+     */
+    public void unregister(SampledDriver driver) {
+        lock.lock();
+        try {
+            drivers.remove(driver);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Runs an action while no poll is in progress, blocking the poller until it returns.
+     * Must not call {@link #stop()}, which waits for the poller thread to finish.
+     */
+    public void runExclusive(Runnable action) {
+        lock.lock();
+        try {
+            action.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void setRate(int rateHz) {
+        if (rateHz <= 0)
+            throw new IllegalArgumentException("Polling rate must be positive, got " + rateHz);
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / rateHz;
+    }
+
+    /**
+     * Starts polling, unless it is already running or has previously failed.
+     */
+    public void start() {
+        if (thread != null || failed)
+            return;
+
+        running = true;
+        Thread thread = new Thread(this::run, "Controlify Input Poller");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MAX_PRIORITY);
+        this.thread = thread;
+        thread.start();
+    }
+
+    public void stop() {
+        Thread thread = this.thread;
+        if (thread == null)
+            return;
+
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.thread = null;
+    }
+
+    public boolean isRunning() {
+        return thread != null;
+    }
+
+    private void run() {
+        try {
+            poll();
+        } finally {
+            // if polling failed, report as stopped so callers fall back to per-tick input
+            running = false;
+            this.thread = null;
+        }
+    }
+
+    private void poll() {
+        long next = System.nanoTime();
+
+        while (running) {
+            lock.lock();
+            try {
+                deviceUpdate.run();
+
+                long now = System.nanoTime();
+                for (int i = 0; i < drivers.size(); i++) {
+                    drivers.get(i).pollSample(now);
+                }
+            } catch (Throwable t) {
+                CUtil.LOGGER.error("Input polling failed, falling back to per-tick input.", t);
+                running = false;
+                failed = true;
+            } finally {
+                lock.unlock();
+            }
+
+            next += intervalNanos;
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(this, wait);
+            } else {
+                // fell behind, don't try to catch up with a burst of polls
+                next = System.nanoTime();
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package dev.isxander.controlify.driver;
+
+/**
+ * A driver that can be sampled off the main thread by an {@link InputPollingThread},
+ * publishing into its controller's {@link dev.isxander.controlify.controller.input.InputSampleBuffer}.
+ */
+public interface SampledDriver extends Driver {
+    /**
+     * Reads the current axes of the device and publishes them.
+     * Only ever called from the polling thread, and never after the driver has been unregistered.
+     *
+     * @param timestampNanos {@link System#nanoTime()} at which the device was updated
+     */
+    void pollSample(long timestampNanos);
+}
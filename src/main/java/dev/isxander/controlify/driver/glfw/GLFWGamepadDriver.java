@@ -5,7 +5,8 @@ import dev.isxander.controlify.controller.input.GamepadInputs;
 import dev.isxander.controlify.controller.ControllerEntity;
 import dev.isxander.controlify.controller.ControllerInfo;
 import dev.isxander.controlify.controller.input.InputComponent;
-import dev.isxander.controlify.controller.impl.ControllerStateImpl;
+import dev.isxander.controlify.controller.impl.ControllerStateBuffers;
+import dev.isxander.controlify.controller.impl.IndexedControllerState;
 import dev.isxander.controlify.controllermanager.UniqueControllerID;
 import dev.isxander.controlify.driver.Driver;
 import dev.isxander.controlify.hid.HIDDevice;
@@ -23,17 +24,24 @@ public class GLFWGamepadDriver implements Driver {
     private final String guid;
 
     private final ControllerEntity controller;
+    private final InputComponent input;
+
+    private final GLFWGamepadState glfwState;
+    private final ControllerStateBuffers stateBuffers;
 
     public GLFWGamepadDriver(int jid, ControllerType type, String uid, UniqueControllerID ucid, Optional<HIDDevice> hid) {
         this.jid = jid;
         this.guid = glfwGetJoystickGUID(jid);
+        this.glfwState = GLFWGamepadState.create();
+        this.stateBuffers = new ControllerStateBuffers(GamepadInputs.INDEX);
 
         this.getGamepadState(); // test input ability so the create catches it
 
         ControllerInfo info = new ControllerInfo(uid, ucid, this.guid, glfwGetGamepadName(jid), type, hid);
         this.controller = new ControllerEntity(info);
 
-        this.controller.setComponent(new InputComponent(this.controller, 15, 10, 0, true, GamepadInputs.DEADZONE_GROUPS, type.mappingId()), InputComponent.ID);
+        this.input = new InputComponent(this.controller, 15, 10, 0, true, GamepadInputs.DEADZONE_GROUPS, type.mappingId());
+        this.controller.setComponent(this.input, InputComponent.ID);
 
         this.controller.finalise();
     }
@@ -55,7 +63,7 @@ public class GLFWGamepadDriver implements Driver {
 
     private void updateInput() {
         GLFWGamepadState glfwState = this.getGamepadState();
-        ControllerStateImpl state = new ControllerStateImpl();
+        IndexedControllerState state = this.stateBuffers.nextBackBuffer();
 
         state.setAxis(GamepadInputs.LEFT_STICK_AXIS_DOWN, positiveAxis(glfwState.axes(org.lwjgl.glfw.GLFW.GLFW_GAMEPAD_AXIS_LEFT_Y)));
         state.setAxis(GamepadInputs.LEFT_STICK_AXIS_RIGHT, positiveAxis(glfwState.axes(GLFW.GLFW_GAMEPAD_AXIS_LEFT_X)));
@@ -90,13 +98,12 @@ public class GLFWGamepadDriver implements Driver {
         state.setButton(GamepadInputs.DPAD_LEFT_BUTTON, glfwState.buttons(GLFW.GLFW_GAMEPAD_BUTTON_DPAD_LEFT) == GLFW.GLFW_PRESS);
         state.setButton(GamepadInputs.DPAD_RIGHT_BUTTON, glfwState.buttons(GLFW.GLFW_GAMEPAD_BUTTON_DPAD_RIGHT) == GLFW.GLFW_PRESS);
 
-        this.controller.<InputComponent>getComponent(InputComponent.ID).orElseThrow().pushState(state);
+        this.input.pushState(state);
     }
 
     private GLFWGamepadState getGamepadState() {
-        GLFWGamepadState state = GLFWGamepadState.create();
-        glfwGetGamepadState(jid, state);
-        return state;
+        glfwGetGamepadState(jid, glfwState);
+        return glfwState;
     }
 
     private float positiveAxis(float value) {
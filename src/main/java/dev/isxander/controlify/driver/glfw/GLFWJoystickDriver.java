@@ -6,13 +6,15 @@ import dev.isxander.controlify.controller.input.JoystickInputs;
 import dev.isxander.controlify.controller.ControllerEntity;
 import dev.isxander.controlify.controller.ControllerInfo;
 import dev.isxander.controlify.controller.input.InputComponent;
-import dev.isxander.controlify.controller.impl.ControllerStateImpl;
+import dev.isxander.controlify.controller.impl.ControllerStateBuffers;
+import dev.isxander.controlify.controller.impl.IndexedControllerState;
 import dev.isxander.controlify.controllermanager.UniqueControllerID;
 import dev.isxander.controlify.driver.Driver;
 import dev.isxander.controlify.hid.HIDDevice;
 import dev.isxander.controlify.hid.HIDIdentifier;
 import org.apache.commons.lang3.Validate;
 import org.lwjgl.glfw.GLFW;
+import org.lwjgl.system.MemoryStack;
 
 import java.nio.ByteBuffer;
 import java.nio.FloatBuffer;
@@ -20,14 +22,17 @@ import java.util.Optional;
 import java.util.Set;
 
 import static org.lwjgl.glfw.GLFW.*;
+import static org.lwjgl.system.MemoryUtil.*;
 
 public class GLFWJoystickDriver implements Driver {
     private final int jid;
     private final String guid;
     private final String name;
     private final int numButtons, numAxes, numHats;
+    private final ControllerStateBuffers stateBuffers;
 
     private final ControllerEntity controller;
+    private final InputComponent input;
 
     public GLFWJoystickDriver(int jid, ControllerType type, String uid, UniqueControllerID ucid, Optional<HIDDevice> hid) {
         this.jid = jid;
@@ -41,8 +46,10 @@ public class GLFWJoystickDriver implements Driver {
         this.numButtons = testState.buttons().limit();
         this.numAxes = testState.axes().limit();
         this.numHats = testState.hats().limit();
+        this.stateBuffers = new ControllerStateBuffers(JoystickInputs.createIndex(numButtons, numAxes, numHats));
 
-        this.controller.setComponent(new InputComponent(this.controller, numButtons, numAxes * 2, numHats, false, Set.of(), type.mappingId()), InputComponent.ID);
+        this.input = new InputComponent(this.controller, numButtons, numAxes * 2, numHats, false, Set.of(), type.mappingId());
+        this.controller.setComponent(this.input, InputComponent.ID);
 
         this.controller.finalise();
     }
@@ -63,22 +70,34 @@ public class GLFWJoystickDriver implements Driver {
     }
 
     private void updateInput() {
-        GLFWJoystickState glfwState = this.getJoystickState();
+        IndexedControllerState state = this.stateBuffers.nextBackBuffer();
+
+        // read straight from the GLFW-owned arrays to avoid allocating NIO buffer wrappers every tick
+        long axesPtr, buttonsPtr, hatsPtr;
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            long countPtr = stack.nmalloc(Integer.BYTES, Integer.BYTES);
+            axesPtr = nglfwGetJoystickAxes(jid, countPtr);
+            buttonsPtr = nglfwGetJoystickButtons(jid, countPtr);
+            hatsPtr = nglfwGetJoystickHats(jid, countPtr);
+        }
 
-        ControllerStateImpl state = new ControllerStateImpl();
+        Validate.isTrue(buttonsPtr != NULL, "Could not fetch buttons state for joystick");
+        Validate.isTrue(axesPtr != NULL, "Could not fetch axes state for joystick");
+        Validate.isTrue(hatsPtr != NULL, "Could not fetch  hat state for joystick");
 
         for (int i = 0; i < numAxes; i++) {
-            float axis = glfwState.axes().get(i);
-            state.setAxis(JoystickInputs.axis(i, true), Math.max(axis, 0));
-            state.setAxis(JoystickInputs.axis(i, false), -Math.min(axis, 0));
+            float axis = memGetFloat(axesPtr + (long) i * Float.BYTES);
+            state.setAxis(i * 2, Math.max(axis, 0));
+            state.setAxis(i * 2 + 1, -Math.min(axis, 0));
         }
 
         for (int i = 0; i < numButtons; i++) {
-            state.setButton(JoystickInputs.button(i), glfwState.buttons().get(i) == org.lwjgl.glfw.GLFW.GLFW_PRESS);
+            state.setButton(i, memGetByte(buttonsPtr + i) == org.lwjgl.glfw.GLFW.GLFW_PRESS);
         }
 
         for (int i = 0; i < numHats; i++) {
-            HatState hatState = switch (glfwState.hats().get(i)) {
+            byte hat = memGetByte(hatsPtr + i);
+            HatState hatState = switch (hat) {
                 case GLFW.GLFW_HAT_CENTERED -> HatState.CENTERED;
                 case GLFW.GLFW_HAT_UP -> HatState.UP;
                 case GLFW.GLFW_HAT_RIGHT -> HatState.RIGHT;
@@ -88,13 +107,13 @@ public class GLFWJoystickDriver implements Driver {
                 case GLFW.GLFW_HAT_RIGHT_DOWN -> HatState.RIGHT_DOWN;
                 case GLFW.GLFW_HAT_LEFT_UP -> HatState.LEFT_UP;
                 case GLFW.GLFW_HAT_LEFT_DOWN -> HatState.LEFT_DOWN;
-                default -> throw new IllegalStateException("Unexpected value: " + glfwState.hats().get(i));
+                default -> throw new IllegalStateException("Unexpected value: " + hat);
             };
 
-            state.setHat(JoystickInputs.hat(i), hatState);
+            state.setHat(i, hatState);
         }
 
-        this.controller.input().orElseThrow().pushState(state);
+        this.input.pushState(state);
     }
 
     private GLFWJoystickState getJoystickState() {
@@ -18,14 +18,16 @@ import dev.isxander.controlify.controller.gyro.GyroComponent;
 import dev.isxander.controlify.controller.input.GamepadInputs;
 import dev.isxander.controlify.controller.gyro.GyroState;
 import dev.isxander.controlify.controller.*;
-import dev.isxander.controlify.controller.impl.ControllerStateImpl;
+import dev.isxander.controlify.controller.impl.ControllerStateBuffers;
+import dev.isxander.controlify.controller.impl.IndexedControllerState;
 import dev.isxander.controlify.controller.input.InputComponent;
+import dev.isxander.controlify.controller.input.InputSampleBuffer;
 import dev.isxander.controlify.controller.rumble.RumbleComponent;
 import dev.isxander.controlify.controller.rumble.TriggerRumbleComponent;
 import dev.isxander.controlify.controllermanager.UniqueControllerID;
-import dev.isxander.controlify.driver.Driver;
+import dev.isxander.controlify.driver.InputPollingThread;
+import dev.isxander.controlify.driver.SampledDriver;
 import dev.isxander.controlify.hid.HIDDevice;
-import dev.isxander.controlify.rumble.RumbleState;
 import dev.isxander.controlify.rumble.TriggerRumbleState;
 import dev.isxander.controlify.utils.CUtil;
 import dev.isxander.sdl3java.api.audio.*;
@@ -57,8 +59,9 @@ import static dev.isxander.sdl3java.api.power.SDL_PowerState.*;
 import static dev.isxander.sdl3java.api.properties.SdlProperties.*;
 import static dev.isxander.sdl3java.api.sensor.SDL_SensorType.*;
 
-public class SDL3GamepadDriver implements Driver {
+public class SDL3GamepadDriver implements SampledDriver {
     private static final int AUDIO_STREAM_TIMEOUT_TICKS = 5 * 60 * 60 * 20; // 5 minutes
+    private static final int SAMPLE_BUFFER_CAPACITY = 64;
 
     private SDL_Gamepad ptrGamepad;
     private final ControllerEntity controller;
@@ -78,9 +81,34 @@ public class SDL3GamepadDriver implements Driver {
     private SDL_AudioSpec dualsenseAudioSpec;
     private final List<AudioStreamHandle> dualsenseAudioHandles;
 
-    public SDL3GamepadDriver(SDL_JoystickID jid, ControllerType type, String uid, UniqueControllerID ucid, Optional<HIDDevice> hid) {
+    private final InputComponent input;
+    private final ControllerStateBuffers stateBuffers;
+    private final InputSampleBuffer sampleBuffer;
+    private final IndexedControllerState sampleState; // only touched by the polling thread
+    private final InputPollingThread inputPoller;
+
+    @Nullable
+    private final GyroComponent gyro;
+    @Nullable
+    private final Memory gyroData;
+    private final float[] gyroValues = new float[3];
+    private final GyroState gyroState = new GyroState();
+    private boolean gyroSampleReceived;
+
+    public SDL3GamepadDriver(SDL_JoystickID jid, ControllerType type, String uid, UniqueControllerID ucid, Optional<HIDDevice> hid, InputPollingThread inputPoller) {
+        this(jid, type, uid, ucid, hid, supportsHDHaptics(type) ? openDualSenseAudio() : null, inputPoller);
+    }
+
+    /**
+     * @param dualsenseAudio the audio device to play HD haptics through, opened ahead of time with {@link #openDualSenseAudio()}.
+     *                       Ownership is transferred to the driver.
+     * @param inputPoller the manager's poller, whose lock is held around SDL calls made outside of {@link #update(boolean)}
+     */
+    public SDL3GamepadDriver(SDL_JoystickID jid, ControllerType type, String uid, UniqueControllerID ucid, Optional<HIDDevice> hid, @Nullable DualSenseAudio dualsenseAudio, InputPollingThread inputPoller) {
+        this.inputPoller = inputPoller;
         this.ptrGamepad = SDL_OpenGamepad(jid);
         if (this.ptrGamepad == null) {
+            if (dualsenseAudio != null) dualsenseAudio.close();
             throw new IllegalStateException("Could not open gamepad: " + SDL_GetError());
         }
 
@@ -99,28 +127,13 @@ public class SDL3GamepadDriver implements Driver {
 
         // open audio device for dualsense hd haptics
         this.dualsenseAudioHandles = new ArrayList<>();
-        // macOS HD haptics are broken
         if (CUtil.rl("dualsense").equals(type.namespace())) {
             controller.setComponent(new DualSenseComponent(), DualSenseComponent.ID);
 
-            if (Util.getPlatform() != Util.OS.OSX) {
-                SDL_AudioDeviceID dualsenseAudioDev = null;
-                SDL_AudioSpec.ByReference devSpec = new SDL_AudioSpec.ByReference();
-
-                for (SDL_AudioDeviceID dev : SDL_GetAudioOutputDevices()) {
-                    String name = SDL_GetAudioDeviceName(dev).toLowerCase();
-                    if (name.contains("dualsense") || name.contains("ps5") || name.contains("wireless controller")) {
-                        SDL_GetAudioDeviceFormat(dev, devSpec, null);
-                        if (devSpec.channels == 4) {
-                            dualsenseAudioDev = dev;
-                            break;
-                        }
-                    }
-                }
-
-                if (dualsenseAudioDev != null) {
-                    this.dualsenseAudioSpec = devSpec;
-                    this.dualsenseAudioDev = SDL_OpenAudioDevice(dualsenseAudioDev, (SDL_AudioSpec.ByReference) this.dualsenseAudioSpec);
+            if (supportsHDHaptics(type)) {
+                if (dualsenseAudio != null) {
+                    this.dualsenseAudioSpec = dualsenseAudio.spec();
+                    this.dualsenseAudioDev = dualsenseAudio.device();
 
                     HDHapticComponent hdHapticComponent = new HDHapticComponent();
                     hdHapticComponent.acceptPlayHaptic(this::playHaptic);
@@ -134,14 +147,24 @@ public class SDL3GamepadDriver implements Driver {
             }
         }
 
-        this.controller.setComponent(new InputComponent(this.controller, 21, 10, 0, true, GamepadInputs.DEADZONE_GROUPS, type.mappingId()), InputComponent.ID);
+        this.input = new InputComponent(this.controller, 21, 10, 0, true, GamepadInputs.DEADZONE_GROUPS, type.mappingId());
+        this.stateBuffers = new ControllerStateBuffers(GamepadInputs.INDEX);
+        this.sampleBuffer = new InputSampleBuffer(GamepadInputs.INDEX, SAMPLE_BUFFER_CAPACITY);
+        this.sampleState = new IndexedControllerState(GamepadInputs.INDEX);
+        this.input.setSampleBuffer(this.sampleBuffer);
+        this.controller.setComponent(this.input, InputComponent.ID);
         this.controller.setComponent(new BatteryLevelComponent(), BatteryLevelComponent.ID);
         if (this.isGryoSupported) {
             SDL_SetGamepadSensorEnabled(ptrGamepad, SDL_SensorType.SDL_SENSOR_GYRO, true);
-            this.controller.setComponent(new GyroComponent(), GyroComponent.ID);
+            this.gyro = new GyroComponent();
+            this.gyroData = new Memory(gyroValues.length * Float.BYTES);
+            this.controller.setComponent(this.gyro, GyroComponent.ID);
+        } else {
+            this.gyro = null;
+            this.gyroData = null;
         }
         if (this.isRumbleSupported) {
-            this.controller.setComponent(new RumbleComponent(), RumbleComponent.ID);
+            this.controller.setComponent(new RumbleComponent(this::writeRumble), RumbleComponent.ID);
         }
         if (this.isTriggerRumbleSupported) {
             this.controller.setComponent(new TriggerRumbleComponent(), TriggerRumbleComponent.ID);
@@ -153,6 +176,39 @@ public class SDL3GamepadDriver implements Driver {
         this.controller.finalise();
     }
 
+    public static boolean supportsHDHaptics(ControllerType type) {
+        // macOS HD haptics are broken
+        return CUtil.rl("dualsense").equals(type.namespace()) && Util.getPlatform() != Util.OS.OSX;
+    }
+
+    /**
+     * Finds and opens the audio device of a connected DualSense, used to play HD haptics.
+     * Enumerating audio devices is slow, so this is safe to call off-thread.
+     *
+     * @return the opened device, or null if no DualSense audio device was found
+     */
+    public static @Nullable DualSenseAudio openDualSenseAudio() {
+        SDL_AudioSpec.ByReference devSpec = new SDL_AudioSpec.ByReference();
+
+        for (SDL_AudioDeviceID dev : SDL_GetAudioOutputDevices()) {
+            String name = SDL_GetAudioDeviceName(dev).toLowerCase();
+            if (name.contains("dualsense") || name.contains("ps5") || name.contains("wireless controller")) {
+                SDL_GetAudioDeviceFormat(dev, devSpec, null);
+                if (devSpec.channels == 4) {
+                    return new DualSenseAudio(SDL_OpenAudioDevice(dev, devSpec), devSpec);
+                }
+            }
+        }
+
+        return null;
+    }
+
+    public record DualSenseAudio(SDL_AudioDeviceID device, SDL_AudioSpec spec) {
+        public void close() {
+            SDL_CloseAudioDevice(device);
+        }
+    }
+
     @Override
     public ControllerEntity getController() {
         return this.controller;
@@ -182,6 +238,10 @@ public class SDL3GamepadDriver implements Driver {
         SDL_CloseGamepad(ptrGamepad);
         ptrGamepad = null;
 
+        if (gyroData != null) {
+            gyroData.close();
+        }
+
         if (dualsenseAudioDev != null) {
             SDL_CloseAudioDevice(dualsenseAudioDev);
         }
@@ -190,23 +250,15 @@ public class SDL3GamepadDriver implements Driver {
         }
     }
 
-    private void updateInput() {
-        ControllerStateImpl state = new ControllerStateImpl();
-        // Axis values are in the range [-32768, 32767] (short)
-        // https://wiki.libsdl.org/SDL3/SDL_GameControllerGetAxis
-        state.setAxis(GamepadInputs.LEFT_STICK_AXIS_RIGHT, positiveAxis(mapShortToFloat(SDL_GetGamepadAxis(ptrGamepad, SDL_GAMEPAD_AXIS_LEFTX))));
-        state.setAxis(GamepadInputs.LEFT_STICK_AXIS_LEFT, negativeAxis(mapShortToFloat(SDL_GetGamepadAxis(ptrGamepad, SDL_GAMEPAD_AXIS_LEFTX))));
-        state.setAxis(GamepadInputs.LEFT_STICK_AXIS_UP, negativeAxis(mapShortToFloat(SDL_GetGamepadAxis(ptrGamepad, SDL_GAMEPAD_AXIS_LEFTY))));
-        state.setAxis(GamepadInputs.LEFT_STICK_AXIS_DOWN, positiveAxis(mapShortToFloat(SDL_GetGamepadAxis(ptrGamepad, SDL_GAMEPAD_AXIS_LEFTY))));
-
-        state.setAxis(GamepadInputs.RIGHT_STICK_AXIS_RIGHT, positiveAxis(mapShortToFloat(SDL_GetGamepadAxis(ptrGamepad, SDL_GAMEPAD_AXIS_RIGHTX))));
-        state.setAxis(GamepadInputs.RIGHT_STICK_AXIS_LEFT, negativeAxis(mapShortToFloat(SDL_GetGamepadAxis(ptrGamepad, SDL_GAMEPAD_AXIS_RIGHTX))));
-        state.setAxis(GamepadInputs.RIGHT_STICK_AXIS_UP, negativeAxis(mapShortToFloat(SDL_GetGamepadAxis(ptrGamepad, SDL_GAMEPAD_AXIS_RIGHTY))));
-        state.setAxis(GamepadInputs.RIGHT_STICK_AXIS_DOWN, positiveAxis(mapShortToFloat(SDL_GetGamepadAxis(ptrGamepad, SDL_GAMEPAD_AXIS_RIGHTY))));
+    @Override
+    public void pollSample(long timestampNanos) {
+        this.readAxes(this.sampleState);
+        this.sampleBuffer.publish(timestampNanos, this.sampleState);
+    }
 
-        // Triggers are in the range [0, 32767] (thanks SDL!)
-        state.setAxis(GamepadInputs.LEFT_TRIGGER_AXIS, mapShortToFloat(SDL_GetGamepadAxis(ptrGamepad, SDL_GAMEPAD_AXIS_LEFT_TRIGGER)));
-        state.setAxis(GamepadInputs.RIGHT_TRIGGER_AXIS, mapShortToFloat(SDL_GetGamepadAxis(ptrGamepad, SDL_GAMEPAD_AXIS_RIGHT_TRIGGER)));
+    private void updateInput() {
+        IndexedControllerState state = this.stateBuffers.nextBackBuffer();
+        this.readAxes(state);
 
         state.setButton(GamepadInputs.SOUTH_BUTTON, SDL_GetGamepadButton(ptrGamepad, SDL_GAMEPAD_BUTTON_SOUTH) == SDL_PRESSED);
         state.setButton(GamepadInputs.EAST_BUTTON, SDL_GetGamepadButton(ptrGamepad, SDL_GAMEPAD_BUTTON_EAST) == SDL_PRESSED);
@@ -242,52 +294,79 @@ public class SDL3GamepadDriver implements Driver {
         state.setButton(GamepadInputs.RIGHT_PADDLE_2_BUTTON, SDL_GetGamepadButton(ptrGamepad, SDL_GAMEPAD_BUTTON_RIGHT_PADDLE2) == SDL_PRESSED);
         state.setButton(GamepadInputs.TOUCHPAD_BUTTON, SDL_GetGamepadButton(ptrGamepad, SDL_GAMEPAD_BUTTON_TOUCHPAD) == SDL_PRESSED);
 
-        this.controller.input().orElseThrow().pushState(state);
+        this.input.pushState(state);
     }
 
-    private void updateRumble() {
-        if (isRumbleSupported) {
-            Optional<RumbleState> stateOpt = this.controller
-                    .rumble()
-                    .orElseThrow()
-                    .consumeRumble();
+    private void readAxes(IndexedControllerState state) {
+        // Axis values are in the range [-32768, 32767] (short)
+        // https://wiki.libsdl.org/SDL3/SDL_GameControllerGetAxis
+        state.setAxis(GamepadInputs.LEFT_STICK_AXIS_RIGHT, positiveAxis(mapShortToFloat(SDL_GetGamepadAxis(ptrGamepad, SDL_GAMEPAD_AXIS_LEFTX))));
+        state.setAxis(GamepadInputs.LEFT_STICK_AXIS_LEFT, negativeAxis(mapShortToFloat(SDL_GetGamepadAxis(ptrGamepad, SDL_GAMEPAD_AXIS_LEFTX))));
+        state.setAxis(GamepadInputs.LEFT_STICK_AXIS_UP, negativeAxis(mapShortToFloat(SDL_GetGamepadAxis(ptrGamepad, SDL_GAMEPAD_AXIS_LEFTY))));
+        state.setAxis(GamepadInputs.LEFT_STICK_AXIS_DOWN, positiveAxis(mapShortToFloat(SDL_GetGamepadAxis(ptrGamepad, SDL_GAMEPAD_AXIS_LEFTY))));
 
-            stateOpt.ifPresent(state -> {
-                if (SDL_RumbleGamepad(ptrGamepad, (short)(state.strong() * 0xFFFF), (short)(state.weak() * 0xFFFF), 5000) != 0) {
-                    CUtil.LOGGER.error("Could not rumble gamepad: {}", SDL_GetError());
-                }
-            });
-        }
+        state.setAxis(GamepadInputs.RIGHT_STICK_AXIS_RIGHT, positiveAxis(mapShortToFloat(SDL_GetGamepadAxis(ptrGamepad, SDL_GAMEPAD_AXIS_RIGHTX))));
+        state.setAxis(GamepadInputs.RIGHT_STICK_AXIS_LEFT, negativeAxis(mapShortToFloat(SDL_GetGamepadAxis(ptrGamepad, SDL_GAMEPAD_AXIS_RIGHTX))));
+        state.setAxis(GamepadInputs.RIGHT_STICK_AXIS_UP, negativeAxis(mapShortToFloat(SDL_GetGamepadAxis(ptrGamepad, SDL_GAMEPAD_AXIS_RIGHTY))));
+        state.setAxis(GamepadInputs.RIGHT_STICK_AXIS_DOWN, positiveAxis(mapShortToFloat(SDL_GetGamepadAxis(ptrGamepad, SDL_GAMEPAD_AXIS_RIGHTY))));
 
+        // Triggers are in the range [0, 32767] (thanks SDL!)
+        state.setAxis(GamepadInputs.LEFT_TRIGGER_AXIS, mapShortToFloat(SDL_GetGamepadAxis(ptrGamepad, SDL_GAMEPAD_AXIS_LEFT_TRIGGER)));
+        state.setAxis(GamepadInputs.RIGHT_TRIGGER_AXIS, mapShortToFloat(SDL_GetGamepadAxis(ptrGamepad, SDL_GAMEPAD_AXIS_RIGHT_TRIGGER)));
+    }
+
+    private void writeRumble(float strong, float weak) {
+        // called from the rumble manager every frame, so must not race the input poller
+        inputPoller.runExclusive(() -> {
+            if (SDL_RumbleGamepad(ptrGamepad, (short)(strong * 0xFFFF), (short)(weak * 0xFFFF), 5000) != 0) {
+                CUtil.LOGGER.error("Could not rumble gamepad: {}", SDL_GetError());
+            }
+        });
+    }
+
+    private void updateRumble() {
         if (isTriggerRumbleSupported) {
             Optional<TriggerRumbleState> stateOpt = this.controller
                     .triggerRumble()
                     .orElseThrow()
                     .consumeTriggerRumble();
 
-            stateOpt.ifPresent(state -> {
+            stateOpt.ifPresent(state -> inputPoller.runExclusive(() -> {
                 if (SDL_RumbleGamepadTriggers(ptrGamepad, (short)(state.left() * 0xFFFF), (short)(state.right() * 0xFFFF), 0) != 0) {
                     CUtil.LOGGER.error("Could not rumble triggers gamepad: {}", SDL_GetError());
                 }
-            });
+            }));
         }
     }
 
-    private void updateGyro() {
-        if (!isGryoSupported) return;
+    /**
+     * Accepts a single gyro report, delivered by the controller manager from an SDL sensor event.
+     *
+     * @param timestampNanos the sensor's own timestamp of the report
+     * @param data angular velocity in radians per second
+     */
+    public void acceptGyroSample(long timestampNanos, float[] data) {
+        if (gyro == null) return;
+
+        gyro.pushSample(timestampNanos, data[0], data[1], data[2]);
+        gyroSampleReceived = true;
+    }
 
-        float[] gyro = new float[3];
+    private void updateGyro() {
+        if (gyro == null) return;
 
-        try (Memory memory = new Memory(gyro.length * Float.BYTES)) {
-            if (SDL_GetGamepadSensorData(ptrGamepad, SDL_SENSOR_GYRO, memory, 3) == 0) {
-                memory.read(0, gyro, 0, gyro.length);
+        // sensor events already delivered every report since the last tick
+        if (gyroSampleReceived) {
+            gyroSampleReceived = false;
+            return;
+        }
 
-                this.controller.gyro().orElseThrow().setState(
-                        new GyroState(gyro[0], gyro[1], gyro[2])
-                );
-            } else {
-                CUtil.LOGGER.error("Could not get gyro data: {}", SDL_GetError());
-            }
+        if (SDL_GetGamepadSensorData(ptrGamepad, SDL_SENSOR_GYRO, gyroData, gyroValues.length) == 0) {
+            gyroData.read(0, gyroValues, 0, gyroValues.length);
+            gyroState.set(gyroValues[0], gyroValues[1], gyroValues[2]);
+            gyro.setState(gyroState);
+        } else {
+            CUtil.LOGGER.error("Could not get gyro data: {}", SDL_GetError());
         }
     }
 
@@ -8,13 +8,14 @@ import dev.isxander.controlify.controller.battery.BatteryLevelComponent;
 import dev.isxander.controlify.controller.input.InputComponent;
 import dev.isxander.controlify.controller.input.JoystickInputs;
 import dev.isxander.controlify.controller.*;
-import dev.isxander.controlify.controller.impl.ControllerStateImpl;
+import dev.isxander.controlify.controller.impl.ControllerStateBuffers;
+import dev.isxander.controlify.controller.impl.IndexedControllerState;
 import dev.isxander.controlify.controller.rumble.RumbleComponent;
 import dev.isxander.controlify.controller.rumble.TriggerRumbleComponent;
 import dev.isxander.controlify.controllermanager.UniqueControllerID;
 import dev.isxander.controlify.driver.Driver;
+import dev.isxander.controlify.driver.InputPollingThread;
 import dev.isxander.controlify.hid.HIDDevice;
-import dev.isxander.controlify.rumble.RumbleState;
 import dev.isxander.controlify.rumble.TriggerRumbleState;
 import dev.isxander.controlify.utils.CUtil;
 import dev.isxander.sdl3java.api.joystick.SDL_Joystick;
@@ -42,8 +43,15 @@ public class SDL3JoystickDriver implements Driver {
     private final String name;
 
     private final int numAxes, numButtons, numHats;
-
-    public SDL3JoystickDriver(SDL_JoystickID jid, ControllerType type, String uid, UniqueControllerID ucid, Optional<HIDDevice> hid) {
+    private final InputComponent input;
+    private final ControllerStateBuffers stateBuffers;
+    private final InputPollingThread inputPoller;
+
+    /**
+     * @param inputPoller the manager's poller, whose lock is held around SDL calls made outside of {@link #update(boolean)}
+     */
+    public SDL3JoystickDriver(SDL_JoystickID jid, ControllerType type, String uid, UniqueControllerID ucid, Optional<HIDDevice> hid, InputPollingThread inputPoller) {
+        this.inputPoller = inputPoller;
         this.ptrJoystick = SDL_OpenJoystick(jid);
         if (ptrJoystick == null)
             throw new IllegalStateException("Could not open joystick: " + SDL_GetError());
@@ -61,11 +69,13 @@ public class SDL3JoystickDriver implements Driver {
         this.numAxes = SDL_GetNumJoystickAxes(ptrJoystick);
         this.numButtons = SDL_GetNumJoystickButtons(ptrJoystick);
         this.numHats = SDL_GetNumJoystickHats(ptrJoystick);
+        this.stateBuffers = new ControllerStateBuffers(JoystickInputs.createIndex(numButtons, numAxes, numHats));
 
-        this.controller.setComponent(new InputComponent(this.controller, numButtons, numAxes * 2, numHats, false, Set.of(), type.mappingId()), InputComponent.ID);
+        this.input = new InputComponent(this.controller, numButtons, numAxes * 2, numHats, false, Set.of(), type.mappingId());
+        this.controller.setComponent(this.input, InputComponent.ID);
         this.controller.setComponent(new BatteryLevelComponent(), BatteryLevelComponent.ID);
         if (this.isRumbleSupported) {
-            this.controller.setComponent(new RumbleComponent(), RumbleComponent.ID);
+            this.controller.setComponent(new RumbleComponent(this::writeRumble), RumbleComponent.ID);
         }
         if (this.isTriggerRumbleSupported) {
             this.controller.setComponent(new TriggerRumbleComponent(), TriggerRumbleComponent.ID);
@@ -92,17 +102,17 @@ public class SDL3JoystickDriver implements Driver {
     }
 
     private void updateInput() {
-        ControllerStateImpl state = new ControllerStateImpl();
+        IndexedControllerState state = this.stateBuffers.nextBackBuffer();
 
         for (int i = 0; i < numAxes; i++) {
             float axis = mapShortToFloat(SDL_GetJoystickAxis(ptrJoystick, i));
 
-            state.setAxis(JoystickInputs.axis(i, true), Math.max(axis, 0));
-            state.setAxis(JoystickInputs.axis(i, false), -Math.min(axis, 0));
+            state.setAxis(i * 2, Math.max(axis, 0));
+            state.setAxis(i * 2 + 1, -Math.min(axis, 0));
         }
 
         for (int i = 0; i < numButtons; i++) {
-            state.setButton(JoystickInputs.button(i), SDL_GetJoystickButton(ptrJoystick, i) == 1);
+            state.setButton(i, SDL_GetJoystickButton(ptrJoystick, i) == 1);
         }
 
         for (int i = 0; i < numHats; i++) {
@@ -119,37 +129,33 @@ public class SDL3JoystickDriver implements Driver {
                 default -> throw new IllegalStateException("Unexpected value: " + SDL_GetJoystickHat(ptrJoystick, i));
             };
 
-            state.setHat(JoystickInputs.hat(i), hatState);
+            state.setHat(i, hatState);
         }
 
-        this.controller.input().orElseThrow().pushState(state);
+        this.input.pushState(state);
     }
 
-    private void updateRumble() {
-        if (isRumbleSupported) {
-            Optional<RumbleState> stateOpt = this.controller
-                    .rumble()
-                    .orElseThrow()
-                    .consumeRumble();
-
-            stateOpt.ifPresent(state -> {
-                if (SDL_RumbleJoystick(ptrJoystick, (short) (state.strong() * 0xFFFF), (short) (state.weak() * 0xFFFF), 0) != 0) {
-                    CUtil.LOGGER.error("Could not rumble joystick: {}", SDL_GetError());
-                }
-            });
-        }
+    private void writeRumble(float strong, float weak) {
+        // called from the rumble manager every frame, so must not race the input poller
+        inputPoller.runExclusive(() -> {
+            if (SDL_RumbleJoystick(ptrJoystick, (short) (strong * 0xFFFF), (short) (weak * 0xFFFF), 0) != 0) {
+                CUtil.LOGGER.error("Could not rumble joystick: {}", SDL_GetError());
+            }
+        });
+    }
 
+    private void updateRumble() {
         if (isTriggerRumbleSupported) {
             Optional<TriggerRumbleState> stateOpt = this.controller
                     .triggerRumble()
                     .orElseThrow()
                     .consumeTriggerRumble();
 
-            stateOpt.ifPresent(state -> {
+            stateOpt.ifPresent(state -> inputPoller.runExclusive(() -> {
                 if (SDL_RumbleJoystickTriggers(ptrJoystick, (short) (state.left() * 0xFFFF), (short) (state.right() * 0xFFFF), 0) != 0) {
                     CUtil.LOGGER.error("Could not rumble triggers joystick: {}", SDL_GetError());
                 }
-            });
+            }));
         }
     }
 
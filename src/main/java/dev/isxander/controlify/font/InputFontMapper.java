@@ -10,8 +10,11 @@ import com.mojang.serialization.JsonOps;
 import dev.isxander.controlify.api.bind.InputBinding;
 import dev.isxander.controlify.bindings.input.Input;
 import dev.isxander.controlify.controller.id.ControllerType;
+import dev.isxander.controlify.platform.client.resource.ReloadCache;
 import dev.isxander.controlify.platform.client.resource.SimpleControlifyReloadListener;
 import dev.isxander.controlify.utils.CUtil;
+import net.minecraft.Util;
+import net.minecraft.client.Minecraft;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.FileToIdConverter;
 import net.minecraft.resources.ResourceLocation;
@@ -20,18 +23,22 @@ import net.minecraft.server.packs.resources.ResourceManager;
 import net.minecraft.util.profiling.ProfilerFiller;
 import org.jetbrains.annotations.Nullable;
 
-import java.io.BufferedReader;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 public class InputFontMapper implements SimpleControlifyReloadListener<InputFontMapper.Preparations> {
     private ImmutableMap<ResourceLocation, FontMap> mappings;
     private FontMap defaultFontMap;
 
+    // namespace -> relevant inputs -> glyph, cleared whenever the mappings reload
+    private final Map<ResourceLocation, Map<List<ResourceLocation>, Glyph>> glyphCache = new ConcurrentHashMap<>();
+    private volatile int generation;
+
     private static final Codec<Character> CHAR_CODEC = Codec.STRING.comapFlatMap(
             (str) -> {
                 if (str.length() != 1) {
@@ -49,33 +56,48 @@ public class InputFontMapper implements SimpleControlifyReloadListener<InputFont
 
     private static final FileToIdConverter fileToIdConverter = FileToIdConverter.json("controllers/font_mappings");
 
+    private final ReloadCache<FontMap> fontMapCache = new ReloadCache<>(getReloadId());
+
     @Override
     public CompletableFuture<InputFontMapper.Preparations> load(ResourceManager manager, ProfilerFiller profiler, Executor executor) {
         return CompletableFuture.supplyAsync(() -> {
-            Map<ResourceLocation, Resource> mappingResources = fileToIdConverter.listMatchingResources(manager);
-            Map<ResourceLocation, FontMap> mappings = mappingResources.entrySet().stream().flatMap(entry -> {
-                ResourceLocation rl = entry.getKey();
-                Resource resource = entry.getValue();
-
-                ResourceLocation namespace = fileToIdConverter.fileToId(rl);
-                try (BufferedReader reader = resource.openAsReader()) {
-                    JsonElement element = JsonParser.parseReader(reader);
-                    FontMap map = FONT_MAP_CODEC.parse(JsonOps.INSTANCE, element)
-                            .resultOrPartial(CUtil.LOGGER::error)
-                            .map(pair -> new FontMap(namespace, pair.getFirst(), pair.getSecond()))
-                            .orElse(null);
-                    if (map != null) {
-                        return Stream.of(Pair.of(namespace, map));
+                    fontMapCache.beginReload();
+                    return fileToIdConverter.listMatchingResources(manager);
+                }, executor)
+                .thenCompose(mappingResources -> {
+                    List<CompletableFuture<@Nullable FontMap>> futures = new ArrayList<>(mappingResources.size());
+                    mappingResources.forEach((rl, resource) ->
+                            futures.add(CompletableFuture.supplyAsync(() -> readFontMap(rl, resource), executor)));
+
+                    return Util.sequence(futures);
+                })
+                .thenApply(fontMaps -> {
+                    fontMapCache.endReload();
+
+                    Map<ResourceLocation, FontMap> mappings = new HashMap<>();
+                    for (FontMap map : fontMaps) {
+                        if (map != null) {
+                            mappings.put(map.namespace(), map);
+                        }
                     }
-                } catch (Exception e) {
-                    CUtil.LOGGER.error("Failed to load font mappings for namespace {}", namespace, e);
-                }
-
-                return Stream.empty();
-            }).collect(Collectors.toMap(Pair::getFirst, Pair::getSecond));
+                    return new Preparations(mappings);
+                });
+    }
 
-            return new Preparations(mappings);
-        });
+    private @Nullable FontMap readFontMap(ResourceLocation rl, Resource resource) {
+        ResourceLocation namespace = fileToIdConverter.fileToId(rl);
+        try {
+            return fontMapCache.decode(rl, resource, reader -> {
+                JsonElement element = JsonParser.parseReader(reader);
+                return FONT_MAP_CODEC.parse(JsonOps.INSTANCE, element)
+                        .resultOrPartial(CUtil.LOGGER::error)
+                        .map(pair -> new FontMap(namespace, pair.getFirst(), Map.copyOf(pair.getSecond())))
+                        .orElse(null);
+            });
+        } catch (Exception e) {
+            CUtil.LOGGER.error("Failed to load font mappings for namespace {}", namespace, e);
+            return null;
+        }
     }
 
     @Override
@@ -85,6 +107,8 @@ public class InputFontMapper implements SimpleControlifyReloadListener<InputFont
             data.mappings().forEach(builder::put);
             mappings = builder.build();
             defaultFontMap = mappings.get(ControllerType.DEFAULT.namespace());
+            glyphCache.clear();
+            generation++;
         }, executor);
     }
 
@@ -108,16 +132,48 @@ public class InputFontMapper implements SimpleControlifyReloadListener<InputFont
     }
 
     public Component getComponentFromInputs(ResourceLocation namespace, List<ResourceLocation> inputs) {
+        return getGlyphFromInputs(namespace, inputs).component();
+    }
+
+    public Glyph getGlyphFromBind(ResourceLocation namespace, Input input) {
+        return getGlyphFromInputs(namespace, input.getRelevantInputs());
+    }
+
+    /**
+     * Gets the styled glyphs for a combination of inputs. Glyphs are built once per
+     * controller namespace and input combination, and kept until the mappings reload.
+     */
+    public Glyph getGlyphFromInputs(ResourceLocation namespace, List<ResourceLocation> inputs) {
+        Map<List<ResourceLocation>, Glyph> namespaceGlyphs = glyphCache.computeIfAbsent(namespace, k -> new ConcurrentHashMap<>());
+
+        Glyph glyph = namespaceGlyphs.get(inputs);
+        if (glyph == null) {
+            glyph = new Glyph(buildComponent(namespace, inputs));
+            namespaceGlyphs.put(List.copyOf(inputs), glyph);
+        }
+        return glyph;
+    }
+
+    /**
+     * @return a counter that changes whenever the mappings reload, so holders of a glyph know to fetch it again
+     */
+    public int generation() {
+        return generation;
+    }
+
+    private Component buildComponent(ResourceLocation namespace, List<ResourceLocation> inputs) {
         if (inputs.isEmpty()) {
             return Component.literal("<unbound>");
         }
 
         FontMap fontMap = getMappings(namespace);
 
-        String literal = inputs.stream()
-                .map(input -> String.valueOf(getChar(fontMap, input)))
-                .collect(Collectors.joining("+"));
-        return Component.literal(literal).withStyle(style ->
+        StringBuilder literal = new StringBuilder(inputs.size() * 2);
+        for (int i = 0; i < inputs.size(); i++) {
+            if (i > 0) literal.append('+');
+            literal.append(getChar(fontMap, inputs.get(i)));
+        }
+        return Component.literal(literal.toString()).withStyle(style ->
                 style.withFont(fontMap.namespace().withPrefix("controller/")));
     }
 
@@ -142,4 +198,30 @@ public class InputFontMapper implements SimpleControlifyReloadListener<InputFont
     }
     public record FontMap(ResourceLocation namespace, char unknown, Map<ResourceLocation, Character> inputToChar) {
     }
+
+    /**
+     * A pre-styled input icon and its width.
+     */
+    public static final class Glyph {
+        private final Component component;
+        private int width = -1;
+
+        private Glyph(Component component) {
+            this.component = component;
+        }
+
+        public Component component() {
+            return component;
+        }
+
+        /**
+         * @return the width of the glyph in pixels, measured on first use
+         */
+        public int width() {
+            if (width < 0) {
+                width = Minecraft.getInstance().font.width(component);
+            }
+            return width;
+        }
+    }
 }
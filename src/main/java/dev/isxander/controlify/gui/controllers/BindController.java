@@ -7,6 +7,7 @@ import dev.isxander.controlify.controller.*;
 import dev.isxander.controlify.controller.input.ControllerStateView;
 import dev.isxander.controlify.controller.input.HatState;
 import dev.isxander.controlify.controller.input.InputComponent;
+import dev.isxander.controlify.font.InputFontMapper;
 import dev.isxander.controlify.gui.screen.BindConsumerScreen;
 import dev.isxander.controlify.screenop.ComponentProcessor;
 import dev.isxander.controlify.screenop.ScreenProcessor;
@@ -73,11 +74,11 @@ public class BindController implements Controller<Input> {
                 var bind = control.option().pendingValue();
                 if (EmptyInput.equals(bind)) return;
 
-                Component text = Controlify.instance().inputFontMapper()
-                        .getComponentFromBind(control.controller.info().type().namespace(), bind);
-                int width = textRenderer.width(text);
+                InputFontMapper.Glyph glyph = Controlify.instance().inputFontMapper()
+                        .getGlyphFromBind(control.controller.info().type().namespace(), bind);
+                int width = glyph.width();
 
-                graphics.drawString(textRenderer, text, getDimension().xLimit() - width - 1, (int)(getDimension().centerY() - textRenderer.lineHeight / 2f + 1), -1, false);
+                graphics.drawString(textRenderer, glyph.component(), getDimension().xLimit() - width - 1, (int)(getDimension().centerY() - textRenderer.lineHeight / 2f + 1), -1, false);
             }
         }
 
@@ -128,9 +129,9 @@ public class BindController implements Controller<Input> {
             if (awaitingControllerInput)
                 return textRenderer.width(awaitingText);
 
-            Component text = Controlify.instance().inputFontMapper()
-                    .getComponentFromBind(control.controller.info().type().namespace(), control.option().pendingValue());
-            return textRenderer.width(text);
+            return Controlify.instance().inputFontMapper()
+                    .getGlyphFromBind(control.controller.info().type().namespace(), control.option().pendingValue())
+                    .width();
         }
 
         @Override
@@ -37,7 +37,7 @@ public class Deadzone2DImageRenderer implements ImageRenderer {
         int renderHeight = (int) (radius * 2f);
 
         // axes go up -> down -> left -> right
-        List<ResourceLocation> deadzones = deadzoneGroup.axes();
+        List<ResourceLocation> deadzones = deadzoneGroup.stickAxes().orElseThrow();
         float up = input.rawStateNow().getAxisState(deadzones.get(0));
         float down = input.rawStateNow().getAxisState(deadzones.get(1));
         float left = input.rawStateNow().getAxisState(deadzones.get(2));
@@ -0,0 +1,70 @@
+package dev.isxander.controlify.gui.guide;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.phys.HitResult;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The hit result vanilla picked for the crosshair, captured when {@code GameRenderer#pick} runs.
+ * <p>
+ * The pick already includes reach-around, since that modifies vanilla's block pick.
+ * It is only handed out for the entity and reach it was picked with, so consumers
+ * can reuse it instead of raycasting again, and only have to pick themselves
+ * when the camera isn't the entity they care about or its reach has since changed.
+ */
+public final class CrosshairPick {
+    private static @Nullable HitResult pickedResult;
+    private static @Nullable Entity pickedCamera;
+    private static double pickedBlockRange, pickedEntityRange;
+
+    private CrosshairPick() {
+    }
+
+    public static void onPicked(Minecraft minecraft) {
+        Entity camera = minecraft.getCameraEntity();
+        if (camera == null || minecraft.hitResult == null || minecraft.player == null) {
+            clear();
+            return;
+        }
+
+        pickedResult = minecraft.hitResult;
+        pickedCamera = camera;
+        pickedBlockRange = blockRange(minecraft);
+        pickedEntityRange = entityRange(minecraft);
+    }
+
+    /**
+     * @return the last crosshair pick if it was made from the given entity with its current reach, otherwise null
+     */
+    public static @Nullable HitResult pickedFor(Minecraft minecraft, Entity entity) {
+        if (pickedResult == null || pickedCamera != entity || minecraft.player == null)
+            return null;
+
+        if (pickedBlockRange != blockRange(minecraft) || pickedEntityRange != entityRange(minecraft))
+            return null;
+
+        return pickedResult;
+    }
+
+    public static void clear() {
+        pickedResult = null;
+        pickedCamera = null;
+    }
+
+    static double blockRange(Minecraft minecraft) {
+        /*? if >1.20.4 {*/
+        return minecraft.player.blockInteractionRange();
+        /*?} else {*/
+        /*return minecraft.gameMode.getPickRange();
+        *//*?}*/
+    }
+
+    static double entityRange(Minecraft minecraft) {
+        /*? if >1.20.4 {*/
+        return minecraft.player.entityInteractionRange();
+        /*?} else {*/
+        /*return minecraft.gameMode.hasFarPickRange() ? 6.0 : minecraft.gameMode.getPickRange();
+        *//*?}*/
+    }
+}
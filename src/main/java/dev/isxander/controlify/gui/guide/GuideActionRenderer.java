@@ -1,15 +1,18 @@
 package dev.isxander.controlify.gui.guide;
 
 import com.mojang.blaze3d.systems.RenderSystem;
+import dev.isxander.controlify.bindings.input.Input;
 import dev.isxander.controlify.font.BindingFontHelper;
 import dev.isxander.controlify.gui.layout.RenderComponent;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.Font;
 import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.locale.Language;
 import net.minecraft.network.chat.Component;
 import org.joml.Vector2i;
 import org.joml.Vector2ic;
 
+import java.util.Objects;
 import java.util.Optional;
 
 public class GuideActionRenderer<T> implements RenderComponent {
@@ -18,15 +21,23 @@ public class GuideActionRenderer<T> implements RenderComponent {
     private final boolean textContrast;
 
     private Component bindingText;
-    private int bindingTextWidth;
+    private Input iconInput;
     private Component name = null;
+    private boolean visible;
+
+    // measured when the text changes, so rendering doesn't have to
+    private int bindingTextWidth, bindingHeight, textWidth;
+    private final Vector2i size = new Vector2i();
+    private Language measuredLanguage;
+    private int revision;
 
     public GuideActionRenderer(GuideAction<T> action, boolean rtl, boolean textContrast) {
         this.guideAction = action;
         this.rtl = rtl;
         this.textContrast = textContrast;
         this.bindingText = action.binding().inputIcon();
-        this.bindingTextWidth = Minecraft.getInstance().font.width(bindingText);
+        this.iconInput = action.binding().boundInput();
+        measure();
     }
 
     @Override
@@ -35,8 +46,6 @@ public class GuideActionRenderer<T> implements RenderComponent {
             return;
 
         Font font = Minecraft.getInstance().font;
-        int textWidth = font.width(name);
-        int bindingHeight = BindingFontHelper.getComponentHeight(font, bindingText);
         int centeredTextY = y + bindingHeight / 2 - font.lineHeight / 2;
 
         if (!rtl) {
@@ -56,23 +65,68 @@ public class GuideActionRenderer<T> implements RenderComponent {
 
     @Override
     public Vector2ic size() {
-        if (!isVisible()) return new Vector2i();
-
-        Font font = Minecraft.getInstance().font;
-        return new Vector2i(
-                font.width(name) + 4 + bindingTextWidth,
-                Math.max(BindingFontHelper.getComponentHeight(font, bindingText), font.lineHeight) + 2
-        );
+        return size;
     }
 
     @Override
     public boolean isVisible() {
-        return name != null && !guideAction.binding().isUnbound() && bindingText != null;
+        return visible;
+    }
+
+    @Override
+    public int layoutRevision() {
+        return revision;
+    }
+
+    /**
+     * Re-evaluates the action's name and binding icon.
+     *
+     * @return whether the text changed, and so the guide needs to be laid out again
+     */
+    public boolean updateName(T ctx) {
+        // translations and input glyphs resolve differently after a language or resource reload,
+        // which replaces the language instance
+        boolean reloaded = measuredLanguage != Language.getInstance();
+
+        // inputs are immutable, so the icon only has to be rebuilt when the binding is rebound
+        Input boundInput = guideAction.binding().boundInput();
+        Component bindingText = this.bindingText;
+        if (boundInput != iconInput || reloaded) {
+            bindingText = guideAction.binding().inputIcon();
+            iconInput = boundInput;
+        }
+
+        Component name = guideAction.name().supply(ctx).orElse(null);
+        boolean visible = name != null && !guideAction.binding().isUnbound() && bindingText != null;
+
+        if (visible == this.visible
+                && !reloaded
+                && Objects.equals(name, this.name)
+                && Objects.equals(bindingText, this.bindingText)) {
+            return false;
+        }
+
+        this.bindingText = bindingText;
+        this.name = name;
+        measure();
+        return true;
     }
 
-    public void updateName(T ctx) {
-        this.bindingText = guideAction.binding().inputIcon();
-        this.bindingTextWidth = Minecraft.getInstance().font.width(bindingText);
-        name = guideAction.name().supply(ctx).orElse(null);
+    private void measure() {
+        Font font = Minecraft.getInstance().font;
+
+        this.visible = name != null && !guideAction.binding().isUnbound() && bindingText != null;
+        this.bindingTextWidth = bindingText != null ? font.width(bindingText) : 0;
+        if (visible) {
+            this.bindingHeight = BindingFontHelper.getComponentHeight(font, bindingText);
+            this.textWidth = font.width(name);
+            this.size.set(textWidth + 4 + bindingTextWidth, Math.max(bindingHeight, font.lineHeight) + 2);
+        } else {
+            this.size.set(0, 0);
+        }
+
+        this.measuredLanguage = Language.getInstance();
+        // never collide with the untracked revision
+        this.revision = revision == Integer.MAX_VALUE ? 0 : revision + 1;
     }
 }
@@ -24,6 +24,7 @@ import net.minecraft.world.entity.projectile.ProjectileUtil;
 import net.minecraft.world.item.ElytraItem;
 import net.minecraft.world.item.Items;
 import net.minecraft.world.phys.*;
+import org.jetbrains.annotations.Nullable;
 import org.joml.Matrix4f;
 
 import java.util.*;
@@ -38,6 +39,9 @@ public class InGameButtonGuide implements IngameGuideRegistry {
 
     private PositionedComponent<ColumnLayoutComponent<GuideActionRenderer<IngameGuideContext>>> leftLayout;
     private PositionedComponent<ColumnLayoutComponent<GuideActionRenderer<IngameGuideContext>>> rightLayout;
+    // the window size the layouts were last positioned for, -1 if they haven't been
+    private int positionedWidth = -1, positionedHeight = -1;
+    private @Nullable IngameGuideContext context;
 
     public InGameButtonGuide(ControllerEntity controller, LocalPlayer localPlayer) {
         this.controller = controller;
@@ -78,6 +82,7 @@ public class InGameButtonGuide implements IngameGuideRegistry {
                 0, 0,
                 !bottom ? AnchorPoint.TOP_RIGHT : AnchorPoint.BOTTOM_RIGHT
         );
+        positionedWidth = positionedHeight = -1;
     }
 
     public void renderHud(GuiGraphics graphics, float tickDelta) {
@@ -118,17 +123,50 @@ public class InGameButtonGuide implements IngameGuideRegistry {
     }
 
     public void tick() {
-        IngameGuideContext context = new IngameGuideContext(Minecraft.getInstance(), player, minecraft.level, calculateHitResult(), controller);
+        IngameGuideContext context = updateContext();
 
-        leftLayout.getComponent().getChildComponents().forEach(renderer -> renderer.updateName(context));
-        rightLayout.getComponent().getChildComponents().forEach(renderer -> renderer.updateName(context));
+        boolean changed = updateNames(leftLayout.getComponent().getChildComponents(), context);
+        changed |= updateNames(rightLayout.getComponent().getChildComponents(), context);
 
         double guiScale = minecraft.getWindow().getGuiScale() * Controlify.instance().config().globalSettings().ingameButtonGuideScale;
         int width = (int) (minecraft.getWindow().getWidth() / guiScale);
         int height = (int) (minecraft.getWindow().getHeight() / guiScale);
 
-        leftLayout.updatePosition(width, height);
-        rightLayout.updatePosition(width, height);
+        // the layouts keep their measurements, so only re-position them when something actually moved
+        if (changed || width != positionedWidth || height != positionedHeight) {
+            leftLayout.updatePosition(width, height);
+            rightLayout.updatePosition(width, height);
+            positionedWidth = width;
+            positionedHeight = height;
+        }
+    }
+
+    /**
+     * @return the context the guide was last evaluated with, shared so other consumers don't have to pick again
+     */
+    public Optional<IngameGuideContext> currentContext() {
+        return Optional.ofNullable(context);
+    }
+
+    private IngameGuideContext updateContext() {
+        HitResult hitResult = CrosshairPick.pickedFor(minecraft, player);
+        if (hitResult == null) {
+            // the camera isn't the player, or its reach changed since the last frame
+            hitResult = calculateHitResult();
+        }
+
+        if (context == null || context.hitResult() != hitResult || context.level() != minecraft.level) {
+            context = new IngameGuideContext(minecraft, player, minecraft.level, hitResult, controller);
+        }
+        return context;
+    }
+
+    private static boolean updateNames(List<GuideActionRenderer<IngameGuideContext>> renderers, IngameGuideContext context) {
+        boolean changed = false;
+        for (int i = 0; i < renderers.size(); i++) {
+            changed |= renderers.get(i).updateName(context);
+        }
+        return changed;
     }
 
     @Override
@@ -146,138 +184,129 @@ public class InGameButtonGuide implements IngameGuideRegistry {
 
     private void registerDefaultActions() {
         var options = Minecraft.getInstance().options;
-        registerGuideAction(ControlifyBindings.JUMP.on(controller), ActionLocation.LEFT, (ctx) -> {
+        // default actions only display constant translations, so they are keyed by their translation key
+        registerGuideAction(ControlifyBindings.JUMP.on(controller), ActionLocation.LEFT, GuideActionNameSupplier.translated(ctx -> {
             var player = ctx.player();
             if (player.getAbilities().flying)
-                return Optional.of(Component.translatable("controlify.guide.ingame.fly_up"));
+                return "controlify.guide.ingame.fly_up";
 
             if (player.onGround())
-                return Optional.of(Component.translatable("key.jump"));
+                return "key.jump";
 
             if (player.isInWater())
-                return Optional.of(Component.translatable("controlify.guide.ingame.swim_up"));
+                return "controlify.guide.ingame.swim_up";
 
             if (!player.onGround() && !player.isFallFlying() && !player.isInWater() && !player.hasEffect(MobEffects.LEVITATION)) {
                 var chestStack = player.getItemBySlot(EquipmentSlot.CHEST);
                 if (chestStack.is(Items.ELYTRA) && ElytraItem.isFlyEnabled(chestStack))
-                    return Optional.of(Component.translatable("controlify.guide.ingame.start_elytra"));
+                    return "controlify.guide.ingame.start_elytra";
             }
 
-            return Optional.empty();
-        });
-        registerGuideAction(ControlifyBindings.SNEAK.on(controller), ActionLocation.LEFT, (ctx) -> {
+            return null;
+        }));
+        registerGuideAction(ControlifyBindings.SNEAK.on(controller), ActionLocation.LEFT, GuideActionNameSupplier.translated(ctx -> {
             var player = ctx.player();
             if (player.getVehicle() != null)
-                return Optional.of(Component.translatable("controlify.guide.ingame.dismount"));
+                return "controlify.guide.ingame.dismount";
             if (player.getAbilities().flying)
-                return Optional.of(Component.translatable("controlify.guide.ingame.fly_down"));
+                return "controlify.guide.ingame.fly_down";
             if (player.isInWater() && !player.onGround())
-                return Optional.of(Component.translatable("controlify.guide.ingame.swim_down"));
+                return "controlify.guide.ingame.swim_down";
             if (ctx.controller().genericConfig().config().toggleSneak) {
-                return Optional.of(Component.translatable(player.input.shiftKeyDown ? "controlify.guide.ingame.stop_sneaking" : "controlify.guide.ingame.start_sneaking"));
+                return player.input.shiftKeyDown ? "controlify.guide.ingame.stop_sneaking" : "controlify.guide.ingame.start_sneaking";
             } else {
                 if (!player.input.shiftKeyDown)
-                    return Optional.of(Component.translatable("controlify.guide.ingame.sneak"));
+                    return "controlify.guide.ingame.sneak";
             }
-            return Optional.empty();
-        });
-        registerGuideAction(ControlifyBindings.SPRINT.on(controller), ActionLocation.LEFT, (ctx) -> {
+            return null;
+        }));
+        registerGuideAction(ControlifyBindings.SPRINT.on(controller), ActionLocation.LEFT, GuideActionNameSupplier.translated(ctx -> {
             var player = ctx.player();
             if (!options.keySprint.isDown()) {
                 if (!player.input.getMoveVector().equals(Vec2.ZERO)) {
                     if (player.isUnderWater())
-                        return Optional.of(Component.translatable("controlify.guide.ingame.start_swimming"));
-                    return Optional.of(Component.translatable("controlify.guide.ingame.start_sprinting"));
+                        return "controlify.guide.ingame.start_swimming";
+                    return "controlify.guide.ingame.start_sprinting";
                 }
             } else if (ctx.controller().genericConfig().config().toggleSprint) {
                 if (player.isUnderWater())
-                    return Optional.of(Component.translatable("controlify.guide.ingame.stop_swimming"));
-                return Optional.of(Component.translatable("controlify.guide.ingame.stop_sprinting"));
+                    return "controlify.guide.ingame.stop_swimming";
+                return "controlify.guide.ingame.stop_sprinting";
             }
-            return Optional.empty();
-        });
-        registerGuideAction(ControlifyBindings.INVENTORY.on(controller), ActionLocation.RIGHT, (ctx) -> {
+            return null;
+        }));
+        registerGuideAction(ControlifyBindings.INVENTORY.on(controller), ActionLocation.RIGHT, GuideActionNameSupplier.translated(ctx -> {
             if (ctx.client().screen == null)
-                return Optional.of(Component.translatable("controlify.guide.ingame.inventory"));
-            return Optional.empty();
-        });
-        registerGuideAction(ControlifyBindings.RADIAL_MENU.on(controller), ActionLocation.RIGHT, ctx -> {
+                return "controlify.guide.ingame.inventory";
+            return null;
+        }));
+        registerGuideAction(ControlifyBindings.RADIAL_MENU.on(controller), ActionLocation.RIGHT, GuideActionNameSupplier.translated(ctx -> {
             if (ctx.client().screen == null)
-                return Optional.of(Component.translatable("controlify.gui.radial_menu"));
-            return Optional.empty();
-        });
-        registerGuideAction(ControlifyBindings.ATTACK.on(controller), ActionLocation.RIGHT, (ctx) -> {
+                return "controlify.gui.radial_menu";
+            return null;
+        }));
+        registerGuideAction(ControlifyBindings.ATTACK.on(controller), ActionLocation.RIGHT, GuideActionNameSupplier.translated(ctx -> {
             var hitResult = ctx.hitResult();
             if (hitResult.getType() == HitResult.Type.ENTITY)
                 if (player.isSpectator())
-                    return Optional.of(Component.translatable("controlify.guide.ingame.spectate"));
+                    return "controlify.guide.ingame.spectate";
                 else
-                    return Optional.of(Component.translatable("controlify.guide.ingame.attack"));
+                    return "controlify.guide.ingame.attack";
             if (hitResult.getType() == HitResult.Type.BLOCK)
-                return Optional.of(Component.translatable("controlify.guide.ingame.break"));
-            return Optional.empty();
-        });
-        registerGuideAction(ControlifyBindings.USE.on(controller), ActionLocation.RIGHT, (ctx) -> {
+                return "controlify.guide.ingame.break";
+            return null;
+        }));
+        registerGuideAction(ControlifyBindings.USE.on(controller), ActionLocation.RIGHT, GuideActionNameSupplier.translated(ctx -> {
             var hitResult = ctx.hitResult();
             var player = ctx.player();
             if (hitResult.getType() == HitResult.Type.ENTITY)
                 if (player.isSpectator())
-                    return Optional.of(Component.translatable("controlify.guide.ingame.spectate"));
+                    return "controlify.guide.ingame.spectate";
                 else
-                    return Optional.of(Component.translatable("controlify.guide.ingame.interact"));
+                    return "controlify.guide.ingame.interact";
             if (hitResult.getType() == HitResult.Type.BLOCK || player.hasItemInSlot(EquipmentSlot.MAINHAND) || player.hasItemInSlot(EquipmentSlot.OFFHAND))
-                return Optional.of(Component.translatable("controlify.guide.ingame.use"));
-            return Optional.empty();
-        });
-        registerGuideAction(ControlifyBindings.DROP_INGAME.on(controller), ActionLocation.RIGHT, (ctx) -> {
+                return "controlify.guide.ingame.use";
+            return null;
+        }));
+        registerGuideAction(ControlifyBindings.DROP_INGAME.on(controller), ActionLocation.RIGHT, GuideActionNameSupplier.translated(ctx -> {
             var holdingItem = ctx.player().getInventory().getSelected();
             if (!holdingItem.isEmpty())
-                return Optional.of(Component.translatable("controlify.guide.ingame.drop"));
-            return Optional.empty();
-        });
-        registerGuideAction(ControlifyBindings.DROP_STACK.on(controller), ActionLocation.RIGHT, ctx -> {
+                return "controlify.guide.ingame.drop";
+            return null;
+        }));
+        registerGuideAction(ControlifyBindings.DROP_STACK.on(controller), ActionLocation.RIGHT, GuideActionNameSupplier.translated(ctx -> {
             var holdingItem = ctx.player().getInventory().getSelected();
             if (!holdingItem.isEmpty() && holdingItem.getCount() > 1)
-                return Optional.of(Component.translatable("controlify.binding.controlify.drop_stack"));
-            return Optional.empty();
-        });
-        registerGuideAction(ControlifyBindings.SWAP_HANDS.on(controller), ActionLocation.RIGHT, (ctx) -> {
+                return "controlify.binding.controlify.drop_stack";
+            return null;
+        }));
+        registerGuideAction(ControlifyBindings.SWAP_HANDS.on(controller), ActionLocation.RIGHT, GuideActionNameSupplier.translated(ctx -> {
             var player = ctx.player();
             if (player.hasItemInSlot(EquipmentSlot.MAINHAND) || player.hasItemInSlot(EquipmentSlot.OFFHAND))
-                return Optional.of(Component.translatable("controlify.guide.ingame.swap_hands"));
-            return Optional.empty();
-        });
-        registerGuideAction(ControlifyBindings.PICK_BLOCK.on(controller), ActionLocation.RIGHT, (ctx) -> {
+                return "controlify.guide.ingame.swap_hands";
+            return null;
+        }));
+        registerGuideAction(ControlifyBindings.PICK_BLOCK.on(controller), ActionLocation.RIGHT, GuideActionNameSupplier.translated(ctx -> {
             if (ctx.hitResult().getType() == HitResult.Type.BLOCK && ctx.player().isCreative())
-                return Optional.of(Component.translatable("controlify.guide.ingame.pick_block"));
-            return Optional.empty();
-        });
-        registerGuideAction(ControlifyBindings.PICK_BLOCK_NBT.on(controller), ActionLocation.RIGHT, (ctx) -> {
+                return "controlify.guide.ingame.pick_block";
+            return null;
+        }));
+        registerGuideAction(ControlifyBindings.PICK_BLOCK_NBT.on(controller), ActionLocation.RIGHT, GuideActionNameSupplier.translated(ctx -> {
             if (ctx.hitResult().getType() == HitResult.Type.BLOCK && ctx.player().isCreative())
-                return Optional.of(Component.translatable("controlify.binding.controlify.pick_block_nbt"));
-            return Optional.empty();
-        });
+                return "controlify.binding.controlify.pick_block_nbt";
+            return null;
+        }));
     }
 
     private HitResult calculateHitResult() {
-        /*? if >1.20.4 {*/
-        double pickRange = minecraft.player.blockInteractionRange();
-        /*?} else {*/
-        /*double pickRange = minecraft.gameMode.getPickRange();
-        *//*?}*/
+        double pickRange = CrosshairPick.blockRange(minecraft);
 
         // block
         HitResult pickResult = player.pick(pickRange, 1f, false);
 
         Vec3 eyePos = player.getEyePosition(1f);
 
-        /*? if >1.20.4 {*/
-        pickRange = minecraft.player.entityInteractionRange();
-        /*?} else {*/
-        /*if (minecraft.gameMode.hasFarPickRange()) {
-            pickRange = 6.0;
-        }
-        *//*?}*/
+        pickRange = CrosshairPick.entityRange(minecraft);
 
         double maxPickRange = pickResult.getLocation().distanceToSqr(eyePos);
 
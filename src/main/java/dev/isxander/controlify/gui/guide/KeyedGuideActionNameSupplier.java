@@ -0,0 +1,54 @@
+package dev.isxander.controlify.gui.guide;
+
+import dev.isxander.controlify.api.guide.GuideActionNameSupplier;
+import net.minecraft.network.chat.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * A name supplier that only evaluates its delegate when the invalidation key changes,
+ * interning the name supplied for each key.
+ *
+ * @see GuideActionNameSupplier#keyed(Function, GuideActionNameSupplier)
+ */
+public final class KeyedGuideActionNameSupplier<T> implements GuideActionNameSupplier<T> {
+    // keys are meant to be a few states, so this is only a guard against keys that never repeat
+    private static final int MAX_INTERNED = 64;
+    private static final Object NO_KEY = new Object();
+
+    private final Function<T, ?> invalidationKey;
+    private final GuideActionNameSupplier<T> supplier;
+
+    private final Map<Object, Optional<Component>> interned = new HashMap<>();
+    private Object lastKey = NO_KEY;
+    private Optional<Component> lastName = Optional.empty();
+
+    public KeyedGuideActionNameSupplier(Function<T, ?> invalidationKey, GuideActionNameSupplier<T> supplier) {
+        this.invalidationKey = invalidationKey;
+        this.supplier = supplier;
+    }
+
+    @Override
+    public Optional<Component> supply(T ctx) {
+        Object key = invalidationKey.apply(ctx);
+        if (Objects.equals(key, lastKey))
+            return lastName;
+
+        Optional<Component> name = interned.get(key);
+        if (name == null) {
+            if (interned.size() >= MAX_INTERNED) {
+                interned.clear();
+            }
+            name = supplier.supply(ctx);
+            interned.put(key, name);
+        }
+
+        lastKey = key;
+        lastName = name;
+        return name;
+    }
+}
@@ -3,20 +3,33 @@ package dev.isxander.controlify.gui.layout;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * A component that positions its children.
+ * <p>
+ * Children are measured once into a retained layout, which is reused until
+ * a child's {@link RenderComponent#layoutRevision()} changes or children are added,
+ * so rendering a layout only issues draw calls.
+ */
 public abstract class AbstractLayoutComponent<T extends RenderComponent> implements RenderComponent {
     private final List<T> components = new ArrayList<>();
 
+    private int[] measuredChildRevisions = new int[0];
+    private boolean measured;
+    private int revision;
+
     public List<T> getChildComponents() {
         return components;
     }
 
     public <U extends T> U insertTop(U area) {
         components.add(area);
+        invalidateLayout();
         return area;
     }
 
     public <U extends T> U insertBottom(U area) {
         components.add(0, area);
+        invalidateLayout();
         return area;
     }
 
@@ -26,6 +39,7 @@ public abstract class AbstractLayoutComponent<T extends RenderComponent> impleme
             throw new IllegalArgumentException("InteractionArea " + above + " is not registered!");
 
         components.add(index + 1, area);
+        invalidateLayout();
         return area;
     }
 
@@ -35,6 +49,63 @@ public abstract class AbstractLayoutComponent<T extends RenderComponent> impleme
             throw new IllegalArgumentException("InteractionArea " + below + " is not registered!");
 
         components.add(index, area);
+        invalidateLayout();
         return area;
     }
+
+    /**
+     * Forces the children to be measured again on next use.
+     */
+    public void invalidateLayout() {
+        this.measured = false;
+    }
+
+    @Override
+    public int layoutRevision() {
+        ensureMeasured();
+        for (int childRevision : measuredChildRevisions) {
+            if (childRevision == UNTRACKED_REVISION)
+                return UNTRACKED_REVISION;
+        }
+        return revision;
+    }
+
+    /**
+     * Re-measures the children if any of them changed since they were last measured.
+     */
+    protected final void ensureMeasured() {
+        if (measured && !childrenChanged())
+            return;
+
+        int count = components.size();
+        if (measuredChildRevisions.length != count) {
+            measuredChildRevisions = new int[count];
+        }
+        for (int i = 0; i < count; i++) {
+            measuredChildRevisions[i] = components.get(i).layoutRevision();
+        }
+
+        measure(components);
+        measured = true;
+        // never collide with the untracked revision
+        revision = revision == Integer.MAX_VALUE ? 0 : revision + 1;
+    }
+
+    /**
+     * Measures and positions the children, storing the result for {@link #render} and {@link #size()}.
+     */
+    protected abstract void measure(List<T> children);
+
+    private boolean childrenChanged() {
+        int count = components.size();
+        if (measuredChildRevisions.length != count)
+            return true;
+
+        for (int i = 0; i < count; i++) {
+            int childRevision = components.get(i).layoutRevision();
+            if (childRevision == UNTRACKED_REVISION || childRevision != measuredChildRevisions[i])
+                return true;
+        }
+        return false;
+    }
 }
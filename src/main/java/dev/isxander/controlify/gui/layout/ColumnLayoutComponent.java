@@ -16,6 +16,12 @@ public class ColumnLayoutComponent<T extends RenderComponent> extends AbstractLa
     private final int colPaddingLeft, colPaddingRight, colPaddingTop, colPaddingBottom;
     private final ElementPosition elementPosition;
 
+    // retained layout, relative to the column's position
+    private int[] childX = new int[0], childY = new int[0];
+    private boolean[] childVisible = new boolean[0];
+    private int maxChildWidth = -1;
+    private final Vector2i size = new Vector2i();
+
     private ColumnLayoutComponent(Collection<? extends T> elements,
                                   int componentPaddingVertical,
                                   int colPaddingLeft, int colPaddingRight,
@@ -36,49 +42,61 @@ public class ColumnLayoutComponent<T extends RenderComponent> extends AbstractLa
 
     @Override
     public void render(GuiGraphics graphics, int x, int y, float deltaTime) {
-        int width = getMaxChildWidth();
+        ensureMeasured();
 
-        if (width == -1)
+        if (maxChildWidth == -1)
             return;
 
-        int yOffset = 0;
-        for (var element : getChildComponents()) {
-            if (!element.isVisible())
+        List<T> children = getChildComponents();
+        for (int i = 0; i < children.size(); i++) {
+            if (!childVisible[i])
                 continue;
 
-            element.render(
-                    graphics,
-                    x + colPaddingLeft + elementPosition.positionFunction.apply(width, element.size().x()),
-                    y + colPaddingTop + yOffset,
-                    deltaTime
-            );
-
-            yOffset += element.size().y() + componentPaddingVertical;
+            children.get(i).render(graphics, x + childX[i], y + childY[i], deltaTime);
         }
     }
 
     @Override
     public Vector2ic size() {
-        return new Vector2i(
-                getMaxChildWidth() + colPaddingLeft + colPaddingRight,
-                getSumHeight() + colPaddingTop + colPaddingBottom
-        );
+        ensureMeasured();
+        return size;
     }
 
-    private int getSumHeight() {
-        return this.getChildComponents().stream()
-                .filter(RenderComponent::isVisible)
-                .map(RenderComponent::size)
-                .mapToInt(size -> size.y() + componentPaddingVertical)
-                .sum() - componentPaddingVertical;
-    }
+    @Override
+    protected void measure(List<T> children) {
+        int count = children.size();
+        if (childX.length != count) {
+            childX = new int[count];
+            childY = new int[count];
+            childVisible = new boolean[count];
+        }
 
-    private int getMaxChildWidth() {
-        return this.getChildComponents().stream()
-                .filter(RenderComponent::isVisible)
-                .map(RenderComponent::size)
-                .mapToInt(Vector2ic::x)
-                .max().orElse(-1);
+        int maxWidth = -1;
+        int sumHeight = 0;
+        for (int i = 0; i < count; i++) {
+            T element = children.get(i);
+            childVisible[i] = element.isVisible();
+            if (!childVisible[i])
+                continue;
+
+            Vector2ic elementSize = element.size();
+            childX[i] = elementSize.x(); // resolved to a position once the column width is known
+            childY[i] = colPaddingTop + sumHeight;
+            maxWidth = Math.max(maxWidth, elementSize.x());
+            sumHeight += elementSize.y() + componentPaddingVertical;
+        }
+
+        for (int i = 0; i < count; i++) {
+            if (childVisible[i]) {
+                childX[i] = colPaddingLeft + elementPosition.positionFunction.apply(maxWidth, childX[i]);
+            }
+        }
+
+        this.maxChildWidth = maxWidth;
+        this.size.set(
+                maxWidth + colPaddingLeft + colPaddingRight,
+                sumHeight - componentPaddingVertical + colPaddingTop + colPaddingBottom
+        );
     }
 
     public static <T extends RenderComponent> Builder<T> builder() {
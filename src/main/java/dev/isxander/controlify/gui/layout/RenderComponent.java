@@ -3,6 +3,11 @@ import net.minecraft.client.gui.GuiGraphics;
 import org.joml.Vector2ic;
 
 public interface RenderComponent {
+    /**
+     * Returned by {@link #layoutRevision()} when a component can't tell when its size changes.
+     */
+    int UNTRACKED_REVISION = -1;
+
     void render(GuiGraphics graphics, int x, int y, float deltaTime);
 
     Vector2ic size();
@@ -10,4 +15,14 @@ public interface RenderComponent {
     default boolean isVisible() {
         return true;
     }
+
+    /**
+     * A counter that changes whenever this component's {@link #size()} or {@link #isVisible()} may have changed,
+     * so layouts can keep their measurements until it does.
+     *
+     * @return the revision, or {@link #UNTRACKED_REVISION} to be re-measured every time
+     */
+    default int layoutRevision() {
+        return UNTRACKED_REVISION;
+    }
 }
@@ -13,6 +13,12 @@ public class RowLayoutComponent<T extends RenderComponent> extends AbstractLayou
     private final int rowPaddingLeft, rowPaddingRight, rowPaddingTop, rowPaddingBottom;
     private final ElementPosition elementPosition;
 
+    // retained layout, relative to the row's position
+    private int[] childX = new int[0], childY = new int[0];
+    private boolean[] childVisible = new boolean[0];
+    private int maxChildHeight = -1;
+    private final Vector2i size = new Vector2i();
+
     private RowLayoutComponent(Collection<? extends T> elements,
                                int elementPaddingHorizontal,
                                int rowPaddingLeft, int rowPaddingRight,
@@ -33,55 +39,67 @@ public class RowLayoutComponent<T extends RenderComponent> extends AbstractLayou
 
     @Override
     public void render(GuiGraphics graphics, int x, int y, float deltaTime) {
-        int height = getMaxChildHeight();
+        ensureMeasured();
 
-        if (height == -1)
+        if (maxChildHeight == -1)
             return;
 
-        int xOffset = 0;
-        for (var element : getChildComponents()) {
-            if (!element.isVisible())
+        List<T> children = getChildComponents();
+        for (int i = 0; i < children.size(); i++) {
+            if (!childVisible[i])
                 continue;
 
-            element.render(
-                    graphics,
-                    x + rowPaddingLeft + xOffset,
-                    y + rowPaddingTop + elementPosition.positionFunction.apply(height, element.size().y()),
-                    deltaTime
-            );
-
-            xOffset += element.size().x() + elementPaddingHorizontal;
+            children.get(i).render(graphics, x + childX[i], y + childY[i], deltaTime);
         }
     }
 
     @Override
     public Vector2ic size() {
-        return new Vector2i(
-                getSumWidth() + rowPaddingLeft + rowPaddingRight,
-                getMaxChildHeight() + rowPaddingTop + rowPaddingBottom
-        );
+        ensureMeasured();
+        return size;
     }
 
-    private int getMaxChildHeight() {
-        return this.getChildComponents().stream()
-                .filter(RenderComponent::isVisible)
-                .map(RenderComponent::size)
-                .mapToInt(Vector2ic::y)
-                .max().orElse(-1);
-    }
-
-    private int getSumWidth() {
-        return this.getChildComponents().stream()
-                .filter(RenderComponent::isVisible)
-                .map(RenderComponent::size)
-                .mapToInt(size -> size.x() + elementPaddingHorizontal)
-                .sum() - elementPaddingHorizontal;
+    @Override
+    public boolean isVisible() {
+        ensureMeasured();
+        return maxChildHeight != -1;
     }
 
     @Override
-    public boolean isVisible() {
-        return this.getChildComponents().stream()
-                .anyMatch(RenderComponent::isVisible);
+    protected void measure(List<T> children) {
+        int count = children.size();
+        if (childX.length != count) {
+            childX = new int[count];
+            childY = new int[count];
+            childVisible = new boolean[count];
+        }
+
+        int maxHeight = -1;
+        int sumWidth = 0;
+        for (int i = 0; i < count; i++) {
+            T element = children.get(i);
+            childVisible[i] = element.isVisible();
+            if (!childVisible[i])
+                continue;
+
+            Vector2ic elementSize = element.size();
+            childX[i] = rowPaddingLeft + sumWidth;
+            childY[i] = elementSize.y(); // resolved to a position once the row height is known
+            maxHeight = Math.max(maxHeight, elementSize.y());
+            sumWidth += elementSize.x() + elementPaddingHorizontal;
+        }
+
+        for (int i = 0; i < count; i++) {
+            if (childVisible[i]) {
+                childY[i] = rowPaddingTop + elementPosition.positionFunction.apply(maxHeight, childY[i]);
+            }
+        }
+
+        this.maxChildHeight = maxHeight;
+        this.size.set(
+                sumWidth - elementPaddingHorizontal + rowPaddingLeft + rowPaddingRight,
+                maxHeight + rowPaddingTop + rowPaddingBottom
+        );
     }
 
     public static <T extends RenderComponent> Builder<T> builder() {
@@ -162,6 +162,8 @@ public class ControllerCalibrationScreen extends Screen implements DontInteruptS
             readyButton.active = true;
             readyButton.setMessage(Component.translatable("controlify.calibration.done"));
 
+            controller.input().ifPresent(input -> input.config().markDirty());
+            controller.gyro().ifPresent(gyro -> gyro.config().markDirty());
             controller.input().map(input -> input.config().config()).ifPresent(config -> {
                 config.deadzonesCalibrated = true;
                 config.delayedCalibration = false;
@@ -219,11 +221,15 @@ public class ControllerCalibrationScreen extends Screen implements DontInteruptS
 
             input.config().config().deadzones.put(group.name(), maxAbs + 0.08f);
         }
+
+        input.invalidateDeadzones();
+        input.config().markDirty();
     }
 
     private void generateGyroCalibration() {
         controller.gyro().ifPresent(gyro -> {
             gyro.config().config().calibration = accumulatedGyroVelocity.div(CALIBRATION_TIME);
+            gyro.config().markDirty();
         });
 
     }
@@ -262,10 +268,16 @@ public class ControllerCalibrationScreen extends Screen implements DontInteruptS
         if (!calibrated) {
             boolean dirty = false;
             dirty |= controller.input()
-                    .map(input -> input.config().config().delayedCalibration = true)
+                    .map(input -> {
+                        input.config().markDirty();
+                        return input.config().config().delayedCalibration = true;
+                    })
                     .orElse(false);
             dirty |= controller.gyro()
-                    .map(gyro -> gyro.config().config().delayedCalibration = true)
+                    .map(gyro -> {
+                        gyro.config().markDirty();
+                        return gyro.config().config().delayedCalibration = true;
+                    })
                     .orElse(false);
 
             if (dirty) {
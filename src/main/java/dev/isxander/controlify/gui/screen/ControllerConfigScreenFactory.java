@@ -19,7 +19,7 @@ import dev.isxander.controlify.gui.controllers.Deadzone2DImageRenderer;
 import dev.isxander.controlify.gui.guide.InGameButtonGuide;
 import dev.isxander.controlify.rumble.BasicRumbleEffect;
 import dev.isxander.controlify.rumble.RumbleSource;
-import dev.isxander.controlify.rumble.RumbleState;
+import dev.isxander.controlify.rumble.effects.BuiltinRumbleEffects;
 import dev.isxander.controlify.server.ServerPolicies;
 import dev.isxander.controlify.server.ServerPolicy;
 import dev.isxander.controlify.utils.CUtil;
@@ -60,7 +60,11 @@ public class ControllerConfigScreenFactory {
                 .title(Component.literal("Controlify"))
                 .category(basicCategory)
                 .category(advancedCategory)
-                .save(() -> Controlify.instance().config().save());
+                .save(() -> {
+                    controller.markConfigDirty();
+                    controller.rumble().ifPresent(rumble -> rumble.rumbleManager().invalidateGains());
+                    Controlify.instance().config().save();
+                });
 
         bindsCategory.ifPresent(yacl::category);
 
@@ -268,12 +272,15 @@ public class ControllerConfigScreenFactory {
                     .name(name)
                     .description(OptionDescription.createBuilder()
                             .text(Component.translatable("controlify.gui.axis_deadzone.tooltip", name))
-                            .customImage(CompletableFuture.completedFuture(deadzoneGroup.axes().size() == 4 ? Optional.of(new Deadzone2DImageRenderer(input, deadzoneGroup, deadzoneRef::get)) : Optional.empty()))
+                            .customImage(CompletableFuture.completedFuture(deadzoneGroup.stickAxes().isPresent() ? Optional.of(new Deadzone2DImageRenderer(input, deadzoneGroup, deadzoneRef::get)) : Optional.empty()))
                             .build())
                     .binding(
                             def.deadzones.getOrDefault(groupName, 0f),
                             () -> config.deadzones.getOrDefault(groupName, 0f),
-                            v -> config.deadzones.put(groupName, v)
+                            v -> {
+                                config.deadzones.put(groupName, v);
+                                input.invalidateDeadzones();
+                            }
                     )
                     .controller(opt -> FloatSliderControllerBuilder.create(opt)
                             .range(0f, 1f).step(0.02f)
@@ -282,6 +289,23 @@ public class ControllerConfigScreenFactory {
             deadzoneRef.set(deadzoneOpt);
             group.option(deadzoneOpt);
             deadzoneOpts.add(deadzoneOpt);
+
+            if (deadzoneGroup.stickAxes().isPresent()) {
+                group.option(Option.<Boolean>createBuilder()
+                        .name(Component.translatable("controlify.gui.radial_deadzone", name))
+                        .description(OptionDescription.of(Component.translatable("controlify.gui.radial_deadzone.tooltip")))
+                        .binding(
+                                def.radialDeadzones.contains(groupName),
+                                () -> config.radialDeadzones.contains(groupName),
+                                v -> {
+                                    if (v) config.radialDeadzones.add(groupName);
+                                    else config.radialDeadzones.remove(groupName);
+                                    input.invalidateDeadzones();
+                                }
+                        )
+                        .controller(TickBoxControllerBuilder::create)
+                        .build());
+            }
         }
 
         group.option(Option.<Float>createBuilder()
@@ -348,7 +372,10 @@ public class ControllerConfigScreenFactory {
                 .option(ButtonOption.createBuilder()
                         .name(Component.translatable("controlify.gui.clear_mapping"))
                         .description(OptionDescription.of(Component.translatable("controlify.gui.clear_mapping.tooltip")))
-                        .action((screen, button) -> config.mapping = def.mapping)
+                        .action((screen, button) -> {
+                            config.mapping = def.mapping;
+                            input.config().markDirty();
+                        })
                         .build())
                 .collapsed(true)
                 .build());
@@ -421,13 +448,7 @@ public class ControllerConfigScreenFactory {
                 .action((screen, btn) -> {
                     rumble.rumbleManager().play(
                             RumbleSource.MASTER,
-                            BasicRumbleEffect.byTime(t -> new RumbleState(0f, t), 20)
-                                    .join(BasicRumbleEffect.byTime(t -> new RumbleState(0f, 1 - t), 20))
-                                    .repeat(3)
-                                    .join(BasicRumbleEffect.constant(1f, 0f, 5)
-                                            .join(BasicRumbleEffect.constant(0f, 1f, 5))
-                                            .repeat(10)
-                                    )
+                            new BasicRumbleEffect(BuiltinRumbleEffects.TEST_VIBRATION)
                                     .earlyFinish(BasicRumbleEffect.finishOnScreenChange())
                     );
                 })
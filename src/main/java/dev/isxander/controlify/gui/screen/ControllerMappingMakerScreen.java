@@ -69,6 +69,7 @@ public class ControllerMappingMakerScreen extends Screen implements ScreenContro
 
         // otherwise we will be mapping something that is already mapped
         inputComponent.confObj().mapping = null;
+        inputComponent.config().markDirty();
     }
 
     public static ControllerMappingMakerScreen createGamepadMapping(InputComponent inputComponent, Screen lastScreen) {
@@ -207,6 +208,7 @@ public class ControllerMappingMakerScreen extends Screen implements ScreenContro
     public void onClose() {
         minecraft.setScreen(lastScreen);
         inputComponent.confObj().mapping = mappingBuilder.build();
+        inputComponent.config().markDirty();
         Controlify.instance().config().save();
     }
 
@@ -62,6 +62,39 @@ public class GlobalSettingsScreenFactory {
                                             return Component.literal(s);
                                         }))
                                         .build())
+                                .option(Option.<Boolean>createBuilder()
+                                        .name(Component.translatable("controlify.gui.high_rate_input_polling"))
+                                        .description(OptionDescription.createBuilder()
+                                                .text(Component.translatable("controlify.gui.high_rate_input_polling.tooltip"))
+                                                .build())
+                                        .binding(GlobalSettings.DEFAULT.highRateInputPolling, () -> globalSettings.highRateInputPolling, v -> globalSettings.highRateInputPolling = v)
+                                        .controller(TickBoxControllerBuilder::create)
+                                        .available(SDL3NativesManager.isLoaded())
+                                        .build())
+                                .option(Option.<Integer>createBuilder()
+                                        .name(Component.translatable("controlify.gui.input_polling_rate"))
+                                        .description(OptionDescription.createBuilder()
+                                                .text(Component.translatable("controlify.gui.input_polling_rate.tooltip"))
+                                                .build())
+                                        .binding(GlobalSettings.DEFAULT.inputPollingRate, () -> globalSettings.inputPollingRate, v -> globalSettings.inputPollingRate = v)
+                                        .controller(opt -> IntegerSliderControllerBuilder.create(opt)
+                                                .range(250, 1000)
+                                                .step(50)
+                                                .formatValue(v -> Component.literal(v + " Hz")))
+                                        .available(SDL3NativesManager.isLoaded())
+                                        .build())
+                                .option(Option.<Integer>createBuilder()
+                                        .name(Component.translatable("controlify.gui.rumble_output_rate"))
+                                        .description(OptionDescription.createBuilder()
+                                                .text(Component.translatable("controlify.gui.rumble_output_rate.tooltip"))
+                                                .build())
+                                        .binding(GlobalSettings.DEFAULT.rumbleOutputRate, () -> globalSettings.rumbleOutputRate, v -> globalSettings.rumbleOutputRate = v)
+                                        .controller(opt -> IntegerSliderControllerBuilder.create(opt)
+                                                .range(20, 200)
+                                                .step(10)
+                                                .formatValue(v -> Component.literal(v + " Hz")))
+                                        .available(SDL3NativesManager.isLoaded())
+                                        .build())
                                 .build())
                         .group(OptionGroup.createBuilder()
                                 .name(Component.translatable("controlify.gui.server_options"))
@@ -4,6 +4,7 @@ import dev.isxander.controlify.api.bind.RadialIcon;
 import dev.isxander.controlify.bindings.RadialIcons;
 import dev.isxander.controlify.api.bind.InputBinding;
 import dev.isxander.controlify.controller.ControllerEntity;
+import dev.isxander.controlify.controller.input.InputComponent;
 import dev.isxander.controlify.utils.CUtil;
 import dev.isxander.controlify.utils.DebugOverlayHelper;
 import net.minecraft.client.Minecraft;
@@ -372,7 +373,9 @@ public final class RadialItems {
 
         @Override
         public void setRadialItem(int index, RadialMenuScreen.RadialItem item) {
-            controller.input().orElseThrow().confObj().radialActions[index] = ((RadialItemRecord) item).id();
+            InputComponent input = controller.input().orElseThrow();
+            input.confObj().radialActions[index] = ((RadialItemRecord) item).id();
+            input.config().markDirty();
         }
 
         @Override
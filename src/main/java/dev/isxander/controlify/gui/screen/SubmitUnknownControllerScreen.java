@@ -189,6 +189,7 @@ public class SubmitUnknownControllerScreen extends Screen implements DontInterup
 
     private void dontShowAgain() {
         controller.genericConfig().config().dontShowControllerSubmission = true;
+        controller.genericConfig().markDirty();
         Controlify.instance().config().setDirty();
     }
 
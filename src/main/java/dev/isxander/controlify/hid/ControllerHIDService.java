@@ -14,15 +14,38 @@ import org.hid4java.*;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.*;
-import java.util.concurrent.ArrayBlockingQueue;
-
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Identifies controllers by enumerating attached HID devices.
+ * <p>
+ * Enumeration is slow, so scans run on a background thread, each producing an immutable {@link HIDSnapshot}.
+ * Hotplug events request a debounced scan, so requests arriving within a short window of each other,
+ * such as several controllers being plugged in at once, share a single scan.
+ * {@link #fetchType(int)} identifies controllers from the latest snapshot, and only waits, a bounded time
+ * and without the debounce, when the controller is not in that snapshot yet.
+ */
 public class ControllerHIDService {
+    /** How long to wait for more scan requests before scanning, so a burst of hotplugs only scans once. */
+    private static final long SCAN_DEBOUNCE_MILLIS = 50;
+    /** The longest controller creation waits for a scan before falling back to the last snapshot. */
+    private static final long SCAN_WAIT_MILLIS = 1000;
+
     private final HidServicesSpecification specification;
     private HidServices services;
-
-    private final Queue<Pair<HidDevice, HIDIdentifier>> unconsumedControllerHIDs;
-    private final Map<String, HidDevice> attachedDevices = new HashMap<>();
-    private boolean disabled = false;
+    private ScheduledExecutorService scanner;
+
+    // keyed by path, in the order they were attached
+    private final Map<String, Pair<HidDevice, HIDIdentifier>> unconsumedControllerHIDs = new LinkedHashMap<>();
+    // paths of removed controllers, treated as newly attached by the next scan. guarded by unconsumedControllerHIDs
+    private final Set<String> releasedPaths = new HashSet<>();
+    private volatile HIDSnapshot snapshot = HIDSnapshot.EMPTY;
+    private final Object scanLock = new Object();
+    private CompletableFuture<HIDSnapshot> pendingScan; // guarded by scanLock
+    private ScheduledFuture<?> pendingScanTask; // guarded by scanLock
+    private final AtomicLong scanCount = new AtomicLong();
+    private volatile boolean disabled = false;
     private boolean firstFetch = true;
     // https://learn.microsoft.com/en-us/windows-hardware/drivers/hid/hid-usages#usage-page
     private static final Set<Integer> CONTROLLER_USAGE_IDS = Set.of(
@@ -35,7 +58,6 @@ public class ControllerHIDService {
         this.specification = new HidServicesSpecification();
         specification.setAutoStart(false);
         specification.setScanMode(ScanMode.NO_SCAN);
-        this.unconsumedControllerHIDs = new ArrayBlockingQueue<>(50);
     }
 
     public void start() {
@@ -51,16 +73,82 @@ public class ControllerHIDService {
         } catch (HidException e) {
             CUtil.LOGGER.error("Failed to start controller HID service! If you are on Linux using flatpak or snap, this is likely because your launcher has not added libusb to their package.", e);
             disabled = true;
+            return;
         }
+
+        scanner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Controlify HID Scanner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // have a snapshot ready before the first controller is created
+        requestScan();
     }
 
     public void stop() {
         if (!disabled && services != null) {
-            services.shutdown();
             disabled = true;
+            scanner.shutdownNow();
+            try {
+                scanner.awaitTermination(SCAN_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            services.shutdown();
+        }
+    }
+
+    /**
+     * Requests the attached devices to be enumerated, for example when a device may have been connected.
+     * Requests made before the scan starts are coalesced into it.
+     *
+     * @return a future completed with the snapshot of the scan
+     */
+    public CompletableFuture<HIDSnapshot> requestScan() {
+        synchronized (scanLock) {
+            if (disabled)
+                return CompletableFuture.completedFuture(snapshot);
+
+            if (pendingScan == null) {
+                CompletableFuture<HIDSnapshot> scan = new CompletableFuture<>();
+                pendingScan = scan;
+                pendingScanTask = scanner.schedule(() -> runScan(scan), SCAN_DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+            }
+            return pendingScan;
+        }
+    }
+
+    /**
+     * Like {@link #requestScan()}, but skips the debounce, bringing forward a pending scan that hasn't started.
+     */
+    private CompletableFuture<HIDSnapshot> requestImmediateScan() {
+        synchronized (scanLock) {
+            if (disabled)
+                return CompletableFuture.completedFuture(snapshot);
+
+            if (pendingScan == null) {
+                pendingScan = new CompletableFuture<>();
+            } else if (!pendingScanTask.cancel(false)) {
+                return pendingScan; // already scanning
+            }
+
+            CompletableFuture<HIDSnapshot> scan = pendingScan;
+            pendingScanTask = scanner.schedule(() -> runScan(scan), 0, TimeUnit.MILLISECONDS);
+            return scan;
         }
     }
 
+    /**
+     * @return the result of the latest completed scan
+     */
+    public HIDSnapshot snapshot() {
+        return snapshot;
+    }
+
+    public long scanCount() {
+        return scanCount.get();
+    }
+
     public ControllerHIDInfo fetchType(int jid) {
         ControllerHIDInfo info;
         try {
@@ -98,9 +186,13 @@ public class ControllerHIDService {
             return new ControllerHIDInfo(ControllerType.DEFAULT, Optional.empty());
         }
 
-        doScanOnThisThread();
+        Pair<HidDevice, HIDIdentifier> hid = pollUnconsumedController();
+        if (hid == null) {
+            // the controller isn't in the latest snapshot yet, so scan for it now
+            awaitScan();
+            hid = pollUnconsumedController();
+        }
 
-        Pair<HidDevice, HIDIdentifier> hid = unconsumedControllerHIDs.poll();
         if (hid == null) {
             CUtil.LOGGER.warn("No controller found via USB hardware scan! Using SDL if available.");
 
@@ -109,57 +201,101 @@ public class ControllerHIDService {
 
         ControllerType type = Controlify.instance().controllerTypeManager().getControllerType(hid.getSecond());
 
-        unconsumedControllerHIDs.removeIf(h -> hid.getFirst().getPath().equals(h.getFirst().getPath()));
-
         return new ControllerHIDInfo(type, Optional.of(new HIDDevice.Hid4Java(hid.getFirst())));
     }
 
+    private Pair<HidDevice, HIDIdentifier> pollUnconsumedController() {
+        synchronized (unconsumedControllerHIDs) {
+            Iterator<Pair<HidDevice, HIDIdentifier>> iterator = unconsumedControllerHIDs.values().iterator();
+            Pair<HidDevice, HIDIdentifier> hid = iterator.hasNext() ? iterator.next() : null;
+            if (hid != null) iterator.remove();
+            return hid;
+        }
+    }
+
+    private void awaitScan() {
+        try {
+            requestImmediateScan().get(SCAN_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            CUtil.LOGGER.warn("HID scan took longer than {}ms, using the previous scan.", SCAN_WAIT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            CUtil.LOGGER.error("HID scan failed!", e);
+        }
+    }
+
     public boolean isDisabled() {
         return disabled;
     }
 
-    private void doScanOnThisThread() {
-        List<String> removeList = new ArrayList<String>();
+    private void runScan(CompletableFuture<HIDSnapshot> scan) {
+        // requests from now on need a scan that starts after them
+        synchronized (scanLock) {
+            if (pendingScan == scan) pendingScan = null;
+        }
 
-        List<HidDevice> attachedHidDeviceList = services.getAttachedHidDevices();
+        try {
+            scan.complete(doScan());
+        } catch (Throwable e) {
+            CUtil.LOGGER.error("Failed to scan HID devices!", e);
+            scan.complete(snapshot);
+        }
+    }
 
-        for (HidDevice attachedDevice : attachedHidDeviceList) {
+    /**
+     * Enumerates the attached devices. Only ever called from the scanner thread.
+     */
+    private HIDSnapshot doScan() {
+        long start = System.nanoTime();
 
-            if (!this.attachedDevices.containsKey(attachedDevice.getId())) {
+        List<HidDevice> attachedHidDeviceList = services.getAttachedHidDevices();
 
-                // Device has become attached so add it but do not open
-                attachedDevices.put(attachedDevice.getId(), attachedDevice);
+        Map<String, HidDevice> byPath = new HashMap<>();
+        Map<HIDIdentifier, List<HidDevice>> byIdentifier = new HashMap<>();
+        Map<String, Pair<HidDevice, HIDIdentifier>> controllers = new LinkedHashMap<>();
+        for (HidDevice device : attachedHidDeviceList) {
+            HIDIdentifier identifier = new HIDIdentifier(device.getVendorId(), device.getProductId());
 
-                // add an unconsumed identifier that can be removed if not disconnected
-                HIDIdentifier identifier = new HIDIdentifier(attachedDevice.getVendorId(), attachedDevice.getProductId());
-                if (isController(attachedDevice))
-                    unconsumedControllerHIDs.add(new Pair<>(attachedDevice, identifier));
-            }
+            byPath.put(device.getPath(), device);
+            byIdentifier.computeIfAbsent(identifier, k -> new ArrayList<>(1)).add(device);
+            if (isController(device))
+                controllers.put(device.getPath(), new Pair<>(device, identifier));
         }
 
-        for (Map.Entry<String, HidDevice> entry : attachedDevices.entrySet()) {
-
-            String deviceId = entry.getKey();
-            HidDevice hidDevice = entry.getValue();
-
-            if (!attachedHidDeviceList.contains(hidDevice)) {
+        HIDSnapshot previous = this.snapshot;
+        synchronized (unconsumedControllerHIDs) {
+            // devices that were disconnected before being consumed
+            unconsumedControllerHIDs.keySet().retainAll(byPath.keySet());
 
-                // Keep track of removals
-                removeList.add(deviceId);
-
-                // remove device from unconsumed list
-                unconsumedControllerHIDs.removeIf(device -> this.attachedDevices.get(deviceId).getPath().equals(device.getFirst().getPath()));
-            }
+            // devices that have become attached since the last scan
+            controllers.forEach((path, controller) -> {
+                if (!previous.byPath().containsKey(path) || releasedPaths.contains(path))
+                    unconsumedControllerHIDs.putIfAbsent(path, controller);
+            });
+            releasedPaths.clear();
         }
 
-        if (!removeList.isEmpty()) {
-            // Update the attached devices map
-            removeList.forEach(this.attachedDevices.keySet()::remove);
-        }
+        byIdentifier.replaceAll((identifier, devices) -> List.copyOf(devices));
+        HIDSnapshot snapshot = new HIDSnapshot(
+                Map.copyOf(byPath),
+                Map.copyOf(byIdentifier),
+                controllers.size(),
+                System.nanoTime() - start,
+                System.nanoTime()
+        );
+        this.snapshot = snapshot;
+        scanCount.incrementAndGet();
+
+        return snapshot;
     }
 
     public void unconsumeController(ControllerHIDInfo hid) {
-        hid.hidDevice.ifPresent(device -> attachedDevices.remove(device.path()));
+        hid.hidDevice.ifPresent(device -> {
+            synchronized (unconsumedControllerHIDs) {
+                releasedPaths.add(device.path());
+            }
+        });
     }
 
     private boolean isController(HidDevice device) {
@@ -0,0 +1,38 @@
+package dev.isxander.controlify.hid;
+
+import org.hid4java.HidDevice;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable result of a single HID enumeration, indexed for constant time lookups.
+ *
+ * @param byPath every attached device, keyed by its path
+ * @param byIdentifier every attached device, grouped by vendor and product id
+ * @param controllerCount how many of the devices were identified as controllers
+ * @param scanNanos how long the enumeration took
+ * @param scannedAtNanos {@link System#nanoTime()} at which the enumeration finished, or -1 if no scan has happened
+ */
+public record HIDSnapshot(
+        Map<String, HidDevice> byPath,
+        Map<HIDIdentifier, List<HidDevice>> byIdentifier,
+        int controllerCount,
+        long scanNanos,
+        long scannedAtNanos
+) {
+    public static final HIDSnapshot EMPTY = new HIDSnapshot(Map.of(), Map.of(), 0, 0, -1);
+
+    public @Nullable HidDevice device(String path) {
+        return byPath.get(path);
+    }
+
+    public List<HidDevice> devices(HIDIdentifier identifier) {
+        return byIdentifier.getOrDefault(identifier, List.of());
+    }
+
+    public int deviceCount() {
+        return byPath.size();
+    }
+}
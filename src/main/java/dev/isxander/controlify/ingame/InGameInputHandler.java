@@ -4,10 +4,14 @@ import dev.isxander.controlify.Controlify;
 import dev.isxander.controlify.api.ingameinput.LookInputModifier;
 import dev.isxander.controlify.api.event.ControlifyEvents;
 import dev.isxander.controlify.bindings.ControlifyBindings;
+import dev.isxander.controlify.bindings.input.Input;
 import dev.isxander.controlify.controller.gyro.GyroState;
+import dev.isxander.controlify.controller.gyro.GyroStateC;
 import dev.isxander.controlify.controller.ControllerEntity;
 import dev.isxander.controlify.controller.gyro.GyroComponent;
+import dev.isxander.controlify.controller.input.ControllerStateView;
 import dev.isxander.controlify.controller.input.InputComponent;
+import dev.isxander.controlify.controller.input.InputSampleReader;
 import dev.isxander.controlify.gui.screen.RadialItems;
 import dev.isxander.controlify.gui.screen.RadialMenuScreen;
 import dev.isxander.controlify.server.ServerPolicies;
@@ -29,6 +33,7 @@ import net.minecraft.util.Mth;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.Nullable;
 import org.joml.Vector2f;
 import org.joml.Vector2fc;
 
@@ -38,6 +43,21 @@ public class InGameInputHandler {
     private final Minecraft minecraft;
 
     private double lookInputX, lookInputY; // in degrees per tick
+    private final Vector2f lookImpulse = new Vector2f();
+    private final LookInputModifier lookInputModifier;
+    private final @Nullable InputSampleReader lookSampleReader;
+    private final InputSampleReader.SampleConsumer sampledLookConsumer = this::integrateSampledLook;
+    private final Vector2f sampledLookImpulse = new Vector2f();
+    private boolean sampledLook;
+    private @Nullable InputComponent.Config sampledLookConfig;
+    private @Nullable Input sampledLookUp, sampledLookDown, sampledLookLeft, sampledLookRight;
+    private float sampledLookMultiplier;
+    private double sampledLookX, sampledLookY; // in degrees, accumulated over a frame
+    private final @Nullable GyroComponent gyro;
+    private final GyroState gyroDisplacement = new GyroState();
+    private long gyroCursor = -1;
+    private boolean sampledGyro;
+    private @Nullable GyroComponent.Config sampledGyroConfig;
     private final GyroState gyroInput = new GyroState();
     private boolean wasAiming;
     private Animation flickAnimation;
@@ -52,6 +72,9 @@ public class InGameInputHandler {
         this.minecraft = Minecraft.getInstance();
         this.controlify = Controlify.instance();
         this.dropRepeatHelper = new HoldRepeatHelper(20, 1);
+        this.lookSampleReader = controller.input().map(InputSampleReader::new).orElse(null);
+        this.gyro = controller.gyro().orElse(null);
+        this.lookInputModifier = new LookInputModifier(new Vector2f(), controller);
     }
 
     public void inputTick() {
@@ -235,23 +258,33 @@ public class InGameInputHandler {
         if (mouseNotGrabbed || outOfFocus || screenVisible || !playerExists) {
             lookInputX = 0;
             lookInputY = 0;
+            sampledLook = false;
+            sampledGyro = false;
             return;
         }
 
         boolean aiming = isAiming(player);
 
-        Vector2f lookImpulse = new Vector2f();
+        Vector2f lookImpulse = this.lookImpulse.set(0);
         controller.gyro().ifPresent(gyro -> handleGyroLook(gyro, lookImpulse, aiming));
 
-        if (controller.gyro().map(gyro -> gyro.confObj().lookSensitivity > 0 && gyro.confObj().flickStick).orElse(false)) {
+        boolean flickStick = controller.gyro().map(gyro -> gyro.confObj().lookSensitivity > 0 && gyro.confObj().flickStick).orElse(false);
+        // when the sticks are being sampled at a high rate, regular look is integrated per frame instead
+        sampledLook = !flickStick && lookSampleReader != null && lookSampleReader.isActive() && areLookBindingsActive();
+
+        if (flickStick) {
             handleFlickStick(player);
+        } else if (sampledLook) {
+            controller.input().ifPresent(input -> prepareSampledLook(input, player));
         } else {
             controller.input().ifPresent(input -> handleRegularLook(input, lookImpulse, aiming, player));
         }
 
-        var modifier = new LookInputModifier(new Vector2f(lookImpulse), controller);
-        ControlifyEvents.LOOK_INPUT_MODIFIER.invoke(modifier);
-        lookImpulse.set(modifier.lookInput());
+        if (ControlifyEvents.LOOK_INPUT_MODIFIER.hasListeners()) {
+            lookInputModifier.lookInput().set(lookImpulse);
+            ControlifyEvents.LOOK_INPUT_MODIFIER.invoke(lookInputModifier);
+            lookImpulse.set(lookInputModifier.lookInput());
+        }
 
         lookInputX = lookImpulse.x;
         lookInputY = lookImpulse.y;
@@ -268,6 +301,10 @@ public class InGameInputHandler {
         float impulseX = ControlifyBindings.LOOK_RIGHT.on(controller).analogueNow()
                 - ControlifyBindings.LOOK_LEFT.on(controller).analogueNow();
 
+        applyRegularLook(config, impulseX, impulseY, getLookMultiplier(config, player), impulse);
+    }
+
+    private static void applyRegularLook(InputComponent.Config config, float impulseX, float impulseY, float multiplier, Vector2f impulse) {
         // apply the easing on its length to preserve circularity
         Vector2fc easedImpulse = ControllerUtils.applyEasingToLength(
                 impulseX,
@@ -280,24 +317,73 @@ public class InGameInputHandler {
         impulseX *= config.hLookSensitivity * 10f; // 10 degrees per second at 100% sensitivity
         impulseY *= config.vLookSensitivity * 10f;
 
+        impulse.x += impulseX * multiplier;
+        impulse.y += impulseY * multiplier;
+    }
+
+    private static float getLookMultiplier(InputComponent.Config config, LocalPlayer player) {
         if (config.reduceAimingSensitivity && player.isUsingItem()) {
-            float aimMultiplier = switch (player.getUseItem().getUseAnimation()) {
+            return switch (player.getUseItem().getUseAnimation()) {
                 case BOW, SPEAR -> 0.6f;
                 case SPYGLASS -> 0.2f;
                 default -> 1f;
             };
-            impulseX *= aimMultiplier;
-            impulseY *= aimMultiplier;
         }
+        return 1f;
+    }
+
+    /**
+     * Sampled look reads the bound inputs directly, so it can only be used while the bindings
+     * would pass them through unchanged, otherwise look goes through the bindings each tick.
+     */
+    private boolean areLookBindingsActive() {
+        return ControlifyBindings.LOOK_UP.on(controller).isActive()
+                && ControlifyBindings.LOOK_DOWN.on(controller).isActive()
+                && ControlifyBindings.LOOK_LEFT.on(controller).isActive()
+                && ControlifyBindings.LOOK_RIGHT.on(controller).isActive();
+    }
+
+    /**
+     * Captures everything regular look needs that can only be read on tick,
+     * so that {@link #integrateSampledLook(ControllerStateView, float)} only has to read the sample.
+     */
+    private void prepareSampledLook(InputComponent input, LocalPlayer player) {
+        sampledLookConfig = input.confObj();
+        sampledLookMultiplier = getLookMultiplier(sampledLookConfig, player);
+        sampledLookUp = ControlifyBindings.LOOK_UP.on(controller).boundInput();
+        sampledLookDown = ControlifyBindings.LOOK_DOWN.on(controller).boundInput();
+        sampledLookLeft = ControlifyBindings.LOOK_LEFT.on(controller).boundInput();
+        sampledLookRight = ControlifyBindings.LOOK_RIGHT.on(controller).boundInput();
+    }
+
+    private void integrateSampledLook(ControllerStateView state, float deltaSeconds) {
+        if (!sampledLook || sampledLookConfig == null)
+            return;
+
+        float impulseY = sampledLookDown.state(state) - sampledLookUp.state(state);
+        float impulseX = sampledLookRight.state(state) - sampledLookLeft.state(state);
 
-        impulse.x += impulseX;
-        impulse.y += impulseY;
+        sampledLookImpulse.set(0);
+        applyRegularLook(sampledLookConfig, impulseX, impulseY, sampledLookMultiplier, sampledLookImpulse);
+
+        // the impulse is in degrees per tick
+        sampledLookX += sampledLookImpulse.x * deltaSeconds * 20f;
+        sampledLookY += sampledLookImpulse.y * deltaSeconds * 20f;
     }
 
     protected void handleGyroLook(GyroComponent gyro, Vector2f impulse, boolean aiming) {
         GyroComponent.Config config = gyro.confObj();
+        boolean enabled = !config.requiresButton || ControlifyBindings.GYRO_BUTTON.on(controller).digitalNow() || aiming;
+
+        // when the sensor reports individual samples, absolute gyro is integrated per frame instead
+        sampledGyro = !config.relativeGyroMode && gyro.samples().isLive();
+        if (sampledGyro) {
+            sampledGyroConfig = enabled ? config : null;
+            gyroInput.set(0);
+            return;
+        }
 
-        if (config.requiresButton && (!ControlifyBindings.GYRO_BUTTON.on(controller).digitalNow() && !aiming)) {
+        if (!enabled) {
             gyroInput.set(0);
         } else {
             if (config.relativeGyroMode)
@@ -312,14 +398,41 @@ public class InGameInputHandler {
                 .div(20)
                 .mul(config.lookSensitivity);
 
-        impulse.y += -thisInput.pitch() * (config.invertY ? -1 : 1);
+        applyGyroLook(config, thisInput, impulse);
+    }
+
+    private static void applyGyroLook(GyroComponent.Config config, GyroStateC degrees, Vector2f impulse) {
+        impulse.y += -degrees.pitch() * (config.invertY ? -1 : 1);
         impulse.x += switch (config.yawMode) {
-            case YAW -> -thisInput.yaw();
-            case ROLL -> -thisInput.roll();
-            case BOTH -> -thisInput.yaw() - thisInput.roll();
+            case YAW -> -degrees.yaw();
+            case ROLL -> -degrees.roll();
+            case BOTH -> -degrees.yaw() - degrees.roll();
         } * (config.invertX ? -1 : 1);
     }
 
+    /**
+     * Integrates the angular displacement of every gyro sample reported since the last frame.
+     * This is exact regardless of frame rate, unlike scaling one reading per tick by the frame time.
+     */
+    private void integrateSampledGyro() {
+        if (gyro == null)
+            return;
+
+        gyroDisplacement.set(0);
+        // always advance, so motion while gyro is paused is never applied later
+        gyroCursor = gyro.samples().integrate(gyroCursor, gyroDisplacement);
+
+        if (!sampledGyro || sampledGyroConfig == null)
+            return;
+
+        gyroDisplacement.mul(Mth.RAD_TO_DEG * sampledGyroConfig.lookSensitivity);
+        sampledLookImpulse.set(0);
+        applyGyroLook(sampledGyroConfig, gyroDisplacement, sampledLookImpulse);
+
+        sampledLookX += sampledLookImpulse.x;
+        sampledLookY += sampledLookImpulse.y;
+    }
+
     protected void handleFlickStick(LocalPlayer player) {
         float y = ControlifyBindings.LOOK_DOWN.on(controller).analogueNow()
                 - ControlifyBindings.LOOK_UP.on(controller).analogueNow();
@@ -347,8 +460,19 @@ public class InGameInputHandler {
     }
 
     public void processPlayerLook(float deltaTime) {
+        sampledLookX = 0;
+        sampledLookY = 0;
+        // always drain, so samples taken while look is paused are never applied later
+        if (lookSampleReader != null) {
+            lookSampleReader.drain(sampledLookConsumer);
+        }
+        integrateSampledGyro();
+
         if (minecraft.player != null) {
-            minecraft.player.turn(lookInputX / 0.15f * deltaTime, lookInputY / 0.15f * deltaTime);
+            minecraft.player.turn(
+                    (lookInputX * deltaTime + sampledLookX) / 0.15f,
+                    (lookInputY * deltaTime + sampledLookY) / 0.15f
+            );
         }
     }
 
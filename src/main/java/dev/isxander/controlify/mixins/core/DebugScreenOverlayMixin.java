@@ -0,0 +1,27 @@
+package dev.isxander.controlify.mixins.core;
+
+import dev.isxander.controlify.platform.EventListenerProbe;
+import net.minecraft.client.gui.components.DebugScreenOverlay;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import java.util.List;
+
+@Mixin(DebugScreenOverlay.class)
+public class DebugScreenOverlayMixin {
+    @Inject(method = "getSystemInformation", at = @At("RETURN"))
+    private void addEventListenerTimings(CallbackInfoReturnable<List<String>> cir) {
+        if (!EventListenerProbe.ENABLED)
+            return;
+
+        List<String> lines = cir.getReturnValue();
+        lines.add("");
+        lines.add("[Controlify] Slowest event listeners");
+        for (EventListenerProbe.ListenerTiming timing : EventListenerProbe.slowestListeners(5)) {
+            lines.add(String.format("%s: %s %.1fus avg %.1fus max",
+                    timing.eventName(), timing.listenerName(), timing.averageMicros(), timing.maxMicros()));
+        }
+    }
+}
@@ -98,12 +98,15 @@ public abstract class MinecraftMixin implements InitialScreenRegistryDuck {
     /*@Inject(method = "runTick", at = @At(value = "INVOKE", target = "Lnet/minecraft/client/MouseHandler;turnPlayer()V"))
     *//*?}*/
     private void doPlayerLook(boolean tick, CallbackInfo ci) {
+        Controlify.instance().getControllerManager().ifPresent(ControllerManager::pollSensors);
         Controlify.instance().inGameInputHandler().ifPresent(ih -> ih.processPlayerLook(getTickDelta()));
+        Controlify.instance().updateRumble(getTickDelta());
     }
 
     @Inject(method = "close", at = @At(value = "INVOKE", target = "Lnet/minecraft/client/telemetry/ClientTelemetryManager;close()V"))
     private void onMinecraftClose(CallbackInfo ci) {
         Controlify.instance().getControllerManager().ifPresent(ControllerManager::close);
+        Controlify.instance().config().flush();
     }
 
     @Inject(
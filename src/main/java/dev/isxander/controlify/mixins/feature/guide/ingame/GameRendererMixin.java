@@ -0,0 +1,21 @@
+package dev.isxander.controlify.mixins.feature.guide.ingame;
+
+import dev.isxander.controlify.gui.guide.CrosshairPick;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.GameRenderer;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(GameRenderer.class)
+public class GameRendererMixin {
+    @Shadow @Final Minecraft minecraft;
+
+    @Inject(method = "pick(F)V", at = @At("TAIL"))
+    private void captureCrosshairPick(float partialTicks, CallbackInfo ci) {
+        CrosshairPick.onPicked(minecraft);
+    }
+}
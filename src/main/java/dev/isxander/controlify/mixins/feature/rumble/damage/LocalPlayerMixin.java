@@ -4,6 +4,7 @@ import dev.isxander.controlify.api.ControlifyApi;
 import dev.isxander.controlify.controller.ControllerEntity;
 import dev.isxander.controlify.rumble.BasicRumbleEffect;
 import dev.isxander.controlify.rumble.RumbleSource;
+import dev.isxander.controlify.rumble.effects.BuiltinRumbleEffects;
 import net.minecraft.client.player.LocalPlayer;
 import net.minecraft.world.damagesource.DamageSource;
 import org.spongepowered.asm.mixin.Mixin;
@@ -42,7 +43,7 @@ public abstract class LocalPlayerMixin extends PlayerMixin {
                 .flatMap(ControllerEntity::rumble)
                 .ifPresent(rumble -> rumble.rumbleManager().play(
                         RumbleSource.PLAYER,
-                        BasicRumbleEffect.constant(0.8f, 0.5f, 5)
+                        new BasicRumbleEffect(BuiltinRumbleEffects.DAMAGE)
                 ));
     }
 }
@@ -3,6 +3,7 @@ package dev.isxander.controlify.mixins.feature.rumble.explosion;
 import dev.isxander.controlify.api.ControlifyApi;
 import dev.isxander.controlify.controller.ControllerEntity;
 import dev.isxander.controlify.rumble.BasicRumbleEffect;
+import dev.isxander.controlify.rumble.RumbleKeyframes;
 import dev.isxander.controlify.rumble.RumbleSource;
 import dev.isxander.controlify.rumble.RumbleState;
 import dev.isxander.controlify.utils.Easings;
@@ -24,13 +25,10 @@ public class ClientPacketListenerMixin {
                 .flatMap(ControllerEntity::rumble)
                 .ifPresent(rumble -> rumble.rumbleManager().play(
                         RumbleSource.WORLD,
-                        BasicRumbleEffect.join(
-                                BasicRumbleEffect.constant(initialMagnitude, initialMagnitude, 4), // initial boom
-                                BasicRumbleEffect.byTime(t -> {
-                                    float magnitude = calculateMagnitude(packet);
-                                    return new RumbleState(0f, magnitude - t * magnitude);
-                                }, 20) // explosion
-                        )
+                        new BasicRumbleEffect(RumbleKeyframes.builder()
+                                .hold(new RumbleState(initialMagnitude, initialMagnitude), 4) // initial boom
+                                .ramp(new RumbleState(0f, initialMagnitude), RumbleState.NONE, 20) // explosion
+                                .build())
                 ));
     }
 
@@ -5,7 +5,7 @@ import dev.isxander.controlify.api.ControlifyApi;
 import dev.isxander.controlify.controller.ControllerEntity;
 import dev.isxander.controlify.rumble.BasicRumbleEffect;
 import dev.isxander.controlify.rumble.RumbleSource;
-import dev.isxander.controlify.rumble.RumbleState;
+import dev.isxander.controlify.rumble.effects.BuiltinRumbleEffects;
 import net.minecraft.world.entity.LightningBolt;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
@@ -19,10 +19,7 @@ public class LightningBoltMixin {
                     .flatMap(ControllerEntity::rumble)
                     .ifPresent(controller -> controller.rumbleManager().play(
                             RumbleSource.WORLD,
-                            BasicRumbleEffect.join(
-                                    BasicRumbleEffect.constant(1f, 0.2f, 6), // initial boom
-                                    BasicRumbleEffect.byTime(t -> new RumbleState(0f, 1 - t*0.2f), 10) // explosion
-                            )
+                            new BasicRumbleEffect(BuiltinRumbleEffects.LIGHTNING_STRIKE)
                     ));
         }
         return client;
@@ -5,7 +5,7 @@ import dev.isxander.controlify.controller.ControllerEntity;
 import dev.isxander.controlify.rumble.BasicRumbleEffect;
 import dev.isxander.controlify.rumble.RumbleEffect;
 import dev.isxander.controlify.rumble.RumbleSource;
-import dev.isxander.controlify.rumble.RumbleState;
+import dev.isxander.controlify.rumble.effects.BuiltinRumbleEffects;
 import net.minecraft.client.player.LocalPlayer;
 import net.minecraft.world.item.ItemStack;
 import org.spongepowered.asm.mixin.Mixin;
@@ -19,7 +19,7 @@ public class LocalPlayerMixin extends LivingEntityMixin {
                 .flatMap(ControllerEntity::rumble)
                 .ifPresent(controller -> controller.rumbleManager().play(
                         RumbleSource.PLAYER,
-                        BasicRumbleEffect.byTick(tick -> new RumbleState(tick <= 4 ? 1f : 0f, 1f), 10)
+                        new BasicRumbleEffect(BuiltinRumbleEffects.ITEM_BREAK)
                 ));
     }
 }
@@ -5,8 +5,7 @@ import dev.isxander.controlify.controller.ControllerEntity;
 import dev.isxander.controlify.rumble.BasicRumbleEffect;
 import dev.isxander.controlify.rumble.RumbleEffect;
 import dev.isxander.controlify.rumble.RumbleSource;
-import dev.isxander.controlify.rumble.RumbleState;
-import dev.isxander.controlify.utils.Easings;
+import dev.isxander.controlify.rumble.effects.BuiltinRumbleEffects;
 import net.minecraft.client.renderer.LevelRenderer;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.block.LevelEvent;
@@ -23,10 +22,7 @@ public class LevelRendererMixin {
         switch (eventId) {
             case LevelEvent.SOUND_ANVIL_USED -> rumble(
                     RumbleSource.GUI,
-                    BasicRumbleEffect.join(
-                            BasicRumbleEffect.constant(1f, 0.5f, 2),
-                            BasicRumbleEffect.empty(5)
-                    ).repeat(3)
+                    new BasicRumbleEffect(BuiltinRumbleEffects.ANVIL_USED)
             );
         }
     }
@@ -36,24 +32,11 @@ public class LevelRendererMixin {
         switch (eventId) {
             case LevelEvent.SOUND_DRAGON_DEATH -> rumble(
                     RumbleSource.WORLD,
-                    BasicRumbleEffect.join(
-                            BasicRumbleEffect.constant(1f, 1f, 194),
-                            BasicRumbleEffect.byTime(t -> {
-                                float easeOutQuad = Easings.easeOutQuad(t);
-                                return new RumbleState(1 - easeOutQuad, 1 - easeOutQuad);
-                            }, 63)
-                    ).prioritised(10)
+                    new BasicRumbleEffect(BuiltinRumbleEffects.DRAGON_DEATH).prioritised(10)
             );
             case LevelEvent.SOUND_WITHER_BOSS_SPAWN -> rumble(
                     RumbleSource.WORLD,
-                    BasicRumbleEffect.join(
-                            BasicRumbleEffect.constant(1f, 1f, 9),
-                            BasicRumbleEffect.constant(0.1f, 1f, 14),
-                            BasicRumbleEffect.byTime(t -> {
-                                float easeOutQuad = 1 - (1 - t) * (1 - t);
-                                return new RumbleState(0f, 1 - easeOutQuad);
-                            }, 56)
-                    ).prioritised(10)
+                    new BasicRumbleEffect(BuiltinRumbleEffects.WITHER_SPAWN).prioritised(10)
             );
         }
     }
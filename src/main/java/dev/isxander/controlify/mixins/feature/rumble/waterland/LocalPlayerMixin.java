@@ -38,8 +38,9 @@ public abstract class LocalPlayerMixin extends PlayerMixin {
                 float multiplier = Math.min(1, impactForce / 0.5f);
                 rumble.rumbleManager().play(
                         RumbleSource.PLAYER,
-                        BasicRumbleEffect.byTime(
-                                t -> new RumbleState(multiplier * (1 - t), multiplier * 0.5f),
+                        BasicRumbleEffect.ramp(
+                                new RumbleState(multiplier, multiplier * 0.5f),
+                                new RumbleState(0f, multiplier * 0.5f),
                                 impactForce < 0.25f ? 10 : 20
                         )
                 );
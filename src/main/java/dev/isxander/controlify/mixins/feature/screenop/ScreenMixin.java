@@ -24,12 +24,12 @@ public class ScreenMixin implements ScreenProcessorProvider {
     @Inject(method = "init(Lnet/minecraft/client/Minecraft;II)V", at = @At(value = "INVOKE", target = "Lnet/minecraft/client/gui/screens/Screen;init()V", shift = At.Shift.AFTER))
     private void onScreenInitialInit(Minecraft client, int width, int height, CallbackInfo ci) {
         // cannot use screenProcessor() because it may be overriden by registry
-        ScreenProcessorProvider.provide((Screen) (Object) this).onWidgetRebuild();
+        ScreenProcessorProvider.provide((Screen) (Object) this).notifyWidgetRebuild();
     }
 
     @Inject(method = "rebuildWidgets", at = @At("RETURN"))
     private void onScreenInit(CallbackInfo ci) {
         // cannot use screenProcessor() because it may be overriden by registry
-        ScreenProcessorProvider.provide((Screen) (Object) this).onWidgetRebuild();
+        ScreenProcessorProvider.provide((Screen) (Object) this).notifyWidgetRebuild();
     }
 }
@@ -4,15 +4,31 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class ArrayBackedEventHandler<T> implements EventHandler<T> {
+    private final String name;
     private final List<Callback<T>> callbacks = new ArrayList<>();
 
+    public ArrayBackedEventHandler() {
+        this("unnamed");
+    }
+
+    public ArrayBackedEventHandler(String name) {
+        this.name = name;
+    }
+
     @Override
     public void register(Callback<T> event) {
-        this.callbacks.add(event);
+        this.callbacks.add(EventListenerProbe.wrap(name, event));
     }
 
     @Override
     public void invoke(T event) {
-        this.callbacks.forEach(c -> c.onEvent(event));
+        for (int i = 0; i < callbacks.size(); i++) {
+            callbacks.get(i).onEvent(event);
+        }
+    }
+
+    @Override
+    public boolean hasListeners() {
+        return !callbacks.isEmpty();
     }
 }
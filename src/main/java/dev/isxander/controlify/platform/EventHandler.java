@@ -5,11 +5,23 @@ public interface EventHandler<T> {
 
     void invoke(T event);
 
+    /**
+     * @return whether any callbacks are registered, so callers of frequent events can skip creating the event entirely
+     */
+    boolean hasListeners();
+
     static <T> EventHandler<T> createPlatformBackedEvent() {
+        return createPlatformBackedEvent("unnamed");
+    }
+
+    /**
+     * @param name the name of the event, shown alongside its listeners by the {@link EventListenerProbe}
+     */
+    static <T> EventHandler<T> createPlatformBackedEvent(String name) {
         //? if fabric {
-        return new dev.isxander.controlify.platform.fabric.FabricBackedEventHandler<>();
+        return new dev.isxander.controlify.platform.fabric.FabricBackedEventHandler<>(name);
         //?} else {
-        /*return new ArrayBackedEventHandler<>();
+        /*return new ArrayBackedEventHandler<>(name);
         *///?}
     }
 
@@ -0,0 +1,92 @@
+package dev.isxander.controlify.platform;
+
+import dev.isxander.controlify.debug.DebugProperties;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Times every listener of Controlify's events, so slow listeners show up in the debug overlay.
+ * <p>
+ * Only enabled with {@link DebugProperties#PROFILE_EVENTS}, otherwise listeners are registered as-is
+ * and there is no overhead at all.
+ */
+public final class EventListenerProbe {
+    public static final boolean ENABLED = DebugProperties.PROFILE_EVENTS;
+
+    private static final List<TimedCallback<?>> listeners = new CopyOnWriteArrayList<>();
+
+    private EventListenerProbe() {
+    }
+
+    public static <T> EventHandler.Callback<T> wrap(String eventName, EventHandler.Callback<T> callback) {
+        if (!ENABLED)
+            return callback;
+
+        TimedCallback<T> timed = new TimedCallback<>(eventName, listenerName(callback), callback);
+        listeners.add(timed);
+        return timed;
+    }
+
+    /**
+     * @param limit the maximum number of listeners to return
+     * @return the listeners that have taken the longest on average, slowest first
+     */
+    public static List<ListenerTiming> slowestListeners(int limit) {
+        List<ListenerTiming> timings = new ArrayList<>(listeners.size());
+        for (TimedCallback<?> listener : listeners) {
+            if (listener.calls > 0) {
+                timings.add(new ListenerTiming(listener.eventName, listener.listenerName, listener.calls, listener.totalNanos, listener.maxNanos));
+            }
+        }
+        timings.sort(Comparator.comparingDouble(ListenerTiming::averageMicros).reversed());
+        return timings.subList(0, Math.min(limit, timings.size()));
+    }
+
+    private static String listenerName(Object callback) {
+        // lambdas are named after the class that declared them, which is what identifies the mod
+        String name = callback.getClass().getName();
+        int lambda = name.indexOf("$$Lambda");
+        return lambda < 0 ? name : name.substring(0, lambda);
+    }
+
+    public record ListenerTiming(String eventName, String listenerName, long calls, long totalNanos, long maxNanos) {
+        public double averageMicros() {
+            return totalNanos / 1000.0 / calls;
+        }
+
+        public double maxMicros() {
+            return maxNanos / 1000.0;
+        }
+    }
+
+    private static final class TimedCallback<T> implements EventHandler.Callback<T> {
+        private final String eventName;
+        private final String listenerName;
+        private final EventHandler.Callback<T> delegate;
+
+        // only approximate if the event is invoked from several threads, which is fine for a debug probe
+        private volatile long calls, totalNanos, maxNanos;
+
+        private TimedCallback(String eventName, String listenerName, EventHandler.Callback<T> delegate) {
+            this.eventName = eventName;
+            this.listenerName = listenerName;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void onEvent(T event) {
+            long start = System.nanoTime();
+            try {
+                delegate.onEvent(event);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                calls++;
+                totalNanos += elapsed;
+                if (elapsed > maxNanos) maxNanos = elapsed;
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package dev.isxander.controlify.platform.client.resource;
+
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.Resource;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32C;
+
+/**
+ * Keeps decoded resources between reloads, keyed by the resource's pack and location,
+ * and matched against the length and checksum of its content.
+ * <p>
+ * A reload with unchanged packs still has to read every file, but only has to hash it,
+ * not decode it again. Only the checksum is kept, not the content, so a cached resource costs
+ * no more memory between reloads than its decoded value. Decoded values are shared between reloads, so they must not be modified.
+ * <p>
+ * Resources may be decoded concurrently during {@code load}. Call {@link #beginReload()} before
+ * decoding and {@link #endReload()} once everything is decoded, which drops entries of
+ * resources that no longer exist.
+ */
+public final class ReloadCache<T> {
+    private final ResourceLocation listenerId;
+
+    private volatile Map<String, Entry<T>> entries = Map.of();
+    private final Map<String, Entry<T>> nextEntries = new ConcurrentHashMap<>();
+    private final AtomicInteger hits = new AtomicInteger(), misses = new AtomicInteger();
+
+    public ReloadCache(ResourceLocation listenerId) {
+        this.listenerId = listenerId;
+    }
+
+    public void beginReload() {
+        nextEntries.clear();
+        hits.set(0);
+        misses.set(0);
+    }
+
+    /**
+     * Drops every entry, for when decoding depends on more than the resource's content and that changed.
+     */
+    public void invalidate() {
+        entries = Map.of();
+    }
+
+    public void endReload() {
+        entries = Map.copyOf(nextEntries);
+        nextEntries.clear();
+        ReloadMetrics.recordCache(listenerId, hits.get(), misses.get());
+    }
+
+    /**
+     * Decodes a resource, or returns what it was decoded to in an earlier reload if its content is unchanged.
+     *
+     * @param location the location the resource was found at
+     * @return the decoded value, or null if the decoder returned null, which is never cached
+     */
+    public @Nullable T decode(ResourceLocation location, Resource resource, Decoder<T> decoder) throws Exception {
+        byte[] bytes;
+        try (InputStream in = resource.open()) {
+            bytes = in.readAllBytes();
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(bytes);
+        long checksum = crc.getValue();
+
+        String key = resource.sourcePackId() + '/' + location;
+        Entry<T> entry = entries.get(key);
+        if (entry != null && entry.length == bytes.length && entry.checksum == checksum) {
+            hits.incrementAndGet();
+            nextEntries.put(key, entry);
+            return entry.value;
+        }
+
+        misses.incrementAndGet();
+        T value;
+        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8)) {
+            value = decoder.decode(reader);
+        }
+        if (value != null) {
+            nextEntries.put(key, new Entry<>(bytes.length, checksum, value));
+        }
+        return value;
+    }
+
+    @FunctionalInterface
+    public interface Decoder<T> {
+        @Nullable T decode(Reader reader) throws Exception;
+    }
+
+    private record Entry<T>(int length, long checksum, T value) {
+    }
+}
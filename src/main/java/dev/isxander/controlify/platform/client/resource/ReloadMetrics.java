@@ -0,0 +1,64 @@
+package dev.isxander.controlify.platform.client.resource;
+
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * How long each of Controlify's reload listeners took on the last resource reload, for the debug dump.
+ */
+public final class ReloadMetrics {
+    private static final Map<ResourceLocation, ListenerMetrics> metrics = new ConcurrentHashMap<>();
+
+    private ReloadMetrics() {
+    }
+
+    static void recordLoad(ResourceLocation listenerId, long nanos) {
+        metrics(listenerId).loadNanos = nanos;
+    }
+
+    static void recordApply(ResourceLocation listenerId, long nanos) {
+        metrics(listenerId).applyNanos = nanos;
+    }
+
+    static void recordCache(ResourceLocation listenerId, int hits, int misses) {
+        ListenerMetrics listener = metrics(listenerId);
+        listener.cacheHits = hits;
+        listener.cacheMisses = misses;
+    }
+
+    /**
+     * @return the metrics of every listener that has reloaded, ordered by id
+     */
+    public static List<Snapshot> snapshot() {
+        List<Snapshot> snapshots = new ArrayList<>(metrics.size());
+        metrics.forEach((id, listener) -> snapshots.add(new Snapshot(
+                id, listener.loadNanos, listener.applyNanos, listener.cacheHits, listener.cacheMisses
+        )));
+        snapshots.sort(Comparator.comparing(snapshot -> snapshot.listenerId().toString()));
+        return snapshots;
+    }
+
+    private static ListenerMetrics metrics(ResourceLocation listenerId) {
+        return metrics.computeIfAbsent(listenerId, id -> new ListenerMetrics());
+    }
+
+    public record Snapshot(ResourceLocation listenerId, long loadNanos, long applyNanos, int cacheHits, int cacheMisses) {
+        public double loadMillis() {
+            return loadNanos / 1e6;
+        }
+
+        public double applyMillis() {
+            return applyNanos / 1e6;
+        }
+    }
+
+    private static final class ListenerMetrics {
+        private volatile long loadNanos, applyNanos;
+        private volatile int cacheHits, cacheMisses;
+    }
+}
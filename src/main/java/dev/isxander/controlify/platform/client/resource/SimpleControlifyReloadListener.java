@@ -11,9 +11,15 @@ import java.util.concurrent.Executor;
 public interface SimpleControlifyReloadListener<T> extends ControlifyReloadListener {
     @Override
     default @NotNull CompletableFuture<Void> reload(PreparableReloadListener.PreparationBarrier helper, ResourceManager manager, ProfilerFiller loadProfiler, ProfilerFiller applyProfiler, Executor loadExecutor, Executor applyExecutor) {
-        return load(manager, loadProfiler, loadExecutor).thenCompose(helper::wait).thenCompose(
-                (o) -> apply(o, manager, applyProfiler, applyExecutor)
-        );
+        long loadStart = System.nanoTime();
+        return load(manager, loadProfiler, loadExecutor)
+                .whenComplete((o, t) -> ReloadMetrics.recordLoad(getReloadId(), System.nanoTime() - loadStart))
+                .thenCompose(helper::wait)
+                .thenCompose((o) -> {
+                    long applyStart = System.nanoTime();
+                    return apply(o, manager, applyProfiler, applyExecutor)
+                            .whenComplete((v, t) -> ReloadMetrics.recordApply(getReloadId(), System.nanoTime() - applyStart));
+                });
     }
 
     /**
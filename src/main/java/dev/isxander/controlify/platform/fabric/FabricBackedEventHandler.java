@@ -2,12 +2,21 @@
 package dev.isxander.controlify.platform.fabric;
 
 import dev.isxander.controlify.platform.EventHandler;
+import dev.isxander.controlify.platform.EventListenerProbe;
 import net.fabricmc.fabric.api.event.EventFactory;
 
 public class FabricBackedEventHandler<T> implements EventHandler<T> {
+    private final String name;
     private final net.fabricmc.fabric.api.event.Event<Callback<T>> backedEvent;
+    // fabric events don't expose their listeners
+    private volatile boolean hasListeners;
 
     public FabricBackedEventHandler() {
+        this("unnamed");
+    }
+
+    public FabricBackedEventHandler(String name) {
+        this.name = name;
         this.backedEvent = EventFactory.createArrayBacked(Callback.class, callbacks -> event -> {
             for (Callback<T> callback : callbacks) {
                 callback.onEvent(event);
@@ -17,12 +26,18 @@ public class FabricBackedEventHandler<T> implements EventHandler<T> {
 
     @Override
     public void register(Callback<T> event) {
-        this.backedEvent.register(event);
+        this.backedEvent.register(EventListenerProbe.wrap(name, event));
+        this.hasListeners = true;
     }
 
     @Override
     public void invoke(T event) {
         this.backedEvent.invoker().onEvent(event);
     }
+
+    @Override
+    public boolean hasListeners() {
+        return this.hasListeners;
+    }
 }
 //?}
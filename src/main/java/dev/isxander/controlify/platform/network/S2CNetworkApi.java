@@ -6,6 +6,14 @@ import net.minecraft.server.level.ServerPlayer;
 public interface S2CNetworkApi extends SidedNetworkApi {
     <T> void sendPacket(ServerPlayer recipient, ResourceLocation channel, T packet);
 
+    /**
+     * Whether the recipient is listening on the given channel, so a newer packet can fall back to an older one.
+     * Platforms that cannot tell always use the older packet.
+     */
+    default boolean canSend(ServerPlayer recipient, ResourceLocation channel) {
+        return false;
+    }
+
     <T> void listenForPacket(ResourceLocation channel, PacketListener<T> listener);
 
     @FunctionalInterface
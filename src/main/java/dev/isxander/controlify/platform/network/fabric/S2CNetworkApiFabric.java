@@ -29,6 +29,11 @@ public final class S2CNetworkApiFabric implements S2CNetworkApi {
         ServerPlayNetworking.send(recipient, packetWrapper.new FabricPacketPayloadWrapper(packet));
     }
 
+    @Override
+    public boolean canSend(ServerPlayer recipient, ResourceLocation channel) {
+        return ServerPlayNetworking.canSend(recipient, channel);
+    }
+
     @Override
     public <T> void listenForPacket(ResourceLocation channel, PacketListener<T> listener) {
         FabricPacketWrapper<T> packetWrapper = getWrapper(channel);
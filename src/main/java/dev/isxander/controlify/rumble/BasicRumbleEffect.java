@@ -10,20 +10,28 @@ import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 
 public final class BasicRumbleEffect implements RumbleEffect {
-    private final RumbleState[] keyframes;
+    private final RumbleKeyframes keyframes;
     private int tick = 0;
     private boolean finished;
     private int priority = 0;
     private BooleanSupplier earlyFinishCondition = () -> false;
 
-    public BasicRumbleEffect(RumbleState[] keyframes) {
+    private int segment = 0;
+    private RumbleState state;
+    private int stateSegment = -1;
+
+    public BasicRumbleEffect(RumbleKeyframes keyframes) {
         this.keyframes = keyframes;
     }
 
+    public BasicRumbleEffect(RumbleState[] keyframes) {
+        this(RumbleKeyframes.of(keyframes));
+    }
+
     @Override
     public void tick() {
         tick++;
-        if (tick >= keyframes.length || earlyFinishCondition.getAsBoolean())
+        if (tick >= keyframes.duration() || earlyFinishCondition.getAsBoolean())
             finished = true;
     }
 
@@ -31,8 +39,18 @@ public final class BasicRumbleEffect implements RumbleEffect {
     public RumbleState currentState() {
         if (tick == 0)
             throw new IllegalStateException("Effect hasn't ticked yet.");
+        if (keyframes.duration() == 0)
+            return RumbleState.NONE;
+
+        int frame = Math.min(tick, keyframes.duration()) - 1;
+        segment = keyframes.segmentAt(frame, segment);
 
-        return keyframes[tick - 1];
+        // a held state is the same object for the whole segment, only ramps need a new state each tick
+        if (segment != stateSegment || !keyframes.isConstant(segment)) {
+            state = keyframes.stateAt(frame, segment);
+            stateSegment = segment;
+        }
+        return state;
     }
 
     @Override
@@ -55,7 +73,15 @@ public final class BasicRumbleEffect implements RumbleEffect {
         return this;
     }
 
+    /**
+     * @deprecated materialises a state per tick, use {@link #keyframes()}
+     */
+    @Deprecated
     public RumbleState[] states() {
+        return keyframes.toStates();
+    }
+
+    public RumbleKeyframes keyframes() {
         return keyframes;
     }
 
@@ -70,19 +96,19 @@ public final class BasicRumbleEffect implements RumbleEffect {
         if (obj == this) return true;
         if (obj == null || obj.getClass() != this.getClass()) return false;
         var that = (BasicRumbleEffect) obj;
-        return Arrays.equals(this.states(), that.states())
+        return this.keyframes.equals(that.keyframes)
                 && this.priority() == that.priority();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(Arrays.hashCode(this.states()), this.priority());
+        return Objects.hash(this.keyframes, this.priority());
     }
 
     @Override
     public String toString() {
         return "RumbleEffect[" +
-                "states=" + Arrays.toString(this.states()) + ',' +
+                "states=" + Arrays.toString(this.keyframes.toStates()) + ',' +
                 "priority=" + this.priority() + ']';
     }
 
@@ -95,11 +121,7 @@ public final class BasicRumbleEffect implements RumbleEffect {
 
         if (count == 1) return this;
 
-        BasicRumbleEffect effect = this;
-        for (int i = 0; i < count - 1; i++) {
-            effect = BasicRumbleEffect.join(effect, this);
-        }
-        return effect;
+        return new BasicRumbleEffect(keyframes.repeat(count));
     }
 
     /**
@@ -109,11 +131,7 @@ public final class BasicRumbleEffect implements RumbleEffect {
      * @param durationTicks how many ticks the effect should last for.
      */
     public static BasicRumbleEffect byTick(Function<Integer, RumbleState> stateFunction, int durationTicks) {
-        RumbleState[] states = new RumbleState[durationTicks];
-        for (int i = 0; i < durationTicks; i++) {
-            states[i] = stateFunction.apply(i);
-        }
-        return new BasicRumbleEffect(states);
+        return new BasicRumbleEffect(RumbleKeyframes.byTick(stateFunction::apply, durationTicks));
     }
 
     /**
@@ -134,29 +152,31 @@ public final class BasicRumbleEffect implements RumbleEffect {
      * @param durationTicks how many ticks the effect should last for.
      */
     public static BasicRumbleEffect constant(float strong, float weak, int durationTicks) {
-        return BasicRumbleEffect.byTick(tick -> new RumbleState(strong, weak), durationTicks);
+        return new BasicRumbleEffect(RumbleKeyframes.constant(new RumbleState(strong, weak), durationTicks));
+    }
+
+    /**
+     * Creates a rumble effect that ramps linearly from one state to another.
+     *
+     * @param from          the state on the first tick.
+     * @param to            the state the effect is heading towards, reached on the tick after the effect ends.
+     * @param durationTicks how many ticks the effect should last for.
+     */
+    public static BasicRumbleEffect ramp(RumbleState from, RumbleState to, int durationTicks) {
+        return new BasicRumbleEffect(RumbleKeyframes.builder().ramp(from, to, durationTicks).build());
     }
 
     public static BasicRumbleEffect empty(int durationTicks) {
-        return BasicRumbleEffect.byTick(tick -> new RumbleState(0f, 0f), durationTicks);
+        return new BasicRumbleEffect(RumbleKeyframes.constant(RumbleState.NONE, durationTicks));
     }
 
     public static BasicRumbleEffect join(BasicRumbleEffect... effects) {
-        int totalTicks = 0;
-        for (BasicRumbleEffect effect : effects) {
-            totalTicks += effect.states().length;
-        }
-
-        RumbleState[] states = new RumbleState[totalTicks];
-        int currentTick = 0;
+        RumbleKeyframes.Builder builder = RumbleKeyframes.builder();
         for (BasicRumbleEffect effect : effects) {
-            for (RumbleState state : effect.states()) {
-                states[currentTick] = state;
-                currentTick++;
-            }
+            builder.append(effect.keyframes);
         }
 
-        return new BasicRumbleEffect(states);
+        return new BasicRumbleEffect(builder.build());
     }
 
     public static BooleanSupplier finishOnScreenChange() {
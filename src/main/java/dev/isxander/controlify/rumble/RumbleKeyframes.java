@@ -0,0 +1,274 @@
+package dev.isxander.controlify.rumble;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.util.Mth;
+import org.apache.commons.lang3.Validate;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * An immutable sequence of rumble states, one per tick, stored as segments.
+ * <p>
+ * Each segment either holds a single state for its whole length or ramps linearly from one state to another,
+ * with states packed by {@link RumbleState#packToInt(RumbleState)}. Consecutive ticks with the same state share
+ * a segment, so long effects cost as much as the number of times they change rather than their length.
+ * As instances are immutable, effects that never change can be built once and shared between every play.
+ */
+public final class RumbleKeyframes {
+    public static final RumbleKeyframes EMPTY = new RumbleKeyframes(new int[0], new int[0], new int[0], new boolean[0]);
+
+    private final int[] from, to;
+    /** Exclusive end tick of each segment, so the start of a segment is the end of the one before it. */
+    private final int[] ends;
+    private final boolean[] ramps;
+
+    private RumbleKeyframes(int[] from, int[] to, int[] ends, boolean[] ramps) {
+        this.from = from;
+        this.to = to;
+        this.ends = ends;
+        this.ramps = ramps;
+    }
+
+    public int duration() {
+        return ends.length == 0 ? 0 : ends[ends.length - 1];
+    }
+
+    public int segmentCount() {
+        return ends.length;
+    }
+
+    /**
+     * Finds the segment containing a tick, starting from a previously found segment.
+     * As effects play forwards, passing the last result makes each lookup constant time.
+     *
+     * @param tick the tick, from 0 inclusive to {@link #duration()} exclusive
+     * @param hint a segment at or before the one containing the tick, or 0
+     */
+    public int segmentAt(int tick, int hint) {
+        int segment = Math.max(hint, 0);
+        while (segment < ends.length - 1 && ends[segment] <= tick) {
+            segment++;
+        }
+        return segment;
+    }
+
+    /**
+     * @param segment the segment containing the tick, found by {@link #segmentAt(int, int)}
+     */
+    public RumbleState stateAt(int tick, int segment) {
+        if (!ramps[segment])
+            return RumbleState.unpackFromInt(from[segment]);
+
+        int start = segment == 0 ? 0 : ends[segment - 1];
+        float delta = (float) (tick - start) / (ends[segment] - start);
+        RumbleState from = RumbleState.unpackFromInt(this.from[segment]);
+        RumbleState to = RumbleState.unpackFromInt(this.to[segment]);
+        return new RumbleState(Mth.lerp(delta, from.strong(), to.strong()), Mth.lerp(delta, from.weak(), to.weak()));
+    }
+
+    /**
+     * @return whether the segment holds the same state for its whole length
+     */
+    public boolean isConstant(int segment) {
+        return !ramps[segment];
+    }
+
+    public RumbleState stateAt(int tick) {
+        if (tick < 0 || tick >= duration())
+            throw new IndexOutOfBoundsException("Tick " + tick + " is outside of keyframes of duration " + duration());
+
+        int segment = Arrays.binarySearch(ends, tick + 1);
+        if (segment < 0) segment = -segment - 1;
+        return stateAt(tick, segment);
+    }
+
+    /**
+     * Materialises every tick of the sequence, one state per tick.
+     */
+    public RumbleState[] toStates() {
+        RumbleState[] states = new RumbleState[duration()];
+        int segment = 0;
+        for (int tick = 0; tick < states.length; tick++) {
+            segment = segmentAt(tick, segment);
+            states[tick] = stateAt(tick, segment);
+        }
+        return states;
+    }
+
+    public RumbleKeyframes join(RumbleKeyframes other) {
+        return builder().append(this).append(other).build();
+    }
+
+    public RumbleKeyframes repeat(int count) {
+        Validate.isTrue(count > 0, "count must be greater than 0");
+
+        Builder builder = builder();
+        for (int i = 0; i < count; i++) {
+            builder.append(this);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Writes the segments to a packet. A segment holding a state costs its length as a var-int
+     * and a single packed state, a ramp costs one packed state more.
+     */
+    public void write(FriendlyByteBuf buf) {
+        buf.writeVarInt(ends.length);
+        int start = 0;
+        for (int i = 0; i < ends.length; i++) {
+            buf.writeVarInt((ends[i] - start) << 1 | (ramps[i] ? 1 : 0));
+            buf.writeInt(from[i]);
+            if (ramps[i]) buf.writeInt(to[i]);
+            start = ends[i];
+        }
+    }
+
+    public static RumbleKeyframes read(FriendlyByteBuf buf) {
+        int segments = buf.readVarInt();
+        Builder builder = builder();
+        for (int i = 0; i < segments; i++) {
+            int header = buf.readVarInt();
+            int length = header >>> 1;
+            int from = buf.readInt();
+            if ((header & 1) != 0) {
+                builder.rampPacked(from, buf.readInt(), length);
+            } else {
+                builder.holdPacked(from, length);
+            }
+        }
+        return builder.build();
+    }
+
+    public static RumbleKeyframes constant(RumbleState state, int durationTicks) {
+        return builder().hold(state, durationTicks).build();
+    }
+
+    public static RumbleKeyframes byTick(IntFunction<RumbleState> stateFunction, int durationTicks) {
+        Builder builder = builder();
+        for (int tick = 0; tick < durationTicks; tick++) {
+            builder.hold(stateFunction.apply(tick), 1);
+        }
+        return builder.build();
+    }
+
+    public static RumbleKeyframes of(RumbleState[] states) {
+        Builder builder = builder();
+        for (RumbleState state : states) {
+            builder.hold(state, 1);
+        }
+        return builder.build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) return true;
+        if (!(obj instanceof RumbleKeyframes that)) return false;
+        return Arrays.equals(this.from, that.from)
+                && Arrays.equals(this.to, that.to)
+                && Arrays.equals(this.ends, that.ends)
+                && Arrays.equals(this.ramps, that.ramps);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(from);
+        result = 31 * result + Arrays.hashCode(to);
+        result = 31 * result + Arrays.hashCode(ends);
+        return 31 * result + Arrays.hashCode(ramps);
+    }
+
+    public static final class Builder {
+        private int[] from = new int[8], to = new int[8], ends = new int[8];
+        private boolean[] ramps = new boolean[8];
+        private int size;
+
+        private Builder() {
+        }
+
+        /**
+         * Holds a state for a number of ticks.
+         */
+        public Builder hold(RumbleState state, int ticks) {
+            return holdPacked(RumbleState.packToInt(state), ticks);
+        }
+
+        /**
+         * Ramps linearly between two states over a number of ticks.
+         * The first tick is {@code from}, and the state reaches {@code to} on the tick after the ramp,
+         * the same as {@link BasicRumbleEffect#byTime(java.util.function.Function, int)}.
+         */
+        public Builder ramp(RumbleState from, RumbleState to, int ticks) {
+            return rampPacked(RumbleState.packToInt(from), RumbleState.packToInt(to), ticks);
+        }
+
+        public Builder append(RumbleKeyframes keyframes) {
+            int start = 0;
+            for (int i = 0; i < keyframes.ends.length; i++) {
+                int length = keyframes.ends[i] - start;
+                if (keyframes.ramps[i]) {
+                    rampPacked(keyframes.from[i], keyframes.to[i], length);
+                } else {
+                    holdPacked(keyframes.from[i], length);
+                }
+                start = keyframes.ends[i];
+            }
+            return this;
+        }
+
+        private Builder holdPacked(int state, int ticks) {
+            Validate.isTrue(ticks >= 0, "ticks cannot be negative");
+            if (ticks == 0) return this;
+
+            // extend the previous segment rather than starting a new one
+            if (size > 0 && !ramps[size - 1] && from[size - 1] == state) {
+                ends[size - 1] += ticks;
+                return this;
+            }
+
+            add(state, state, ticks, false);
+            return this;
+        }
+
+        private Builder rampPacked(int from, int to, int ticks) {
+            Validate.isTrue(ticks >= 0, "ticks cannot be negative");
+            if (ticks == 0) return this;
+            if (from == to) return holdPacked(from, ticks);
+
+            add(from, to, ticks, true);
+            return this;
+        }
+
+        private void add(int from, int to, int ticks, boolean ramp) {
+            if (size == ends.length) {
+                int capacity = size * 2;
+                this.from = Arrays.copyOf(this.from, capacity);
+                this.to = Arrays.copyOf(this.to, capacity);
+                this.ends = Arrays.copyOf(this.ends, capacity);
+                this.ramps = Arrays.copyOf(this.ramps, capacity);
+            }
+
+            this.from[size] = from;
+            this.to[size] = to;
+            this.ends[size] = (size == 0 ? 0 : ends[size - 1]) + ticks;
+            this.ramps[size] = ramp;
+            size++;
+        }
+
+        public RumbleKeyframes build() {
+            if (size == 0) return EMPTY;
+
+            return new RumbleKeyframes(
+                    Arrays.copyOf(from, size),
+                    Arrays.copyOf(to, size),
+                    Arrays.copyOf(ends, size),
+                    Arrays.copyOf(ramps, size)
+            );
+        }
+    }
+}
@@ -1,21 +1,43 @@
 package dev.isxander.controlify.rumble;
 
+import dev.isxander.controlify.Controlify;
 import dev.isxander.controlify.controller.rumble.RumbleComponent;
-import org.jetbrains.annotations.NotNull;
-
-import java.util.Comparator;
-import java.util.PriorityQueue;
-import java.util.Queue;
-
+import it.unimi.dsi.fastutil.objects.Reference2FloatMap;
+import it.unimi.dsi.fastutil.objects.Reference2FloatOpenHashMap;
+import net.minecraft.util.Mth;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mixes every playing rumble effect into the state of the controller's motors.
+ * <p>
+ * Effects advance once per tick, but the mix is output at {@code rumbleOutputRate},
+ * interpolating each effect between its previous and current keyframe.
+ * The motors are only written to when the mixed state actually changes,
+ * as each write is a call into the driver and usually a report sent to the device.
+ */
 public class RumbleManager {
+    /** Smallest change in motor strength that is written to the device. */
+    private static final float WRITE_EPSILON = 1 / 512f;
+    /** How often a non-zero state is re-written, so the device's own rumble timeout never lapses. */
+    private static final long KEEPALIVE_NANOS = 1_000_000_000L;
+
     private final RumbleComponent controller;
-    private final Queue<RumbleEffectInstance> effectQueue;
+    private final List<RumbleEffectInstance> effects = new ArrayList<>();
+
+    private final Reference2FloatMap<RumbleSource> gains = new Reference2FloatOpenHashMap<>();
+    private RumbleComponent.Config gainsConfig;
 
-    private boolean silent, wasSilent;
+    private boolean silent;
+
+    private float writtenStrong, writtenWeak;
+    private long lastWriteNanos, lastMixNanos;
+
+    private long effectsMixed, writesIssued, writesSuppressed;
 
     public RumbleManager(RumbleComponent controller) {
         this.controller = controller;
-        this.effectQueue = new PriorityQueue<>(Comparator.comparing(RumbleEffectInstance::effect));
     }
 
     @Deprecated
@@ -24,49 +46,106 @@ public class RumbleManager {
     }
 
     public void play(RumbleSource source, RumbleEffect effect) {
-        effectQueue.add(new RumbleEffectInstance(source, effect));
+        effects.add(new RumbleEffectInstance(source, effect, gain(source)));
     }
 
+    /**
+     * Advances every effect by a tick.
+     */
     public void tick() {
-        effectQueue.removeIf(e -> e.effect().isFinished());
-        effectQueue.forEach(e -> e.effect().tick());
+        for (int i = effects.size() - 1; i >= 0; i--) {
+            if (effects.get(i).effect.isFinished()) {
+                effects.remove(i);
+            }
+        }
 
-        if (effectQueue.isEmpty()) {
-            clearRumble();
-            return;
+        for (RumbleEffectInstance effect : effects) {
+            effect.tick();
         }
+    }
+
+    /**
+     * Mixes the playing effects and writes them to the motors, if the output rate allows another write.
+     * Called every frame.
+     *
+     * @param partialTick how far between the previous and current tick the frame is
+     */
+    public void update(float partialTick) {
+        long now = System.nanoTime();
+        int rate = Math.max(Controlify.instance().config().globalSettings().rumbleOutputRate, 1);
+        if (now - lastMixNanos < 1_000_000_000L / rate)
+            return;
+        lastMixNanos = now;
 
         float strong = 0f, weak = 0f;
-        for (RumbleEffectInstance effect : effectQueue) {
-            RumbleState effectState = controller.config().config().applyRumbleStrength(effect.effect().currentState(), effect.source());
-            strong = Math.max(strong, effectState.strong());
-            weak = Math.max(weak, effectState.weak());
+        if (!silent && controller.confObj().enabled) {
+            if (controller.confObj() != gainsConfig) {
+                invalidateGains();
+            }
+
+            for (RumbleEffectInstance effect : effects) {
+                if (!effect.started)
+                    continue;
+
+                strong = Math.max(strong, Mth.lerp(partialTick, effect.prevStrong, effect.strong) * effect.gain);
+                weak = Math.max(weak, Mth.lerp(partialTick, effect.prevWeak, effect.weak) * effect.gain);
+                effectsMixed++;
+            }
+
+            strong = Mth.clamp(strong, 0f, 1f);
+            weak = Mth.clamp(weak, 0f, 1f);
         }
-        RumbleState state = new RumbleState(strong, weak);
 
-        if (state.isZero()) {
-            clearRumble();
+        write(strong, weak, now);
+    }
+
+    private void write(float strong, float weak, long now) {
+        boolean changed = Math.abs(strong - writtenStrong) >= WRITE_EPSILON
+                || Math.abs(weak - writtenWeak) >= WRITE_EPSILON
+                // always reach exactly zero, or the motors would idle just below the epsilon
+                || (strong == 0f && weak == 0f && (writtenStrong != 0f || writtenWeak != 0f));
+        boolean keepAlive = (writtenStrong != 0f || writtenWeak != 0f) && now - lastWriteNanos >= KEEPALIVE_NANOS;
+
+        if (!changed && !keepAlive) {
+            writesSuppressed++;
             return;
         }
 
-        if (silent) {
-            clearRumble();
-        } else {
-            controller.queueRumble(state);
-            wasSilent = false;
+        controller.writeRumble(strong, weak);
+        writtenStrong = strong;
+        writtenWeak = weak;
+        lastWriteNanos = now;
+        writesIssued++;
+    }
+
+    /**
+     * Re-reads the per-source strengths from the config, to be called when they are changed.
+     */
+    public void invalidateGains() {
+        gains.clear();
+        gainsConfig = controller.confObj();
+
+        for (RumbleEffectInstance effect : effects) {
+            effect.gain = gain(effect.source);
         }
     }
 
-    private void clearRumble() {
-        if (wasSilent)
-            return;
+    private float gain(RumbleSource source) {
+        if (controller.confObj() != gainsConfig) {
+            gains.clear();
+            gainsConfig = controller.confObj();
+        }
+
+        if (gains.containsKey(source))
+            return gains.getFloat(source);
 
-        controller.queueRumble(RumbleState.NONE);
-        wasSilent = true;
+        float gain = gainsConfig.getStrength(source);
+        gains.put(source, gain);
+        return gain;
     }
 
     public void clearEffects() {
-        effectQueue.clear();
+        effects.clear();
     }
 
     public void setSilent(boolean silent) {
@@ -74,13 +153,45 @@ public class RumbleManager {
     }
 
     public boolean isPlaying() {
-        return !effectQueue.isEmpty();
+        return !effects.isEmpty();
+    }
+
+    public Stats stats() {
+        return new Stats(effectsMixed, writesIssued, writesSuppressed);
+    }
+
+    public record Stats(long effectsMixed, long writesIssued, long writesSuppressed) {
     }
 
-    private record RumbleEffectInstance(RumbleSource source, RumbleEffect effect) implements Comparable<RumbleEffectInstance> {
-        @Override
-        public int compareTo(@NotNull RumbleManager.RumbleEffectInstance o) {
-            return effect.compareTo(o.effect);
+    private static final class RumbleEffectInstance {
+        private final RumbleSource source;
+        private final RumbleEffect effect;
+        private float gain;
+
+        private boolean started;
+        private float prevStrong, prevWeak, strong, weak;
+
+        private RumbleEffectInstance(RumbleSource source, RumbleEffect effect, float gain) {
+            this.source = source;
+            this.effect = effect;
+            this.gain = gain;
+        }
+
+        private void tick() {
+            effect.tick();
+            RumbleState state = effect.currentState();
+
+            if (started) {
+                prevStrong = strong;
+                prevWeak = weak;
+            } else {
+                // nothing to interpolate from, so don't fade in from silence
+                prevStrong = state.strong();
+                prevWeak = state.weak();
+                started = true;
+            }
+            strong = state.strong();
+            weak = state.weak();
         }
     }
 }
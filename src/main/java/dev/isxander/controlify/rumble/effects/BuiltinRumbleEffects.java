@@ -0,0 +1,63 @@
+package dev.isxander.controlify.rumble.effects;
+
+import dev.isxander.controlify.rumble.RumbleKeyframes;
+import dev.isxander.controlify.rumble.RumbleState;
+import dev.isxander.controlify.utils.Easings;
+
+/**
+ * Keyframes of the built-in effects that are the same every time they play,
+ * built once and shared rather than rebuilt on every trigger.
+ */
+public final class BuiltinRumbleEffects {
+    public static final RumbleKeyframes ANVIL_USED = RumbleKeyframes.builder()
+            .hold(new RumbleState(1f, 0.5f), 2)
+            .hold(RumbleState.NONE, 5)
+            .build()
+            .repeat(3);
+
+    public static final RumbleKeyframes DRAGON_DEATH = RumbleKeyframes.builder()
+            .hold(new RumbleState(1f, 1f), 194)
+            .append(RumbleKeyframes.byTick(tick -> {
+                float easeOutQuad = Easings.easeOutQuad(tick / 63f);
+                return new RumbleState(1 - easeOutQuad, 1 - easeOutQuad);
+            }, 63))
+            .build();
+
+    public static final RumbleKeyframes WITHER_SPAWN = RumbleKeyframes.builder()
+            .hold(new RumbleState(1f, 1f), 9)
+            .hold(new RumbleState(0.1f, 1f), 14)
+            .append(RumbleKeyframes.byTick(tick -> {
+                float t = tick / 56f;
+                float easeOutQuad = 1 - (1 - t) * (1 - t);
+                return new RumbleState(0f, 1 - easeOutQuad);
+            }, 56))
+            .build();
+
+    public static final RumbleKeyframes LIGHTNING_STRIKE = RumbleKeyframes.builder()
+            .hold(new RumbleState(1f, 0.2f), 6) // initial boom
+            .ramp(new RumbleState(0f, 1f), new RumbleState(0f, 0.8f), 10) // explosion
+            .build();
+
+    public static final RumbleKeyframes ITEM_BREAK = RumbleKeyframes.builder()
+            .hold(new RumbleState(1f, 1f), 5)
+            .hold(new RumbleState(0f, 1f), 5)
+            .build();
+
+    public static final RumbleKeyframes DAMAGE = RumbleKeyframes.constant(new RumbleState(0.8f, 0.5f), 5);
+
+    public static final RumbleKeyframes TEST_VIBRATION = RumbleKeyframes.builder()
+            .append(RumbleKeyframes.builder()
+                    .ramp(RumbleState.NONE, new RumbleState(0f, 1f), 20)
+                    .ramp(new RumbleState(0f, 1f), RumbleState.NONE, 20)
+                    .build()
+                    .repeat(3))
+            .append(RumbleKeyframes.builder()
+                    .hold(new RumbleState(1f, 0f), 5)
+                    .hold(new RumbleState(0f, 1f), 5)
+                    .build()
+                    .repeat(10))
+            .build();
+
+    private BuiltinRumbleEffects() {
+    }
+}
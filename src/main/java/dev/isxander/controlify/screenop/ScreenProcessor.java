@@ -28,6 +28,7 @@ import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.client.resources.sounds.SimpleSoundInstance;
 import net.minecraft.network.chat.Component;
 import net.minecraft.sounds.SoundEvents;
+import org.jetbrains.annotations.Nullable;
 import org.lwjgl.glfw.GLFW;
 
 import java.util.*;
@@ -39,8 +40,22 @@ public class ScreenProcessor<T extends Screen> {
 
     private final List<ScreenControllerEventListener> eventListeners = new ArrayList<>();
 
+    // the focused components, deepest first, along with their processors.
+    // revalidated against the screen on every use, but only rebuilt when the focus actually changes
+    private GuiEventListener[] focusChain = new GuiEventListener[4];
+    private ComponentProcessor[] focusProcessors = new ComponentProcessor[4];
+    private int focusChainLength;
+    private boolean focusChainStale = true;
+    private GuiEventListener[] previousFocusChain = new GuiEventListener[4];
+
+    private @Nullable TabNavigationBar tabNavigationBar;
+    private boolean tabNavigationBarResolved;
+
+    private final WidgetIndex widgetIndex;
+
     public ScreenProcessor(T screen) {
         this.screen = screen;
+        this.widgetIndex = new WidgetIndex(screen);
         if (screen instanceof ScreenControllerEventListener eventListener) {
             eventListeners.add(eventListener);
         }
@@ -61,7 +76,9 @@ public class ScreenProcessor<T extends Screen> {
 
         handleTabNavigation(controller);
 
-        eventListeners.forEach(listener -> listener.onControllerInput(controller));
+        for (int i = 0; i < eventListeners.size(); i++) {
+            eventListeners.get(i).onControllerInput(controller);
+        }
     }
 
     public void render(ControllerEntity controller, GuiGraphics graphics, float tickDelta) {
@@ -72,8 +89,11 @@ public class ScreenProcessor<T extends Screen> {
     public void onInputModeChanged(InputMode mode) {
         switch (mode) {
             case KEYBOARD_MOUSE -> {
-                boolean shouldKeepFocus = getFocusTree().stream()
-                        .anyMatch(component -> ComponentProcessorProvider.provide(component).shouldKeepFocusOnKeyboardMode(this));
+                boolean shouldKeepFocus = false;
+                int length = updateFocusChain();
+                for (int i = 0; i < length && !shouldKeepFocus; i++) {
+                    shouldKeepFocus = focusProcessors[i].shouldKeepFocusOnKeyboardMode(this);
+                }
 
                 if (!shouldKeepFocus) {
                     ((ScreenAccessor) screen).invokeClearFocus();
@@ -91,8 +111,6 @@ public class ScreenProcessor<T extends Screen> {
         if (screen.getFocused() == null)
             setInitialFocus();
 
-        var focuses = List.copyOf(getFocusTree());
-
         var accessor = (ScreenAccessor) screen;
 
         boolean repeatEventAvailable = holdRepeatHelper.canNavigate();
@@ -152,7 +170,14 @@ public class ScreenProcessor<T extends Screen> {
         if (event != null) {
             ComponentPath path = screen.nextFocusPath(event);
             if (path != null) {
+                int previousLength = updateFocusChain();
+                if (previousFocusChain.length < previousLength) {
+                    previousFocusChain = new GuiEventListener[focusChain.length];
+                }
+                System.arraycopy(focusChain, 0, previousFocusChain, 0, previousLength);
+
                 accessor.invokeChangeFocus(path);
+                invalidateFocusChain();
 
                 holdRepeatHelper.onNavigate();
 
@@ -162,10 +187,11 @@ public class ScreenProcessor<T extends Screen> {
                     minecraft.getSoundManager().play(SimpleSoundInstance.forUI(ControlifyClientSounds.SCREEN_FOCUS_CHANGE.get(), 1.0F));
                 controller.hdHaptics().ifPresent(haptics -> haptics.playHaptic(HapticEffects.NAVIGATE));
 
-                var newFocusTree = getFocusTree();
-                while (!newFocusTree.isEmpty() && !focuses.contains(newFocusTree.peek())) {
-                    ComponentProcessorProvider.provide(newFocusTree.poll()).onFocusGained(this, controller);
+                int length = updateFocusChain();
+                for (int i = 0; i < length && !contains(previousFocusChain, previousLength, focusChain[i]); i++) {
+                    focusProcessors[i].onFocusGained(this, controller);
                 }
+                Arrays.fill(previousFocusChain, 0, previousLength, null);
             }
         }
     }
@@ -190,22 +216,18 @@ public class ScreenProcessor<T extends Screen> {
     }
 
     protected boolean handleComponentButtonOverride(ControllerEntity controller) {
-        var focusTree = getFocusTree();
-        while (!focusTree.isEmpty()) {
-            var focused = focusTree.poll();
-            var processor = ComponentProcessorProvider.provide(focused);
-            if (processor.overrideControllerButtons(this, controller)) return true;
+        int length = updateFocusChain();
+        for (int i = 0; i < length; i++) {
+            if (focusProcessors[i].overrideControllerButtons(this, controller)) return true;
         }
 
         return false;
     }
 
     protected boolean handleComponentNavOverride(ControllerEntity controller) {
-        var focusTree = getFocusTree();
-        while (!focusTree.isEmpty()) {
-            var focused = focusTree.poll();
-            var processor = ComponentProcessorProvider.provide(focused);
-            if (processor.overrideControllerNavigation(this, controller)) return true;
+        int length = updateFocusChain();
+        for (int i = 0; i < length; i++) {
+            if (focusProcessors[i].overrideControllerNavigation(this, controller)) return true;
         }
         return false;
     }
@@ -215,29 +237,58 @@ public class ScreenProcessor<T extends Screen> {
         var prevTab = ControlifyBindings.GUI_PREV_TAB.on(controller).justPressed();
 
         if (nextTab || prevTab) {
-            screen.children().stream()
-                    .filter(child -> child instanceof TabNavigationBar)
-                    .map(TabNavigationBar.class::cast)
-                    .findAny()
-                    .ifPresent(navBar -> {
-                        var accessor = (TabNavigationBarAccessor) navBar;
-                        List<Tab> tabs = accessor.getTabs();
-                        int currentIndex = tabs.indexOf(accessor.getTabManager().getCurrentTab());
-
-                        int newIndex = currentIndex + (prevTab ? -1 : 1);
-                        if (newIndex < 0) newIndex = tabs.size() - 1;
-                        if (newIndex >= tabs.size()) newIndex = 0;
-
-                        navBar.selectTab(newIndex, true);
-                        onTabChanged(controller);
-                    });
+            TabNavigationBar navBar = getTabNavigationBar();
+            if (navBar != null) {
+                var accessor = (TabNavigationBarAccessor) navBar;
+                List<Tab> tabs = accessor.getTabs();
+                int currentIndex = tabs.indexOf(accessor.getTabManager().getCurrentTab());
+
+                int newIndex = currentIndex + (prevTab ? -1 : 1);
+                if (newIndex < 0) newIndex = tabs.size() - 1;
+                if (newIndex >= tabs.size()) newIndex = 0;
+
+                navBar.selectTab(newIndex, true);
+                invalidateFocusChain();
+                onTabChanged(controller);
+            }
         }
     }
 
+    /**
+     * @return the screen's tab navigation bar, looked up once per widget rebuild
+     */
+    protected @Nullable TabNavigationBar getTabNavigationBar() {
+        if (!tabNavigationBarResolved) {
+            tabNavigationBar = null;
+            for (GuiEventListener child : screen.children()) {
+                if (child instanceof TabNavigationBar navBar) {
+                    tabNavigationBar = navBar;
+                    break;
+                }
+            }
+            tabNavigationBarResolved = true;
+        }
+        return tabNavigationBar;
+    }
+
     protected void onTabChanged(ControllerEntity controller) {
 
     }
 
+    /**
+     * Called when the screen has initialised or rebuilt its widgets.
+     * Drops anything cached about the old widgets before {@link #onWidgetRebuild()} runs,
+     * so overrides can look up the new widgets before calling super.
+     */
+    public final void notifyWidgetRebuild() {
+        Controlify.instance().virtualMouseHandler().invalidateSnapPoints();
+        widgetIndex.invalidate();
+        invalidateFocusChain();
+        tabNavigationBarResolved = false;
+
+        onWidgetRebuild();
+    }
+
     public void onWidgetRebuild() {
         setInitialFocus();
     }
@@ -260,6 +311,7 @@ public class ScreenProcessor<T extends Screen> {
             ComponentPath path = screen.nextFocusPath(accessor.invokeCreateArrowEvent(ScreenDirection.DOWN));
             if (path != null) {
                 accessor.invokeChangeFocus(path);
+                invalidateFocusChain();
                 holdRepeatHelper.clearDelay();
             }
         }
@@ -273,38 +325,92 @@ public class ScreenProcessor<T extends Screen> {
         eventListeners.add(listener);
     }
 
+    /**
+     * @return a new queue of the focused components, deepest first
+     */
     protected Queue<GuiEventListener> getFocusTree() {
-        if (screen.getFocused() == null) return new ArrayDeque<>();
+        int length = updateFocusChain();
+        var tree = new ArrayDeque<GuiEventListener>(Math.max(length, 1));
+        for (int i = 0; i < length; i++) {
+            tree.add(focusChain[i]);
+        }
+        return tree;
+    }
 
-        var tree = new ArrayDeque<GuiEventListener>();
-        var focused = screen.getFocused();
-        tree.add(focused);
-        while (focused instanceof CustomFocus customFocus) {
-            focused = customFocus.getCustomFocus();
+    /**
+     * Forces the focus chain to be rebuilt on next use, for when the focus is known to have changed.
+     */
+    protected void invalidateFocusChain() {
+        focusChainStale = true;
+    }
 
-            if (focused != null)
-                tree.addFirst(focused);
+    /**
+     * Makes sure the cached focus chain matches what the screen has focused,
+     * only rebuilding it and looking up processors when it does not.
+     * Focus can change without going through the processor, such as by clicking,
+     * so the chain is walked every time, but this does not allocate.
+     *
+     * @return the length of the focus chain
+     */
+    private int updateFocusChain() {
+        int depth = focusDepth();
+        if (!focusChainStale && depth == focusChainLength) {
+            // walk from the top, the deepest component is the last in the chain
+            GuiEventListener focused = screen.getFocused();
+            int i = depth - 1;
+            while (i >= 0 && focusChain[i] == focused) {
+                focused = focused instanceof CustomFocus customFocus ? customFocus.getCustomFocus() : null;
+                i--;
+            }
+            if (i < 0)
+                return depth;
         }
 
-        return tree;
+        if (focusChain.length < depth) {
+            focusChain = new GuiEventListener[depth];
+            focusProcessors = new ComponentProcessor[depth];
+        } else if (depth < focusChainLength) {
+            // only the tail the chain shrank by needs clearing
+            Arrays.fill(focusChain, depth, focusChainLength, null);
+            Arrays.fill(focusProcessors, depth, focusChainLength, null);
+        }
+
+        GuiEventListener focused = screen.getFocused();
+        for (int i = depth - 1; i >= 0; i--) {
+            focusChain[i] = focused;
+            focusProcessors[i] = ComponentProcessorProvider.provide(focused);
+            focused = focused instanceof CustomFocus customFocus ? customFocus.getCustomFocus() : null;
+        }
+        focusChainLength = depth;
+        focusChainStale = false;
+
+        return depth;
+    }
+
+    private int focusDepth() {
+        GuiEventListener focused = screen.getFocused();
+        int depth = 0;
+        while (focused != null) {
+            depth++;
+            focused = focused instanceof CustomFocus customFocus ? customFocus.getCustomFocus() : null;
+        }
+        return depth;
+    }
+
+    private static boolean contains(Object[] array, int length, Object element) {
+        for (int i = 0; i < length; i++) {
+            if (Objects.equals(array[i], element))
+                return true;
+        }
+        return false;
     }
 
     protected final Optional<AbstractWidget> getWidget(Component message) {
-        return screen.children().stream()
-                .filter(child -> child instanceof AbstractWidget)
-                .map(AbstractWidget.class::cast)
-                .filter(widget -> widget.getMessage().equals(message))
-                .findAny();
+        return Optional.ofNullable(widgetIndex.get(message));
     }
 
     protected final Optional<AbstractWidget> getWidget(String translationKey) {
-        String translatedName = Component.translatable(translationKey).getString();
-
-        return screen.children().stream()
-                .filter(child -> child instanceof AbstractWidget)
-                .map(AbstractWidget.class::cast)
-                .filter(widget -> widget.getMessage().getString().equals(translatedName))
-                .findAny();
+        return Optional.ofNullable(widgetIndex.get(translationKey));
     }
 
     public static void playClackSound() {
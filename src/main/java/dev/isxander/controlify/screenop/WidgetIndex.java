@@ -0,0 +1,118 @@
+package dev.isxander.controlify.screenop;
+
+import net.minecraft.client.gui.components.AbstractWidget;
+import net.minecraft.client.gui.components.events.GuiEventListener;
+import net.minecraft.client.gui.screens.Screen;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.contents.TranslatableContents;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Looks up a screen's widgets by their message.
+ * <p>
+ * Built lazily on the first lookup after the screen's widgets were rebuilt. Widgets with a translatable
+ * message are indexed by their key, so they can be found without resolving or flattening any text.
+ * Messages can change after the index is built, so every hit is checked against the widget's current
+ * message, and the index is rebuilt if it went stale.
+ */
+final class WidgetIndex {
+    private final Screen screen;
+
+    private final Map<Component, AbstractWidget> byMessage = new HashMap<>();
+    private final Map<String, AbstractWidget> byTranslationKey = new HashMap<>();
+    /** Flattened messages, only built if a translation key lookup has to fall back to it. */
+    private @Nullable Map<String, AbstractWidget> byString;
+    private boolean built;
+
+    WidgetIndex(Screen screen) {
+        this.screen = screen;
+    }
+
+    void invalidate() {
+        built = false;
+    }
+
+    @Nullable AbstractWidget get(Component message) {
+        ensureBuilt();
+
+        AbstractWidget widget = byMessage.get(message);
+        if (widget != null && !widget.getMessage().equals(message)) {
+            build();
+            widget = byMessage.get(message);
+        }
+        return widget;
+    }
+
+    @Nullable AbstractWidget get(String translationKey) {
+        ensureBuilt();
+
+        AbstractWidget widget = byTranslationKey.get(translationKey);
+        if (widget != null && !translationKey.equals(translationKey(widget.getMessage()))) {
+            build();
+            widget = byTranslationKey.get(translationKey);
+        }
+        if (widget != null)
+            return widget;
+
+        // the widget may have a non-translatable message that still reads the same, such as a pre-translated literal
+        String translatedName = Component.translatable(translationKey).getString();
+        if (byString == null) {
+            buildByString();
+        }
+        widget = byString.get(translatedName);
+        if (widget != null && !widget.getMessage().getString().equals(translatedName)) {
+            buildByString();
+            widget = byString.get(translatedName);
+        }
+        return widget;
+    }
+
+    private void buildByString() {
+        Map<String, AbstractWidget> byString = new HashMap<>();
+        forEachWidget(widget -> byString.putIfAbsent(widget.getMessage().getString(), widget));
+        this.byString = byString;
+    }
+
+    private void ensureBuilt() {
+        if (!built) {
+            build();
+        }
+    }
+
+    private void build() {
+        byMessage.clear();
+        byTranslationKey.clear();
+        byString = null;
+
+        forEachWidget(widget -> {
+            Component message = widget.getMessage();
+            byMessage.putIfAbsent(message, widget);
+
+            String key = translationKey(message);
+            if (key != null) {
+                byTranslationKey.putIfAbsent(key, widget);
+            }
+        });
+
+        built = true;
+    }
+
+    private void forEachWidget(Consumer<AbstractWidget> consumer) {
+        for (GuiEventListener child : screen.children()) {
+            if (child instanceof AbstractWidget widget) {
+                consumer.accept(widget);
+            }
+        }
+    }
+
+    private static @Nullable String translationKey(Component message) {
+        // with siblings, the message reads as more than just the translation
+        if (message.getContents() instanceof TranslatableContents translatable && message.getSiblings().isEmpty())
+            return translatable.getKey();
+        return null;
+    }
+}
@@ -45,6 +45,8 @@ public class CreativeModeInventoryScreenProcessor extends AbstractContainerScree
             }
 
             tabHelper.setSelectedTab(tabs.get(newIndex));
+
+            vmouse.invalidateSnapPoints();
         }
         if (ControlifyBindings.GUI_PREV_TAB.on(controller).justPressed()) {
             int newIndex = tabs.indexOf(tabHelper.getSelectedTab()) - 1;
@@ -59,6 +61,8 @@ public class CreativeModeInventoryScreenProcessor extends AbstractContainerScree
             }
 
             tabHelper.setSelectedTab(tabs.get(newIndex));
+
+            vmouse.invalidateSnapPoints();
         }
 
         super.handleScreenVMouse(controller, vmouse);
@@ -40,16 +40,19 @@ public class RecipeBookScreenProcessor<T extends Screen> extends ScreenProcessor
         if (ControlifyBindings.VMOUSE_PAGE_NEXT.on(controller).justPressed()) {
             button = pageAccessor.getForwardButton();
             recipeBookComponent.mouseClicked(button.getX(), button.getY(), 0);
+            vmouse.invalidateSnapPoints();
         }
         if (ControlifyBindings.VMOUSE_PAGE_PREV.on(controller).justPressed()) {
             button = pageAccessor.getBackButton();
             recipeBookComponent.mouseClicked(button.getX(), button.getY(), 0);
+            vmouse.invalidateSnapPoints();
         }
         if (ControlifyBindings.VMOUSE_PAGE_DOWN.on(controller).justPressed()) {
             int index = tabs.indexOf(selectedTab);
             if (index != tabs.size() - 1) {
                 button = tabs.get(index + 1);
                 recipeBookComponent.mouseClicked(button.getX(), button.getY(), 0);
+                vmouse.invalidateSnapPoints();
             }
         }
         if (ControlifyBindings.VMOUSE_PAGE_UP.on(controller).justPressed()) {
@@ -57,6 +60,7 @@ public class RecipeBookScreenProcessor<T extends Screen> extends ScreenProcessor
             if (index != 0) {
                 button = tabs.get(index - 1);
                 recipeBookComponent.mouseClicked(button.getX(), button.getY(), 0);
+                vmouse.invalidateSnapPoints();
             }
         }
     }
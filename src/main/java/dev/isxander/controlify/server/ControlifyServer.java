@@ -17,6 +17,7 @@ public class ControlifyServer {
         ControlifyHandshake.setupOnServer();
 
         SidedNetworkApi.S2C().registerPacket(VibrationPacket.CHANNEL, VibrationPacket.CODEC);
+        SidedNetworkApi.S2C().registerPacket(KeyframeVibrationPacket.CHANNEL, KeyframeVibrationPacket.CODEC);
         SidedNetworkApi.S2C().registerPacket(OriginVibrationPacket.CHANNEL, OriginVibrationPacket.CODEC);
         SidedNetworkApi.S2C().registerPacket(EntityVibrationPacket.CHANNEL, EntityVibrationPacket.CODEC);
         SidedNetworkApi.S2C().registerPacket(ServerPolicyPacket.CHANNEL, ServerPolicyPacket.CODEC);
@@ -5,9 +5,11 @@ import com.mojang.brigadier.arguments.FloatArgumentType;
 import com.mojang.brigadier.arguments.IntegerArgumentType;
 import com.mojang.brigadier.suggestion.SuggestionProvider;
 import dev.isxander.controlify.platform.network.SidedNetworkApi;
+import dev.isxander.controlify.rumble.RumbleKeyframes;
 import dev.isxander.controlify.rumble.RumbleSource;
 import dev.isxander.controlify.rumble.RumbleState;
 import dev.isxander.controlify.server.packets.EntityVibrationPacket;
+import dev.isxander.controlify.server.packets.KeyframeVibrationPacket;
 import dev.isxander.controlify.server.packets.OriginVibrationPacket;
 import dev.isxander.controlify.server.packets.VibrationPacket;
 import dev.isxander.controlify.utils.CUtil;
@@ -22,7 +24,6 @@ import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.phys.Vec3;
 
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Locale;
 
@@ -107,12 +108,19 @@ public class VibrateCommand {
             int durationTicks,
             RumbleSource rumbleSource
     ) {
-        RumbleState[] frames = new RumbleState[durationTicks];
-        Arrays.fill(frames, new RumbleState(lowFreqMagnitude, highFreqMagnitude));
+        RumbleKeyframes keyframes = RumbleKeyframes.constant(new RumbleState(lowFreqMagnitude, highFreqMagnitude), durationTicks);
 
-        VibrationPacket packet = new VibrationPacket(rumbleSource, frames);
+        KeyframeVibrationPacket packet = new KeyframeVibrationPacket(rumbleSource, keyframes);
+        VibrationPacket legacyPacket = null;
         for (var player : targets) {
-            SidedNetworkApi.S2C().sendPacket(player, VibrationPacket.CHANNEL, packet);
+            if (SidedNetworkApi.S2C().canSend(player, KeyframeVibrationPacket.CHANNEL)) {
+                SidedNetworkApi.S2C().sendPacket(player, KeyframeVibrationPacket.CHANNEL, packet);
+            } else {
+                // clients from before keyframes only understand one state per tick
+                if (legacyPacket == null)
+                    legacyPacket = new VibrationPacket(rumbleSource, keyframes.toStates());
+                SidedNetworkApi.S2C().sendPacket(player, VibrationPacket.CHANNEL, legacyPacket);
+            }
         }
 
         source.sendSuccess(
@@ -0,0 +1,33 @@
+package dev.isxander.controlify.server.packets;
+
+import dev.isxander.controlify.platform.network.ControlifyPacketCodec;
+import dev.isxander.controlify.rumble.BasicRumbleEffect;
+import dev.isxander.controlify.rumble.RumbleEffect;
+import dev.isxander.controlify.rumble.RumbleKeyframes;
+import dev.isxander.controlify.rumble.RumbleSource;
+import dev.isxander.controlify.utils.CUtil;
+import net.minecraft.client.Minecraft;
+import net.minecraft.resources.ResourceLocation;
+
+/**
+ * Compact form of {@link VibrationPacket}, sending run-length encoded keyframes instead of one state per tick.
+ * Only sent to clients that listen on this channel, older clients still receive {@link VibrationPacket}.
+ */
+public record KeyframeVibrationPacket(RumbleSource source, RumbleKeyframes keyframes) {
+    public static final ResourceLocation CHANNEL = CUtil.rl("vibration_keyframes");
+
+    public static final ControlifyPacketCodec<KeyframeVibrationPacket> CODEC = ControlifyPacketCodec.of(
+        (buf, packet) -> {
+            buf.writeResourceLocation(packet.source().id());
+            packet.keyframes().write(buf);
+        },
+        buf -> new KeyframeVibrationPacket(
+            RumbleSource.get(buf.readResourceLocation()),
+            RumbleKeyframes.read(buf)
+        )
+    );
+
+    public RumbleEffect createEffect() {
+        return new BasicRumbleEffect(keyframes).earlyFinish(() -> Minecraft.getInstance().level == null);
+    }
+}
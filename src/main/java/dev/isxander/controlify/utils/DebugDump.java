@@ -1,11 +1,16 @@
 package dev.isxander.controlify.utils;
 
 import dev.isxander.controlify.Controlify;
+import dev.isxander.controlify.config.ConfigWriter;
 import dev.isxander.controlify.controller.ControllerEntity;
 import dev.isxander.controlify.controllermanager.ControllerManager;
 import dev.isxander.controlify.driver.SDL3NativesManager;
+import dev.isxander.controlify.hid.ControllerHIDService;
+import dev.isxander.controlify.hid.HIDSnapshot;
 import dev.isxander.controlify.platform.Environment;
+import dev.isxander.controlify.platform.client.resource.ReloadMetrics;
 import dev.isxander.controlify.platform.main.PlatformMainUtil;
+import dev.isxander.controlify.rumble.RumbleManager;
 import net.minecraft.SharedConstants;
 import net.minecraft.resources.ResourceLocation;
 
@@ -36,6 +41,25 @@ public class DebugDump {
     private static void dumpClientDebug(IndentedStringBuilder dump) {
         dump.line("SDL3 loaded: ", SDL3NativesManager.isLoaded());
         dump.line("Platform: ", SDL3NativesManager.Target.CURRENT.formatted());
+        ConfigWriter.Metrics configMetrics = Controlify.instance().config().writerMetrics();
+        dump.line("Config saves: ", configMetrics.writes(), " written of ", configMetrics.requests(), " requested, ",
+                configMetrics.bytesWritten(), " bytes, ", configMetrics.millisSpent(), "ms, ",
+                String.format("%.3f", configMetrics.writesPerSecond()), " writes/sec");
+        ControllerHIDService hidService = Controlify.instance().controllerHIDService();
+        if (hidService.isDisabled()) {
+            dump.line("HID scan: disabled");
+        } else {
+            HIDSnapshot hidSnapshot = hidService.snapshot();
+            dump.line("HID scan: ", hidSnapshot.deviceCount(), " devices, ", hidSnapshot.controllerCount(), " controllers, ",
+                    String.format("%.2f", hidSnapshot.scanNanos() / 1e6), "ms last scan, ", hidService.scanCount(), " scans");
+        }
+        dump.line("Resource reload:").pushIndent();
+        for (ReloadMetrics.Snapshot reload : ReloadMetrics.snapshot()) {
+            dump.line(reload.listenerId(), ": ", String.format("%.2f", reload.loadMillis()), "ms load, ",
+                    String.format("%.2f", reload.applyMillis()), "ms apply, ",
+                    reload.cacheHits(), " cached of ", reload.cacheHits() + reload.cacheMisses(), " files");
+        }
+        dump.popIndent();
         dump.line();
 
         Optional<ControllerManager> controllerManagerOpt = Controlify.instance().getControllerManager();
@@ -74,6 +98,10 @@ public class DebugDump {
                 }, () -> dump.line("Input Component: UNSUPPORTED"));
 
                 dump.line("Rumble supported: ", controller.rumble().isPresent());
+                controller.rumble().ifPresent(rumble -> {
+                    RumbleManager.Stats stats = rumble.rumbleManager().stats();
+                    dump.line("Rumble: ", stats.effectsMixed(), " effects mixed, ", stats.writesIssued(), " writes issued, ", stats.writesSuppressed(), " writes suppressed");
+                });
                 dump.line("Trigger rumble supported: ", controller.triggerRumble().isPresent());
                 dump.line("Battery level: ", controller.batteryLevel().map(b -> b.getBatteryLevel().toString()).orElse("UNSUPPORTED"));
                 dump.line("Gyro supported: ", controller.gyro().isPresent());
@@ -0,0 +1,66 @@
+package dev.isxander.controlify.utils;
+
+/**
+ * A resizable ring of primitive floats, holding the most recent values pushed.
+ * Unwritten slots read as {@code 0}.
+ */
+public class FloatRingBuffer {
+    private float[] elements;
+    private int tail; // index of the newest element
+
+    public FloatRingBuffer(int initialSize) {
+        if (initialSize <= 0)
+            throw new IllegalArgumentException("Size must be positive, got " + initialSize);
+
+        this.elements = new float[initialSize];
+        this.tail = initialSize - 1;
+    }
+
+    public void push(float element) {
+        tail = tail + 1 == elements.length ? 0 : tail + 1;
+        elements[tail] = element;
+    }
+
+    /**
+     * @return the oldest element
+     */
+    public float head() {
+        return tail(elements.length - 1);
+    }
+
+    /**
+     * @return the newest element
+     */
+    public float tail() {
+        return elements[tail];
+    }
+
+    /**
+     * @param offset how many pushes ago, must be less than {@link #size()}
+     */
+    public float tail(int offset) {
+        int index = tail - offset;
+        return elements[index < 0 ? index + elements.length : index];
+    }
+
+    /**
+     * Resizes the buffer, retaining as many of the newest elements as fit.
+     */
+    public void setSize(int newSize) {
+        if (newSize <= 0)
+            throw new IllegalArgumentException("Size must be positive, got " + newSize);
+        if (elements.length == newSize)
+            return;
+
+        float[] newElements = new float[newSize];
+        for (int i = 0; i < Math.min(elements.length, newSize); i++) {
+            newElements[newSize - 1 - i] = tail(i);
+        }
+        this.elements = newElements;
+        this.tail = newSize - 1;
+    }
+
+    public int size() {
+        return this.elements.length;
+    }
+}
@@ -0,0 +1,205 @@
+package dev.isxander.controlify.virtualmouse;
+
+import dev.isxander.controlify.api.vmousesnapping.SnapPoint;
+import net.minecraft.client.gui.navigation.ScreenAxis;
+import net.minecraft.client.gui.navigation.ScreenDirection;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+
+/**
+ * A uniform grid over a screen's snap points, in GUI-scaled coordinates.
+ * <p>
+ * Points are bucketed into square cells and stored in flat arrays ordered by cell,
+ * so nearest and directional queries only visit the cells that could hold a better
+ * point than the best found so far, and never allocate.
+ * The index is immutable, so it is rebuilt whenever the screen's snap points change.
+ */
+public final class SnapPointIndex {
+    public static final SnapPointIndex EMPTY = new SnapPointIndex(new SnapPoint[0]);
+
+    private static final int CELL_SIZE = 32;
+
+    private final SnapPoint[] points;
+    private final int[] xs, ys, ranges;
+    private final int maxRange;
+
+    private final int originX, originY;
+    private final int columns, rows;
+    /** Points of cell {@code c} are at {@code cellStarts[c]} until {@code cellStarts[c + 1]}. */
+    private final int[] cellStarts;
+
+    private SnapPointIndex(SnapPoint[] unsorted) {
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+        int maxRange = 0;
+        for (SnapPoint point : unsorted) {
+            minX = Math.min(minX, point.position().x());
+            minY = Math.min(minY, point.position().y());
+            maxX = Math.max(maxX, point.position().x());
+            maxY = Math.max(maxY, point.position().y());
+            maxRange = Math.max(maxRange, point.range());
+        }
+
+        int count = unsorted.length;
+        this.maxRange = maxRange;
+        this.originX = count == 0 ? 0 : minX;
+        this.originY = count == 0 ? 0 : minY;
+        this.columns = count == 0 ? 0 : Math.floorDiv(maxX - minX, CELL_SIZE) + 1;
+        this.rows = count == 0 ? 0 : Math.floorDiv(maxY - minY, CELL_SIZE) + 1;
+
+        // counting sort by cell
+        int[] cellOf = new int[count];
+        this.cellStarts = new int[columns * rows + 1];
+        for (int i = 0; i < count; i++) {
+            SnapPoint point = unsorted[i];
+            cellOf[i] = cellIndex(columnOf(point.position().x()), rowOf(point.position().y()));
+            this.cellStarts[cellOf[i] + 1]++;
+        }
+        for (int c = 0; c < columns * rows; c++) {
+            this.cellStarts[c + 1] += this.cellStarts[c];
+        }
+
+        this.points = new SnapPoint[count];
+        this.xs = new int[count];
+        this.ys = new int[count];
+        this.ranges = new int[count];
+        int[] cursors = this.cellStarts.clone();
+        for (int i = 0; i < count; i++) {
+            int slot = cursors[cellOf[i]]++;
+            SnapPoint point = unsorted[i];
+            this.points[slot] = point;
+            this.xs[slot] = point.position().x();
+            this.ys[slot] = point.position().y();
+            this.ranges[slot] = point.range();
+        }
+    }
+
+    public static SnapPointIndex of(Collection<SnapPoint> points) {
+        if (points.isEmpty())
+            return EMPTY;
+        return new SnapPointIndex(points.toArray(new SnapPoint[0]));
+    }
+
+    /**
+     * Finds the closest point that the given position is within range of.
+     *
+     * @param exclude a point to ignore, usually the one the cursor is already snapped to
+     */
+    public @Nullable SnapPoint closest(int x, int y, @Nullable SnapPoint exclude) {
+        if (points.length == 0)
+            return null;
+
+        int minColumn = Math.max(columnOf(x - maxRange), 0);
+        int maxColumn = Math.min(columnOf(x + maxRange), columns - 1);
+        int minRow = Math.max(rowOf(y - maxRange), 0);
+        int maxRow = Math.min(rowOf(y + maxRange), rows - 1);
+
+        int best = -1;
+        long bestDistance = Long.MAX_VALUE;
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                int cell = cellIndex(column, row);
+                for (int i = cellStarts[cell]; i < cellStarts[cell + 1]; i++) {
+                    long dx = xs[i] - x;
+                    long dy = ys[i] - y;
+                    long distance = dx * dx + dy * dy;
+                    if (distance > (long) ranges[i] * ranges[i] || distance >= bestDistance)
+                        continue;
+                    if (points[i].equals(exclude))
+                        continue;
+
+                    best = i;
+                    bestDistance = distance;
+                }
+            }
+        }
+
+        return best < 0 ? null : points[best];
+    }
+
+    /**
+     * Finds the best point to move to from the given position in a direction.
+     * Points are scored by their distance along the direction, with their deviation
+     * across it punished four times as heavily. Points within their own range of the position
+     * along the direction, or that deviate more than twice their distance, are rejected.
+     *
+     * @param exclude a point to ignore, usually the one the cursor is already snapped to
+     */
+    public @Nullable SnapPoint inDirection(double x, double y, ScreenDirection direction, @Nullable SnapPoint exclude) {
+        if (points.length == 0)
+            return null;
+
+        boolean horizontal = direction.getAxis() == ScreenAxis.HORIZONTAL;
+        int sign = direction.isPositive() ? 1 : -1;
+
+        // a = along the direction, b = across it
+        double a = horizontal ? x : y;
+        double b = horizontal ? y : x;
+        int aOrigin = horizontal ? originX : originY;
+        int bOrigin = horizontal ? originY : originX;
+        int aCells = horizontal ? columns : rows;
+        int bCells = horizontal ? rows : columns;
+
+        int startLine = Math.floorDiv((int) Math.floor(a) - aOrigin, CELL_SIZE);
+        int best = -1;
+        double bestScore = Double.POSITIVE_INFINITY;
+        for (int line = Math.max(Math.min(startLine, aCells - 1), 0); line >= 0 && line < aCells; line += sign) {
+            // nearest and furthest distance any point in this line of cells can be along the direction
+            double lineStart = aOrigin + (double) line * CELL_SIZE;
+            double lineEnd = lineStart + CELL_SIZE;
+            double nearest = Math.max(sign > 0 ? lineStart - a : a - lineEnd, 0);
+            double furthest = sign > 0 ? lineEnd - a : a - lineStart;
+            if (furthest <= 0)
+                continue; // entirely behind the position
+            if (nearest >= bestScore)
+                break; // every point from here on scores worse
+
+            double maxDeviation = Math.min(furthest * 2, (bestScore - nearest) / 4);
+            int minCross = Math.max(Math.floorDiv((int) Math.floor(b - maxDeviation) - bOrigin, CELL_SIZE), 0);
+            int maxCross = Math.min(Math.floorDiv((int) Math.ceil(b + maxDeviation) - bOrigin, CELL_SIZE), bCells - 1);
+
+            for (int cross = minCross; cross <= maxCross; cross++) {
+                int cell = horizontal ? cellIndex(line, cross) : cellIndex(cross, line);
+                for (int i = cellStarts[cell]; i < cellStarts[cell + 1]; i++) {
+                    double distance = ((horizontal ? xs[i] : ys[i]) - a) * sign;
+                    if (distance <= 0)
+                        continue;
+                    double deviation = Math.abs((horizontal ? ys[i] : xs[i]) - b);
+
+                    if (distance < ranges[i] || deviation >= distance * 2)
+                        continue;
+
+                    double score = distance + deviation * 4;
+                    if (score >= bestScore || points[i].equals(exclude))
+                        continue;
+
+                    best = i;
+                    bestScore = score;
+                }
+            }
+        }
+
+        return best < 0 ? null : points[best];
+    }
+
+    public int size() {
+        return points.length;
+    }
+
+    public SnapPoint get(int i) {
+        return points[i];
+    }
+
+    private int columnOf(int x) {
+        return Math.floorDiv(x - originX, CELL_SIZE);
+    }
+
+    private int rowOf(int y) {
+        return Math.floorDiv(y - originY, CELL_SIZE);
+    }
+
+    private int cellIndex(int column, int row) {
+        return row * columns + column;
+    }
+}
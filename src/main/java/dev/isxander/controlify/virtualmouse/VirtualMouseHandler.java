@@ -1,16 +1,18 @@
 package dev.isxander.controlify.virtualmouse;
 
 import com.mojang.blaze3d.systems.RenderSystem;
-import com.mojang.datafixers.util.Pair;
 import dev.isxander.controlify.Controlify;
 import dev.isxander.controlify.InputMode;
 import dev.isxander.controlify.api.vmousesnapping.ISnapBehaviour;
 import dev.isxander.controlify.api.vmousesnapping.SnapPoint;
 import dev.isxander.controlify.bindings.ControlifyBindings;
+import dev.isxander.controlify.bindings.input.Input;
 import dev.isxander.controlify.api.bind.InputBinding;
 import dev.isxander.controlify.controller.*;
+import dev.isxander.controlify.controller.input.ControllerStateView;
 import dev.isxander.controlify.controller.input.GamepadInputs;
 import dev.isxander.controlify.controller.input.InputComponent;
+import dev.isxander.controlify.controller.input.InputSampleReader;
 import dev.isxander.controlify.controller.touchpad.TouchpadComponent;
 import dev.isxander.controlify.controller.touchpad.TouchpadState;
 import dev.isxander.controlify.debug.DebugProperties;
@@ -25,25 +27,34 @@ import dev.isxander.controlify.utils.HoldRepeatHelper;
 import dev.isxander.controlify.utils.ToastUtils;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphics;
-import net.minecraft.client.gui.navigation.ScreenAxis;
 import net.minecraft.client.gui.navigation.ScreenDirection;
+import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.Mth;
+import org.jetbrains.annotations.Nullable;
 import org.joml.*;
 import org.lwjgl.glfw.GLFW;
 
 import java.lang.Math;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 public class VirtualMouseHandler {
     private static final ResourceLocation CURSOR_TEXTURE = CUtil.rl("textures/gui/virtual_mouse.png");
 
     private double targetX, targetY;
     private double currentX, currentY;
+    private double velocityX, velocityY; // in window pixels per tick, integrated every frame
+    private int movedPixelX, movedPixelY; // the last position a move event was sent for
+
+    // when the sticks are being sampled at a high rate, their motion is integrated per sample instead
+    private @Nullable ControllerEntity sampledController;
+    private @Nullable InputSampleReader sampleReader;
+    private final InputSampleReader.SampleConsumer sampledMotionConsumer = this::integrateSampledMotion;
+    private boolean sampledMotion;
+    private @Nullable Input sampledUp, sampledDown, sampledLeft, sampledRight;
+    private double sampledMotionScale;
 
     private double scrollX, scrollY;
 
@@ -52,7 +63,10 @@ public class VirtualMouseHandler {
     private final Minecraft minecraft;
     private boolean virtualMouseEnabled;
 
-    private Set<SnapPoint> snapPoints;
+    // rebuilt lazily when a snap is requested, rather than every tick
+    private SnapPointIndex snapIndex = SnapPointIndex.EMPTY;
+    private @Nullable Screen snapIndexScreen;
+    private boolean snapIndexStale = true;
     private SnapPoint lastSnappedPoint;
 
     private final HoldRepeatHelper holdRepeatHelper = new HoldRepeatHelper(10, 6);
@@ -60,11 +74,6 @@ public class VirtualMouseHandler {
     public VirtualMouseHandler() {
         this.minecraft = Minecraft.getInstance();
 
-        if (minecraft.screen != null && minecraft.screen instanceof ISnapBehaviour snapBehaviour)
-            snapPoints = snapBehaviour.getSnapPoints();
-        else
-            snapPoints = Set.of();
-
         ControlifyEvents.INPUT_MODE_CHANGED.register(event -> this.onInputModeChanged(event.mode()));
     }
 
@@ -124,12 +133,6 @@ public class VirtualMouseHandler {
         prevXFinger = xImpulseFinger;
         prevYFinger = yImpulseFinger;
 
-        if (minecraft.screen != null && minecraft.screen instanceof ISnapBehaviour snapBehaviour) {
-            snapPoints = snapBehaviour.getSnapPoints();
-        } else {
-            snapPoints = Set.of();
-        }
-
         // if just released stick, snap to nearest snap point
         if (impulse.x == 0 && impulse.y == 0) {
             if ((prevImpulse.x != 0 || prevImpulse.y != 0))
@@ -138,17 +141,38 @@ public class VirtualMouseHandler {
 
         var sensitivity = input.config().config().virtualMouseSensitivity;
         var windowSizeModifier = Math.max(minecraft.getWindow().getWidth(), minecraft.getWindow().getHeight()) / 800f;
+        double motionScale = 20f * sensitivity * windowSizeModifier;
 
-        // cubic function to make small movements smaller
-        // abs to keep sign
-        targetX += impulse.x * 20f * sensitivity * windowSizeModifier;
-        targetY += impulse.y * 20f * sensitivity * windowSizeModifier;
-
-        targetX = Mth.clamp(targetX, 0, minecraft.getWindow().getWidth());
-        targetY = Mth.clamp(targetY, 0, minecraft.getWindow().getHeight());
+        if (sampledController != controller) {
+            sampledController = controller;
+            sampleReader = new InputSampleReader(input);
+        }
+        // the sample is read through the bound inputs directly, so only while the bindings pass them through unchanged
+        sampledMotion = sampleReader.isActive()
+                && moveUp.isActive() && moveDown.isActive() && moveLeft.isActive() && moveRight.isActive();
+
+        // the motion is applied every frame by updateMouse, scaled by the frame time
+        if (sampledMotion) {
+            sampledMotionScale = motionScale;
+            sampledUp = moveUp.boundInput();
+            sampledDown = moveDown.boundInput();
+            sampledLeft = moveLeft.boundInput();
+            sampledRight = moveRight.boundInput();
+
+            velocityX = fingerImpulse.x * motionScale;
+            velocityY = fingerImpulse.y * motionScale;
+        } else {
+            velocityX = impulse.x * motionScale;
+            velocityY = impulse.y * motionScale;
+        }
 
-        scrollY += ControlifyBindings.VMOUSE_SCROLL_UP.on(controller).analogueNow()
+        float scroll = ControlifyBindings.VMOUSE_SCROLL_UP.on(controller).analogueNow()
                 - ControlifyBindings.VMOUSE_SCROLL_DOWN.on(controller).analogueNow();
+        if (scroll != 0) {
+            scrollY += scroll;
+            // scrolling can move snap points, such as the creative inventory's scrollbar
+            invalidateSnapPoints();
+        }
 
         if (holdRepeatHelper.shouldAction(ControlifyBindings.VMOUSE_SNAP_UP.on(controller))) {
             snapInDirection(ScreenDirection.UP);
@@ -187,25 +211,36 @@ public class VirtualMouseHandler {
         boolean prevTouchpadPressed = input.stateThen().isButtonDown(GamepadInputs.TOUCHPAD_BUTTON);
 
         if (ControlifyBindings.VMOUSE_LCLICK.on(controller).justPressed() || (touchpadPressed && !prevTouchpadPressed && touchpadState.size() == 1)) {
+            invalidateSnapPoints();
             mouseHandler.invokeOnPress(minecraft.getWindow().getWindow(), GLFW.GLFW_MOUSE_BUTTON_LEFT, GLFW.GLFW_PRESS, 0);
         } else if (ControlifyBindings.VMOUSE_LCLICK.on(controller).justReleased() || (!touchpadPressed && prevTouchpadPressed)) {
+            invalidateSnapPoints();
             mouseHandler.invokeOnPress(minecraft.getWindow().getWindow(), GLFW.GLFW_MOUSE_BUTTON_LEFT, GLFW.GLFW_RELEASE, 0);
         }
 
         if (ControlifyBindings.VMOUSE_RCLICK.on(controller).justPressed() || (touchpadPressed && !prevTouchpadPressed && touchpadState.size() == 2)) {
+            invalidateSnapPoints();
             mouseHandler.invokeOnPress(minecraft.getWindow().getWindow(), GLFW.GLFW_MOUSE_BUTTON_RIGHT, GLFW.GLFW_PRESS, 0);
         } else if (ControlifyBindings.VMOUSE_RCLICK.on(controller).justReleased() || (!touchpadPressed && prevTouchpadPressed)) {
+            invalidateSnapPoints();
             mouseHandler.invokeOnPress(minecraft.getWindow().getWindow(), GLFW.GLFW_MOUSE_BUTTON_RIGHT, GLFW.GLFW_RELEASE, 0);
         }
 
         if (ControlifyBindings.VMOUSE_SHIFT_CLICK.on(controller).justPressed()) {
+            invalidateSnapPoints();
             mouseHandler.invokeOnPress(minecraft.getWindow().getWindow(), GLFW.GLFW_MOUSE_BUTTON_LEFT, GLFW.GLFW_PRESS, 0);
         } else if (ControlifyBindings.VMOUSE_SHIFT_CLICK.on(controller).justReleased()) {
+            invalidateSnapPoints();
             mouseHandler.invokeOnPress(minecraft.getWindow().getWindow(), GLFW.GLFW_MOUSE_BUTTON_LEFT, GLFW.GLFW_RELEASE, 0);
         }
     }
 
     public void updateMouse() {
+        // always drain, so samples taken while the virtual mouse is disabled are never applied later
+        if (sampleReader != null) {
+            sampleReader.drain(sampledMotionConsumer);
+        }
+
         if (!virtualMouseEnabled) return;
         /*? if >1.20.6 {*/
         float delta = minecraft.getTimer().getRealtimeDeltaTicks();
@@ -213,14 +248,18 @@ public class VirtualMouseHandler {
         /*float delta = minecraft.getDeltaFrameTime();
         *//*?}*/
 
-        if (Math.round(targetX * 100) / 100.0 != Math.round(currentX * 100) / 100.0 || Math.round(targetY * 100) / 100.0 != Math.round(currentY * 100) / 100.0) {
-            currentX = Mth.lerp(delta, currentX, targetX);
-            currentY = Mth.lerp(delta, currentY, targetY);
-
+        currentX = Mth.clamp(currentX + velocityX * delta, 0, minecraft.getWindow().getWidth());
+        currentY = Mth.clamp(currentY + velocityY * delta, 0, minecraft.getWindow().getHeight());
+        targetX = currentX;
+        targetY = currentY;
+
+        // screens only care about whole pixels, don't re-run hover logic for sub-pixel motion
+        int pixelX = (int) currentX;
+        int pixelY = (int) currentY;
+        if (pixelX != movedPixelX || pixelY != movedPixelY) {
+            movedPixelX = pixelX;
+            movedPixelY = pixelY;
             ((MouseHandlerAccessor) minecraft.mouseHandler).invokeOnMove(minecraft.getWindow().getWindow(), currentX, currentY);
-        } else {
-            currentX = targetX;
-            currentY = targetY;
         }
 
         if (Math.abs(scrollX) >= 0.01 || Math.abs(scrollY) >= 0.01) {
@@ -235,83 +274,87 @@ public class VirtualMouseHandler {
         }
     }
 
+    private void integrateSampledMotion(ControllerStateView state, float deltaSeconds) {
+        if (!virtualMouseEnabled || !sampledMotion || sampledUp == null)
+            return;
+
+        float x = sampledRight.state(state) - sampledLeft.state(state);
+        float y = sampledDown.state(state) - sampledUp.state(state);
+
+        // the same cubic easing of the vector's length as tick input: (v / |v|) * |v|^3
+        double scale = (x * x + y * y) * sampledMotionScale * deltaSeconds * 20f;
+        currentX += x * scale;
+        currentY += y * scale;
+    }
+
     public void snapToClosestPoint() {
         var window = minecraft.getWindow();
-        var scaleFactor = new Vector2d((double)window.getGuiScaledWidth() / (double)window.getScreenWidth(), (double)window.getGuiScaledHeight() / (double)window.getScreenHeight());
-        var target = new Vector2d(targetX, targetY).mul(scaleFactor);
+        double scaleX = (double) window.getGuiScaledWidth() / (double) window.getScreenWidth();
+        double scaleY = (double) window.getGuiScaledHeight() / (double) window.getScreenHeight();
+        int x = (int) Math.floor(targetX * scaleX);
+        int y = (int) Math.floor(targetY * scaleY);
 
         if (lastSnappedPoint != null) {
-            if (lastSnappedPoint.position().distanceSquared(new Vector2i(target, RoundingMode.FLOOR)) > (long) lastSnappedPoint.range() * lastSnappedPoint.range()) {
+            if (lastSnappedPoint.position().distanceSquared(x, y) > (long) lastSnappedPoint.range() * lastSnappedPoint.range()) {
                 lastSnappedPoint = null;
             }
         }
 
-        var closestSnapPoint = snapPoints.stream()
-                .filter(snapPoint -> !snapPoint.equals(lastSnappedPoint)) // don't snap to the point currently over snapped point
-                .map(snapPoint -> new Pair<>(snapPoint, snapPoint.position().distanceSquared(new Vector2i(target, RoundingMode.FLOOR)))) // map with distance to current pos
-                .filter(point -> point.getSecond() <= (long) point.getFirst().range() * point.getFirst().range()) // filter out of range options
-                .min(Comparator.comparingLong(Pair::getSecond)) // find the closest point
-                .orElse(new Pair<>(null, Long.MAX_VALUE)).getFirst(); // retrieve point
-
+        // don't snap to the point currently over snapped point
+        SnapPoint closestSnapPoint = snapIndex().closest(x, y, lastSnappedPoint);
         if (closestSnapPoint != null) {
-            snapToPoint(closestSnapPoint, scaleFactor);
+            snapToPoint(closestSnapPoint, scaleX, scaleY);
         }
     }
 
     public void snapInDirection(ScreenDirection direction) {
         var window = minecraft.getWindow();
-        var scaleFactor = new Vector2d((double)window.getGuiScaledWidth() / (double)window.getScreenWidth(), (double)window.getGuiScaledHeight() / (double)window.getScreenHeight());
-        var target = new Vector2d(targetX, targetY).mul(scaleFactor);
-
-        var closestSnapPoint = snapPoints.stream()
-                .filter(snapPoint -> !snapPoint.equals(lastSnappedPoint)) // don't snap to the point currently over snapped point
-                .map(snapPoint -> new Pair<>(snapPoint, new Vector2d(snapPoint.position().x() - target.x(), snapPoint.position().y() - target.y()))) // map with distance to current pos
-                // filter points that are not in the correct direction
-                .filter(pair -> {
-                    Vector2d dist = pair.getSecond();
-
-                    double axis = direction.getAxis() == ScreenAxis.HORIZONTAL ? dist.x : dist.y;
-                    double positive = direction.isPositive() ? 1 : -1;
-
-                    return axis * positive > 0;
-                })
-                .filter(pair -> {
-                    SnapPoint snapPoint = pair.getFirst();
-                    Vector2d dist = pair.getSecond();
-
-                    // distance in the correct orthogonal direction
-                    double distance = Math.abs(direction.getAxis() == ScreenAxis.HORIZONTAL ? dist.x : dist.y);
-                    // distance in the incorrect orthogonal direction
-                    double deviation = Math.abs(direction.getAxis() == ScreenAxis.HORIZONTAL ? dist.y : dist.x);
-
-                    // punish deviation significantly
-                    pair.getSecond().set(distance, deviation * 4);
-
-                    // reject if the deviation is double the correct direction away
-                    return distance >= snapPoint.range() && (deviation < distance * 2);
-                })
-                // pick the closest point
-                .min(Comparator.comparingDouble(pair -> {
-                    Vector2d distDev = pair.getSecond();
-                    // x = dist, y = deviation
-                    return distDev.x + distDev.y;
-                }))
-                .map(Pair::getFirst);
-
-        closestSnapPoint.ifPresent(snapPoint -> {
-            snapToPoint(snapPoint, scaleFactor);
-        });
+        double scaleX = (double) window.getGuiScaledWidth() / (double) window.getScreenWidth();
+        double scaleY = (double) window.getGuiScaledHeight() / (double) window.getScreenHeight();
+
+        SnapPoint snapPoint = snapIndex().inDirection(targetX * scaleX, targetY * scaleY, direction, lastSnappedPoint);
+        if (snapPoint != null) {
+            snapToPoint(snapPoint, scaleX, scaleY);
+        }
     }
 
     public void snapToPoint(SnapPoint snapPoint, Vector2dc scaleFactor) {
+        snapToPoint(snapPoint, scaleFactor.x(), scaleFactor.y());
+    }
+
+    private void snapToPoint(SnapPoint snapPoint, double scaleX, double scaleY) {
         lastSnappedPoint = snapPoint;
 
-        targetX = currentX = snapPoint.position().x() / scaleFactor.x();
-        targetY = currentY = snapPoint.position().y() / scaleFactor.y();
+        targetX = currentX = snapPoint.position().x() / scaleX;
+        targetY = currentY = snapPoint.position().y() / scaleY;
+        movedPixelX = (int) currentX;
+        movedPixelY = (int) currentY;
         ((MouseHandlerAccessor) minecraft.mouseHandler).invokeOnMove(minecraft.getWindow().getWindow(), currentX, currentY);
     }
 
+    /**
+     * Marks the current screen's snap points as changed, so they are collected again for the next snap.
+     * Called when the screen is changed or rebuilt, and when the virtual mouse interacts with it.
+     */
+    public void invalidateSnapPoints() {
+        snapIndexStale = true;
+    }
+
+    private SnapPointIndex snapIndex() {
+        Screen screen = minecraft.screen;
+        if (snapIndexStale || screen != snapIndexScreen) {
+            snapIndex = screen instanceof ISnapBehaviour snapBehaviour
+                    ? SnapPointIndex.of(snapBehaviour.getSnapPoints())
+                    : SnapPointIndex.EMPTY;
+            snapIndexScreen = screen;
+            snapIndexStale = false;
+        }
+        return snapIndex;
+    }
+
     public void onScreenChanged() {
+        invalidateSnapPoints();
+
         if (minecraft.screen != null) {
             if (requiresVirtualMouse()) {
                 enableVirtualMouse();
@@ -341,7 +384,9 @@ public class VirtualMouseHandler {
         if (!virtualMouseEnabled) return;
 
         if (DebugProperties.DEBUG_SNAPPING) {
-            for (var snapPoint : snapPoints) {
+            SnapPointIndex snapIndex = snapIndex();
+            for (int i = 0; i < snapIndex.size(); i++) {
+                SnapPoint snapPoint = snapIndex.get(i);
                 graphics.fill(snapPoint.position().x() - snapPoint.range(), snapPoint.position().y() - snapPoint.range(), snapPoint.position().x() + snapPoint.range(), snapPoint.position().y() + snapPoint.range(), 0x33FFFFFF);
                 graphics.fill( snapPoint.position().x() - 1, snapPoint.position().y() - 1, snapPoint.position().x() + 1, snapPoint.position().y() + 1, snapPoint.equals(lastSnappedPoint) ? 0xFFFFFF00 : 0xFFFF0000);
             }
@@ -374,6 +419,9 @@ public class VirtualMouseHandler {
             targetX = currentX = minecraft.mouseHandler.xpos();
             targetY = currentY = minecraft.mouseHandler.ypos();
         }
+        movedPixelX = (int) currentX;
+        movedPixelY = (int) currentY;
+        velocityX = velocityY = 0;
         setMousePosition();
 
         ControlifyEvents.VIRTUAL_MOUSE_TOGGLED.invoke(new ControlifyEvents.VirtualMouseToggled(true));
@@ -0,0 +1,183 @@
+package dev.isxander.controlify.controller.input;
+
+import dev.isxander.controlify.controller.impl.ControllerStateBuffers;
+import dev.isxander.controlify.controller.impl.IndexedControllerState;
+import net.minecraft.resources.ResourceLocation;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the per-tick input pipeline reaches a steady state without allocating,
+ * for the write pattern of each driver: the driver fills a pooled back buffer,
+ * then the long-lived deadzone views rotate and retarget onto it, as {@link InputComponent#pushState} does.
+ * <p>
+ * The native reads themselves need a real device, so the values written are synthesised per tick.
+ */
+class StatePipelineAllocationTest {
+    private static final int WARMUP_TICKS = 50_000;
+    private static final int MEASURED_TICKS = 100_000;
+
+    private static final ResourceLocation[] GAMEPAD_AXES = {
+            GamepadInputs.LEFT_STICK_AXIS_UP, GamepadInputs.LEFT_STICK_AXIS_DOWN,
+            GamepadInputs.LEFT_STICK_AXIS_LEFT, GamepadInputs.LEFT_STICK_AXIS_RIGHT,
+            GamepadInputs.RIGHT_STICK_AXIS_UP, GamepadInputs.RIGHT_STICK_AXIS_DOWN,
+            GamepadInputs.RIGHT_STICK_AXIS_LEFT, GamepadInputs.RIGHT_STICK_AXIS_RIGHT,
+            GamepadInputs.LEFT_TRIGGER_AXIS, GamepadInputs.RIGHT_TRIGGER_AXIS,
+    };
+
+    // buttons both GLFW and SDL report
+    private static final ResourceLocation[] GLFW_GAMEPAD_BUTTONS = {
+            GamepadInputs.SOUTH_BUTTON, GamepadInputs.EAST_BUTTON, GamepadInputs.WEST_BUTTON, GamepadInputs.NORTH_BUTTON,
+            GamepadInputs.LEFT_SHOULDER_BUTTON, GamepadInputs.RIGHT_SHOULDER_BUTTON,
+            GamepadInputs.LEFT_STICK_BUTTON, GamepadInputs.RIGHT_STICK_BUTTON,
+            GamepadInputs.BACK_BUTTON, GamepadInputs.START_BUTTON, GamepadInputs.GUIDE_BUTTON,
+            GamepadInputs.DPAD_UP_BUTTON, GamepadInputs.DPAD_DOWN_BUTTON, GamepadInputs.DPAD_LEFT_BUTTON, GamepadInputs.DPAD_RIGHT_BUTTON,
+    };
+
+    // the extra buttons only SDL reports
+    private static final ResourceLocation[] SDL_EXTRA_BUTTONS = {
+            GamepadInputs.MISC_1_BUTTON, GamepadInputs.MISC_2_BUTTON, GamepadInputs.MISC_3_BUTTON,
+            GamepadInputs.MISC_4_BUTTON, GamepadInputs.MISC_5_BUTTON, GamepadInputs.MISC_6_BUTTON,
+            GamepadInputs.LEFT_PADDLE_1_BUTTON, GamepadInputs.LEFT_PADDLE_2_BUTTON,
+            GamepadInputs.RIGHT_PADDLE_1_BUTTON, GamepadInputs.RIGHT_PADDLE_2_BUTTON,
+            GamepadInputs.TOUCHPAD_BUTTON,
+    };
+
+    private static final HatState[] HAT_STATES = HatState.values();
+
+    @Test
+    void sdlGamepadPipelineDoesNotAllocate() {
+        assertSteadyStateDoesNotAllocate("SDL gamepad", new Pipeline(GamepadInputs.INDEX, GamepadInputs.DEADZONE_GROUPS) {
+            @Override
+            void write(IndexedControllerState state, int tick) {
+                writeGamepadAxes(state, tick);
+                writeButtons(state, GLFW_GAMEPAD_BUTTONS, tick);
+                writeButtons(state, SDL_EXTRA_BUTTONS, tick);
+            }
+        });
+    }
+
+    @Test
+    void glfwGamepadPipelineDoesNotAllocate() {
+        assertSteadyStateDoesNotAllocate("GLFW gamepad", new Pipeline(GamepadInputs.INDEX, GamepadInputs.DEADZONE_GROUPS) {
+            @Override
+            void write(IndexedControllerState state, int tick) {
+                writeGamepadAxes(state, tick);
+                writeButtons(state, GLFW_GAMEPAD_BUTTONS, tick);
+            }
+        });
+    }
+
+    @Test
+    void glfwJoystickPipelineDoesNotAllocate() {
+        int buttons = 16, axes = 6, hats = 1;
+        assertSteadyStateDoesNotAllocate("GLFW joystick", new Pipeline(JoystickInputs.createIndex(buttons, axes, hats), Set.of()) {
+            @Override
+            void write(IndexedControllerState state, int tick) {
+                for (int i = 0; i < axes; i++) {
+                    float axis = wave(tick + i) * 2 - 1;
+                    state.setAxis(i * 2, Math.max(axis, 0));
+                    state.setAxis(i * 2 + 1, -Math.min(axis, 0));
+                }
+                for (int i = 0; i < buttons; i++) {
+                    state.setButton(i, ((tick + i) & 1) == 0);
+                }
+                for (int i = 0; i < hats; i++) {
+                    state.setHat(i, HAT_STATES[(tick + i) % HAT_STATES.length]);
+                }
+            }
+        });
+    }
+
+    private static void assertSteadyStateDoesNotAllocate(String driver, Pipeline pipeline) {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "Thread allocation counting is not supported by this JVM");
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported(), "Thread allocation counting is not supported by this JVM");
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        long threadId = Thread.currentThread().getId();
+
+        pipeline.run(0, WARMUP_TICKS);
+
+        // the measurement itself may allocate, so subtract an empty window
+        long before = threads.getThreadAllocatedBytes(threadId);
+        long overhead = threads.getThreadAllocatedBytes(threadId) - before;
+
+        before = threads.getThreadAllocatedBytes(threadId);
+        pipeline.run(WARMUP_TICKS, MEASURED_TICKS);
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before - overhead;
+
+        // no object is smaller than a byte, so anything allocated per tick would exceed this
+        assertTrue(allocated < MEASURED_TICKS,
+                driver + " allocated " + allocated + " bytes over " + MEASURED_TICKS + " ticks");
+    }
+
+    private abstract static class Pipeline {
+        private final ControllerStateBuffers buffers;
+        private final DeadzoneTable table;
+        private DeadzoneControllerStateView stateNow, stateThen;
+        private final int axisCount;
+        float checksum; // read back into a field so the reads cannot be optimised away
+
+        Pipeline(ControllerInputIndex index, Set<DeadzoneGroup> deadzoneGroups) {
+            this.buffers = new ControllerStateBuffers(index);
+
+            InputComponent.Config config = new InputComponent.Config();
+            for (DeadzoneGroup group : deadzoneGroups) {
+                config.deadzones.put(group.name(), 0.1f);
+            }
+            // cover both the axial and radial paths
+            deadzoneGroups.stream().findFirst().ifPresent(group -> config.radialDeadzones.add(group.name()));
+            this.table = DeadzoneTable.compile(index, deadzoneGroups, config);
+
+            IndexedControllerState initial = buffers.nextBackBuffer();
+            this.stateNow = new DeadzoneControllerStateView(initial);
+            this.stateThen = new DeadzoneControllerStateView(initial);
+            this.stateNow.setView(initial, table);
+            this.stateThen.setView(initial, table);
+            this.axisCount = index.axisCount();
+        }
+
+        abstract void write(IndexedControllerState state, int tick);
+
+        void run(int firstTick, int ticks) {
+            for (int tick = firstTick; tick < firstTick + ticks; tick++) {
+                IndexedControllerState state = buffers.nextBackBuffer();
+                write(state, tick);
+
+                DeadzoneControllerStateView previous = stateNow;
+                stateNow = stateThen;
+                stateThen = previous;
+                stateNow.setView(state, table);
+
+                for (int i = 0; i < axisCount; i++) {
+                    checksum += stateNow.getAxisState(i) - stateThen.getAxisState(i);
+                }
+                checksum += stateNow.isButtonDown(0) ? 1 : -1;
+            }
+        }
+    }
+
+    private static void writeGamepadAxes(IndexedControllerState state, int tick) {
+        for (int i = 0; i < GAMEPAD_AXES.length; i++) {
+            state.setAxis(GAMEPAD_AXES[i], wave(tick + i));
+        }
+    }
+
+    private static void writeButtons(IndexedControllerState state, ResourceLocation[] buttons, int tick) {
+        for (int i = 0; i < buttons.length; i++) {
+            state.setButton(buttons[i], ((tick + i) & 1) == 0);
+        }
+    }
+
+    private static float wave(int tick) {
+        return (tick & 255) / 255f;
+    }
+}
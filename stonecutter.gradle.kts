@@ -6,6 +6,7 @@ plugins {
     id("org.ajoberstar.grgit") version "5.0.+"
     id("dev.kikugie.stonecutter")
     id("de.undercouch.download") version "5.6.0"
+    id("me.champeau.jmh") version "0.7.2" apply false
 }
 stonecutter active "1.21-fabric" /* [SC] DO NOT EDIT */
 